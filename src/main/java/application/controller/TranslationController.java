@@ -4,6 +4,7 @@ import java.io.File;
 
 import javax.swing.JOptionPane;
 
+import application.usecase.ImportBookProgress;
 import application.usecase.ImportBookUseCase;
 import application.usecase.model.ImportBookRequest;
 import application.usecase.model.ImportBookResponse;
@@ -43,6 +44,28 @@ public final class TranslationController {
      * @return a LoadResult if successful; otherwise null
      */
     public LoadResult loadBook() {
+        return load(importBookUseCase::importBook);
+    }
+
+    /**
+     * Lets the user pick a file and returns once its first pages are
+     * ready. The rest of the book keeps loading in the background and
+     * the returned book grows as it does.
+     *
+     * @param progress receives the growing page count and completion
+     * @return a LoadResult if successful; otherwise null
+     */
+    public LoadResult loadBook(final ImportBookProgress progress) {
+        return load(req -> importBookUseCase.startImport(req, progress));
+    }
+
+    /**
+     * Lets the user pick a file and imports it with the given call.
+     *
+     * @param importCall the use case call importing the request
+     * @return a LoadResult if successful; otherwise null
+     */
+    private LoadResult load(final ImportCall importCall) {
         final File selected = FileSelector.selectBookFile();
         if (selected == null) {
             return null;
@@ -54,15 +77,9 @@ public final class TranslationController {
             final ImportBookRequest req =
                     new ImportBookRequest(selected, maxPerPage);
 
-            final ImportBookResponse res =
-                    importBookUseCase.importBook(req);
+            final ImportBookResponse res = importCall.run(req);
 
-            final Book book = res.getBook();
-            return new LoadResult(
-                    book.getAllPages(),
-                    res.getRawText(),
-                    res.getFile()
-            );
+            return new LoadResult(res.getBook(), res.getFile());
         } catch (Exception ex) {
             System.err.println("Book loading failed: " + ex.getMessage());
             JOptionPane.showMessageDialog(null, "Failed to load book.");
@@ -70,17 +87,28 @@ public final class TranslationController {
         }
     }
 
+    /**
+     * One way of running the import use case.
+     */
+    @FunctionalInterface
+    private interface ImportCall {
+
+        /**
+         * @param request the import request
+         * @return the import response
+         * @throws Exception if the import fails
+         */
+        ImportBookResponse run(ImportBookRequest request) throws Exception;
+    }
+
     /**
      * Container for book loading result.
-     * Holds parsed pages, raw text, and the original file reference.
+     * Holds the parsed book and the original file reference.
      */
     public static final class LoadResult {
 
-        /** Parsed list of book pages. */
-        private final List<Page> pages;
-
-        /** Raw text content of the book. */
-        private final String text;
+        /** The parsed book. */
+        private final Book book;
 
         /** The original book file. */
         private final File file;
@@ -88,26 +116,23 @@ public final class TranslationController {
         /**
          * Creates a load result object containing loaded data.
          *
-         * @param loadedPages the list of pages from the book
-         * @param rawText     the raw text content of the book
-         * @param original    the original file
+         * @param loadedBook the parsed book
+         * @param original   the original file
          */
-        public LoadResult(final List<Page> loadedPages,
-                          final String rawText,
+        public LoadResult(final Book loadedBook,
                           final File original) {
-            this.pages = loadedPages;
-            this.text = rawText;
+            this.book = loadedBook;
             this.file = original;
         }
 
-        /** @return the page list */
-        public List<Page> getPages() {
-            return pages;
+        /** @return the parsed book */
+        public Book getBook() {
+            return book;
         }
 
-        /** @return the raw text */
-        public String getText() {
-            return text;
+        /** @return a view of the book's pages */
+        public List<Page> getPages() {
+            return book.getAllPages();
         }
 
         /** @return the original file */
@@ -1,17 +1,26 @@
 package application.interactor;
 
+import application.usecase.ImportBookProgress;
 import application.usecase.ImportBookUseCase;
 import application.usecase.model.ImportBookRequest;
 import application.usecase.model.ImportBookResponse;
 import domain.gateway.BookImporter;
 import domain.gateway.ImporterSelector;
+import domain.gateway.PageStore;
 import domain.model.Book;
-import domain.model.Page;
 import domain.model.PageFactory;
+import domain.model.PageSource;
+import domain.model.TokenTable;
 
+import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Imports a user file via a selected importer and builds a Book.
@@ -19,6 +28,9 @@ import java.util.List;
  */
 public final class ImportBookInteractor implements ImportBookUseCase {
 
+    /** Pages an incremental import waits for before returning. */
+    public static final int FIRST_PAGES = 3;
+
     /**
      * Boundary used to select the appropriate
      * {@link domain.gateway.BookImporter} for a given file.
@@ -27,27 +39,158 @@ public final class ImportBookInteractor implements ImportBookUseCase {
      */
     private final ImporterSelector selector;
 
+    /** Where the pages of imported books are kept. */
+    private final PageStore pageStore;
+
+    /** Runs the background part of incremental imports. */
+    private final Executor background;
 
     /**
+     * Creates an interactor that keeps imported pages in memory.
+     *
      * @param importerSelector selector returning a proper BookImporter
      */
     public ImportBookInteractor(final ImporterSelector importerSelector) {
+        this(importerSelector, PageStore.inMemory());
+    }
+
+    /**
+     * Creates an interactor that finishes incremental imports on a new
+     * daemon thread per book.
+     *
+     * @param importerSelector selector returning a proper BookImporter
+     * @param store            where the pages of imported books are kept
+     */
+    public ImportBookInteractor(final ImporterSelector importerSelector,
+                                final PageStore store) {
+        this(importerSelector, store, job -> {
+            final Thread thread = new Thread(job, "book-import");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * @param importerSelector selector returning a proper BookImporter
+     * @param store            where the pages of imported books are kept
+     * @param importExecutor   runs the background part of incremental
+     *                         imports
+     */
+    public ImportBookInteractor(final ImporterSelector importerSelector,
+                                final PageStore store,
+                                final Executor importExecutor) {
         this.selector = importerSelector;
+        this.pageStore = store;
+        this.background = importExecutor;
     }
 
+    /**
+     * Streams the file through its importer and builds pages on the fly,
+     * so the book's text is never held as a single string. Each page is
+     * handed to the page store as soon as it is built.
+     *
+     * @param request the file and page size
+     * @return the imported book
+     * @throws IOException if the file cannot be read or parsed
+     */
     @Override
     public ImportBookResponse importBook(final ImportBookRequest request)
             throws IOException {
         final BookImporter importer = selector.select(request.getFile());
-        final String raw = importer.importBook(request.getFile());
 
-        final List<String> words = Arrays.asList(raw.split("\\s+"));
-        final List<Page> pages =
-                PageFactory.paginate(words, request.getMaxWordsPerPage());
+        final TokenTable table = new TokenTable();
+        final PageStore.PageWriter writer = pageStore.create(table);
+        try (Reader reader = importer.openBook(request.getFile())) {
+            PageFactory.paginate(reader, request.getMaxWordsPerPage(),
+                    table, writer);
+        } catch (UncheckedIOException e) {
+            discard(writer);
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            discard(writer);
+            throw e;
+        }
 
-        final Book book = new Book(request.getFile().getName(), pages);
+        final Book book = Book.fromSource(request.getFile().getName(),
+                writer.finish());
+        return new ImportBookResponse(book, request.getFile());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Pages are published to the book's source as soon as they are built.
+     * The calling thread waits only until {@link #FIRST_PAGES} pages exist
+     * or the file ends, whichever comes first. A failure after that point
+     * leaves the pages read so far and is reported to {@code progress}.
+     * </p>
+     */
+    @Override
+    public ImportBookResponse startImport(final ImportBookRequest request,
+                                          final ImportBookProgress progress)
+            throws IOException {
+        final File file = request.getFile();
+        final BookImporter importer = selector.select(file);
+
+        final TokenTable table = new TokenTable();
+        final PageStore.PageWriter writer = pageStore.create(table);
+        final PageSource pages = writer.pages();
+        final CountDownLatch firstPages = new CountDownLatch(1);
+        final AtomicReference<IOException> failure = new AtomicReference<>();
 
-        // NOTE: now include raw text and file in the response
-        return new ImportBookResponse(book, raw, request.getFile());
+        background.execute(() -> {
+            try (Reader reader = importer.openBook(file)) {
+                PageFactory.paginate(reader, request.getMaxWordsPerPage(),
+                        table, page -> {
+                            writer.accept(page);
+                            final int count = pages.size();
+                            if (count >= FIRST_PAGES) {
+                                firstPages.countDown();
+                            }
+                            progress.pagesAdded(count);
+                        });
+                writer.finish();
+            } catch (UncheckedIOException e) {
+                failure.set(e.getCause());
+            } catch (IOException e) {
+                failure.set(e);
+            } catch (RuntimeException e) {
+                failure.set(new IOException("Import failed", e));
+            } finally {
+                firstPages.countDown();
+            }
+            progress.finished(pages.size(), failure.get());
+        });
+
+        try {
+            firstPages.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrupted");
+        }
+        if (pages.size() == 0 && failure.get() != null) {
+            discard(writer);
+            throw failure.get();
+        }
+
+        final Book book = Book.fromSource(file.getName(), pages);
+        return new ImportBookResponse(book, file);
+    }
+
+    /**
+     * Releases the storage of a book whose import failed, such as its
+     * spool file.
+     *
+     * @param writer the writer the book's pages went to
+     */
+    private static void discard(final PageStore.PageWriter writer) {
+        if (writer.pages() instanceof Closeable) {
+            try {
+                ((Closeable) writer.pages()).close();
+            } catch (IOException e) {
+                System.err.println("Failed to release pages: "
+                        + e.getMessage());
+            }
+        }
     }
 }
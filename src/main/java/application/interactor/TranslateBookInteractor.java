@@ -0,0 +1,126 @@
+package application.interactor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import application.usecase.TranslateBookProgress;
+import application.usecase.TranslateBookUseCase;
+import application.usecase.TranslatePageUseCase;
+import application.usecase.model.TranslateBookRequest;
+import domain.model.Page;
+import domain.model.PageSource;
+
+/**
+ * Interactor that translates whole books in the background by driving
+ * a {@link TranslatePageUseCase} across every page.
+ * <p>
+ * Jobs run on a single worker thread with a bounded queue. One worker
+ * keeps pages strictly in order, which the incremental speed relies on:
+ * the words picked for a page depend on everything translated before it.
+ * </p>
+ */
+public final class TranslateBookInteractor implements TranslateBookUseCase {
+
+    /** Maximum number of books waiting behind the one in progress. */
+    private static final int MAX_QUEUED_BOOKS = 16;
+
+    /** Translates one page. */
+    private final TranslatePageUseCase pageTranslator;
+
+    /** Executor running book jobs one after another. */
+    private final ExecutorService executor;
+
+    /**
+     * Creates an interactor with its own bounded, single-worker executor.
+     *
+     * @param translatePage the use case used to translate each page
+     */
+    public TranslateBookInteractor(final TranslatePageUseCase translatePage) {
+        this(translatePage, new ThreadPoolExecutor(1, 1, 0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_BOOKS), r -> {
+                    final Thread thread = new Thread(r, "book-translation");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    /**
+     * Creates an interactor running its jobs on the given executor.
+     * The executor must run jobs one at a time to keep pages in order.
+     *
+     * @param translatePage the use case used to translate each page
+     * @param jobExecutor   the executor running book jobs
+     */
+    public TranslateBookInteractor(final TranslatePageUseCase translatePage,
+                                   final ExecutorService jobExecutor) {
+        this.pageTranslator = translatePage;
+        this.executor = jobExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if too many
+     *         books are already queued
+     */
+    @Override
+    public Future<Integer> translateBook(final TranslateBookRequest request,
+                                         final TranslateBookProgress progress) {
+        return executor.submit(() -> translatePages(request, progress));
+    }
+
+    /**
+     * Translates the requested pages in order, stopping between pages
+     * if the job is cancelled. Pages are fetched one at a time, so a
+     * book backed by storage is never held in memory all at once.
+     *
+     * @param request  the book and the page to start from
+     * @param progress receives per-page and final callbacks
+     * @return the number of pages translated
+     */
+    private int translatePages(final TranslateBookRequest request,
+                               final TranslateBookProgress progress) {
+        final PageSource source = request.getBook().getPageSource();
+        final List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < source.size(); i++) {
+            if (source.pageNumberAt(i) >= request.getStartPage()) {
+                pending.add(i);
+            }
+        }
+
+        int completed = 0;
+        int translated = 0;
+        boolean cancelled = false;
+        try {
+            for (int index : pending) {
+                if (Thread.currentThread().isInterrupted()) {
+                    cancelled = true;
+                    break;
+                }
+                final Page page = source.get(index);
+                if (!page.isTranslated()) {
+                    pageTranslator.execute(page);
+                    if (Thread.currentThread().isInterrupted()) {
+                        // Cancelled mid-page: the page was not finished
+                        cancelled = true;
+                        break;
+                    }
+                    page.translated();
+                    translated++;
+                }
+                completed++;
+                progress.pageTranslated(page.getPageNumber(), completed,
+                        pending.size());
+            }
+        } finally {
+            progress.finished(translated, cancelled);
+        }
+        return translated;
+    }
+}
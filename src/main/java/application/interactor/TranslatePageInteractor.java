@@ -1,6 +1,7 @@
 package application.interactor;
 
 import configuration.ConfigDataRetriever;
+import configuration.ConfigSnapshot;
 import application.usecase.TranslatePageUseCase;
 import domain.gateway.Translator;
 import domain.gateway.WordTransliterator;
@@ -8,14 +9,15 @@ import domain.model.Page;
 import infrastructure.persistence.StoredWords;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 /**
  * Interactor for executing the translation and transliteration of a page.
- * Applies the diglot method incrementally, using cached translations
- * and formatting logic.
+ * Applies the diglot method incrementally, using cached translations,
+ * and records each word's translation on the page.
  */
 public final class TranslatePageInteractor implements TranslatePageUseCase {
 
@@ -55,17 +57,16 @@ public final class TranslatePageInteractor implements TranslatePageUseCase {
     /**
      * Translates the content of a page and updates it with
      * transliterated replacements based on speed and page number.
+     * If the thread is interrupted while words are fetched, the page is
+     * left as it was and the interrupt flag stays set.
      *
      * @param page the page to process and rewrite
      */
     @Override
     public void execute(final Page page) {
-        final Map<String, String> wordDatabase =
-                storedWords.getTranslations();
-        final List<String> pageContent = page.getWords();
-
-        final boolean incremental = ConfigDataRetriever.getBool("increment");
-        final int configuredSpeed = ConfigDataRetriever.getSpeed();
+        final ConfigSnapshot config = ConfigDataRetriever.snapshot();
+        final boolean incremental = config.isIncrement();
+        final int configuredSpeed = config.getSpeed();
         final int pageNumber = page.getPageNumber();
 
         final int internalSpeed = incremental
@@ -75,76 +76,96 @@ public final class TranslatePageInteractor implements TranslatePageUseCase {
 
         try {
             if (pageNumber != 0) {
-                addRandomWordsToDatabase(
-                        pageContent, wordDatabase, internalSpeed);
+                addRandomWordsToDatabase(page, internalSpeed);
             }
+        } catch (InterruptedException e) {
+            // Cancelled: keep the flag for the caller and leave the page
+            // untranslated so it is picked up again later
+            Thread.currentThread().interrupt();
+            return;
         } catch (Exception e) {
             System.out.println("Translation error: " + e.getMessage());
         }
 
-        final List<String> newPageContent =
-                buildTranslatedContent(pageContent, wordDatabase);
-        page.rewriteTranslatedContent(newPageContent);
+        applyTranslations(page);
     }
 
     /**
-     * Adds random words from the page to the translation database
-     * if they are not already translated.
+     * Picks random words from the page that are not already translated
+     * and adds them to the translation database in a single batch.
+     * If the page has fewer eligible words than requested, all of them
+     * are taken.
      *
-     * @param pageContent  the words on the page
-     * @param wordDatabase the translation database
-     * @param count        number of words to attempt adding
+     * @param page   the page to pick words from
+     * @param count  number of words to attempt adding
      * @throws Exception if translation API fails
      */
     private void addRandomWordsToDatabase(
-            final List<String> pageContent,
-            final Map<String, String> wordDatabase,
+            final Page page,
             final int count
     ) throws Exception {
-        for (int z = 0; z < count; z++) {
-            final int randomIndex = random.nextInt(pageContent.size());
-            final String word = pageContent.get(randomIndex).toLowerCase();
-
-            if (!wordDatabase.containsKey(word) && word.length()
-                    >= MIN_TRANSLATABLE_LENGTH) {
-                translator.addWord(pageContent.get(randomIndex));
-            } else {
-                z--; // Retry until 'count' words are added
+        final List<String> candidates = findCandidates(page);
+        final int picks = Math.min(count, candidates.size());
+
+        // Partial Fisher-Yates: the first 'picks' slots become the sample
+        for (int i = 0; i < picks; i++) {
+            final int j = i + random.nextInt(candidates.size() - i);
+            Collections.swap(candidates, i, j);
+        }
+        if (picks > 0) {
+            translator.addWords(candidates.subList(0, picks));
+        }
+    }
+
+    /**
+     * Collects the words on a page that could be translated: long enough,
+     * not yet translated, and counted once per token. Each candidate is
+     * the word without its surrounding punctuation, spelled as it first
+     * appears on the page.
+     *
+     * @param page the page to scan
+     * @return a new mutable list of candidate words
+     */
+    private List<String> findCandidates(final Page page) {
+        final BitSet seen = new BitSet(page.getTokenTable().size());
+        final List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < page.getWordCount(); i++) {
+            final int id = page.getTokenId(i);
+            if (id < 0 || seen.get(id)) {
+                continue;
+            }
+            seen.set(id);
+            final String key = page.getKey(i);
+            if (key.length() >= MIN_TRANSLATABLE_LENGTH
+                    && !storedWords.hasTranslation(key)) {
+                candidates.add(page.getCore(i));
             }
         }
+        return candidates;
     }
 
     /**
-     * Builds the final page content by replacing translated words
-     * with formatted versions.
+     * Looks up the translation of every word on the page and its
+     * transliteration, and stores them on the page. How translated words
+     * are shown is left to the view.
      *
-     * @param pageContent  the original page content
-     * @param wordDatabase the translation database
-     * @return a list of translated and formatted words
+     * @param page the page to translate
      */
-    private List<String> buildTranslatedContent(
-            final List<String> pageContent,
-            final Map<String, String> wordDatabase
-    ) {
-        final List<String> newPageContent = new ArrayList<>();
-        final boolean showOriginal =
-                ConfigDataRetriever.getBool("original_script");
-
-        for (String word : pageContent) {
-            final String lower = word.toLowerCase();
-            if (wordDatabase.containsKey(lower)) {
-                final String translated = wordDatabase.get(lower);
-                final String transliterated =
+    private void applyTranslations(final Page page) {
+        final int count = page.getWordCount();
+        final String[] translations = new String[count];
+        final String[] transliterations = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            final String key = page.getKey(i);
+            final String translated =
+                    key == null ? null : storedWords.getTranslation(key);
+            if (translated != null) {
+                translations[i] = translated;
+                transliterations[i] =
                         wordTransliterator.transliterate(translated);
-                final String display = showOriginal
-                        ? transliterated + "(" + translated + ")"
-                        : transliterated;
-                newPageContent.add("<b><u>" + display + "</u></b>");
-            } else {
-                newPageContent.add(word);
             }
         }
-
-        return newPageContent;
+        page.applyTranslations(translations, transliterations);
     }
 }
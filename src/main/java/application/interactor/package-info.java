@@ -8,6 +8,8 @@
  *     — invokes speech output via a {@code Speaker} gateway</li>
  *     <li>{@code TranslatePageInteractor}
  *     — handles translating and formatting page content</li>
+ *     <li>{@code TranslateBookInteractor}
+ *     — runs whole-book translation jobs on a bounded worker</li>
  * </ul>
  *
  * <p>Each interactor implements a corresponding interface from
@@ -0,0 +1,30 @@
+package application.usecase;
+
+import java.io.IOException;
+
+/**
+ * Output boundary receiving progress from an incremental
+ * {@link ImportBookUseCase} import.
+ * <p>
+ * Callbacks run on the import thread; UI implementations must hand them
+ * over to their own thread.
+ * </p>
+ */
+public interface ImportBookProgress {
+
+    /**
+     * Called each time a page has been added to the book.
+     *
+     * @param pageCount how many pages the book has so far
+     */
+    void pagesAdded(int pageCount);
+
+    /**
+     * Called once when the import ends.
+     *
+     * @param pageCount the final number of pages
+     * @param failure   the error that stopped the import early, or
+     *                  {@code null} if the whole file was read
+     */
+    void finished(int pageCount, IOException failure);
+}
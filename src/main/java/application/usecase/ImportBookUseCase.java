@@ -20,10 +20,26 @@ public interface ImportBookUseCase {
      *
      * @param request input data containing the source file and pagination
      *                limit
-     * @return a response holding the created {@code Book}, extracted raw
-     *         text, and the source file
+     * @return a response holding the created {@code Book} and the source
+     *         file
      * @throws IOException if the file cannot be read or parsed
      */
     ImportBookResponse importBook(ImportBookRequest request)
             throws IOException;
+
+    /**
+     * Starts importing the file and returns as soon as its first pages
+     * are ready. The rest of the file keeps paginating in the background
+     * and the returned book grows as pages are added.
+     *
+     * @param request  input data containing the source file and pagination
+     *                 limit
+     * @param progress receives the growing page count and completion
+     * @return a response holding the growing {@code Book} and the source
+     *         file
+     * @throws IOException if the file fails before any page is ready
+     */
+    ImportBookResponse startImport(ImportBookRequest request,
+                                   ImportBookProgress progress)
+            throws IOException;
 }
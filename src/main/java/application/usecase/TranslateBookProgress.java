@@ -0,0 +1,30 @@
+package application.usecase;
+
+/**
+ * Output boundary receiving progress from a {@link TranslateBookUseCase}.
+ * <p>
+ * Callbacks run on the worker thread; UI implementations must hand them
+ * over to their own thread.
+ * </p>
+ */
+public interface TranslateBookProgress {
+
+    /**
+     * Called after each page has been translated.
+     * The page number can be stored and passed back in a later request
+     * to resume the book from the next page.
+     *
+     * @param pageNumber the page that was just translated
+     * @param completed  how many pages this job has processed so far
+     * @param total      how many pages this job will process in total
+     */
+    void pageTranslated(int pageNumber, int completed, int total);
+
+    /**
+     * Called once when the job ends, whether it completed or was cancelled.
+     *
+     * @param translatedPages the number of pages this job translated
+     * @param cancelled       {@code true} if the job stopped early
+     */
+    void finished(int translatedPages, boolean cancelled);
+}
@@ -0,0 +1,29 @@
+package application.usecase;
+
+import java.util.concurrent.Future;
+
+import application.usecase.model.TranslateBookRequest;
+
+/**
+ * Use case boundary for translating every page of a book in the
+ * background, without any UI.
+ * <p>
+ * Pages are translated in page order because the words chosen for a page
+ * depend on the words translated on the pages before it.
+ * </p>
+ */
+public interface TranslateBookUseCase {
+
+    /**
+     * Queues a book for translation and returns immediately.
+     * Cancelling the returned future stops the job after the page in
+     * progress; running the same request again resumes where it stopped,
+     * since translated pages are skipped.
+     *
+     * @param request  the book and the page to start from
+     * @param progress receives a callback after each page and at the end
+     * @return a future holding the number of pages translated by this job
+     */
+    Future<Integer> translateBook(TranslateBookRequest request,
+                                  TranslateBookProgress progress);
+}
@@ -0,0 +1,59 @@
+package application.usecase.model;
+
+import domain.model.Book;
+
+/**
+ * Request data for the {@code TranslateBook} use case.
+ * <p>
+ * Immutable carrier of the book to translate and the page number to
+ * start from, which lets an interrupted job resume later.
+ * </p>
+ */
+public final class TranslateBookRequest {
+
+    /** The book whose pages should be translated. */
+    private final Book book;
+
+    /** The first page number to translate. */
+    private final int startPage;
+
+    /**
+     * Creates a request that translates a whole book.
+     *
+     * @param bookToTranslate the book whose pages should be translated
+     */
+    public TranslateBookRequest(final Book bookToTranslate) {
+        this(bookToTranslate, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Creates a request that resumes a book from the given page.
+     *
+     * @param bookToTranslate the book whose pages should be translated
+     * @param fromPage        the first page number to translate; earlier
+     *                        pages are left as they are
+     */
+    public TranslateBookRequest(final Book bookToTranslate,
+                                final int fromPage) {
+        this.book = bookToTranslate;
+        this.startPage = fromPage;
+    }
+
+    /**
+     * Returns the book to translate.
+     *
+     * @return the {@link Book}
+     */
+    public Book getBook() {
+        return book;
+    }
+
+    /**
+     * Returns the first page number to translate.
+     *
+     * @return the starting page number
+     */
+    public int getStartPage() {
+        return startPage;
+    }
+}
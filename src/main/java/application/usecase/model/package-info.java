@@ -15,6 +15,9 @@
  *       the ImportBook use case, including the created
  *       {@link domain.model.Book}, the extracted raw text, and the source
  *       {@link java.io.File}.</li>
+ *   <li>{@link application.usecase.model.TranslateBookRequest} — input for
+ *       the TranslateBook use case: the book and the page to start
+ *       from.</li>
  * </ul>
  */
 package application.usecase.model;
@@ -8,6 +8,12 @@
  *     — abstracts logic for speaking individual or multiple words</li>
  *     <li>{@code TranslatePageUseCase}
  *     — abstracts the logic to translate a page's content</li>
+ *     <li>{@code TranslateBookUseCase}
+ *     — translates every page of a book in the background, reporting
+ *     through {@code TranslateBookProgress}</li>
+ *     <li>{@code ImportBookUseCase}
+ *     — imports a book file, optionally returning after its first
+ *     pages and reporting the rest through {@code ImportBookProgress}</li>
  * </ul>
  *
  * <p>These interfaces are implemented by application interactors and used by
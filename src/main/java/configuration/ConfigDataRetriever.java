@@ -4,16 +4,39 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.json.JSONObject;
 
 /**
  * Utility class for loading and accessing Diglott configuration
  * values from a JSON file stored in the user's home directory.
+ * <p>
+ * Values are held in an immutable {@link ConfigSnapshot} that is replaced
+ * whole on every change, so reads never lock and code on the translation
+ * threads can take one {@link #snapshot()} for a consistent view.
+ * {@link #saveConfig()} only requests a save: a single daemon thread
+ * writes the latest snapshot shortly afterwards, so a burst of changes
+ * costs one write and the caller never waits on the disk.
+ * </p>
+ * <p>
+ * Windows that depend on a setting register a {@link Listener} and are
+ * told which key changed, so they can update in place instead of being
+ * reopened.
+ * </p>
  */
 public final class ConfigDataRetriever {
 
@@ -29,19 +52,43 @@ public final class ConfigDataRetriever {
     private static final int JSON_INDENT = 4;
 
     /** Default font size for displaying text. */
-    private static final int DEFAULT_FONT_SIZE = 24;
+    static final int DEFAULT_FONT_SIZE = 24;
 
     /** Default translation speed level. */
-    private static final int DEFAULT_SPEED = 2;
+    static final int DEFAULT_SPEED = 2;
 
     /** Default maximum number of words per page. */
-    private static final int DEFAULT_PAGE_LENGTH = 100;
+    static final int DEFAULT_PAGE_LENGTH = 100;
 
     /** Default number of pages translated initially. */
-    private static final int DEFAULT_PAGES_TRANSLATED = 3;
+    static final int DEFAULT_PAGES_TRANSLATED = 3;
 
-    /** In-memory configuration object loaded from JSON. */
-    private static final JSONObject CONFIG;
+    /** Delay before a requested save is written, in milliseconds. */
+    private static final long SAVE_DELAY_MS = 200;
+
+    /** Time allowed for {@link #flush()} to finish, in seconds. */
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    /** Serializes changes, so none is lost between two snapshots. */
+    private static final Object LOCK = new Object();
+
+    /** Listeners told about changed values. */
+    private static final List<Listener> LISTENERS =
+            new CopyOnWriteArrayList<>();
+
+    /** Whether a save was requested and not yet written. */
+    private static final AtomicBoolean SAVE_PENDING = new AtomicBoolean();
+
+    /** Single daemon thread that writes the config file. */
+    private static final ScheduledExecutorService WRITER =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "config-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /** The current configuration values. */
+    private static volatile ConfigSnapshot current;
 
     static {
         try {
@@ -64,14 +111,17 @@ public final class ConfigDataRetriever {
             final String content = Files.readString(
                     CONFIG_PATH, StandardCharsets.UTF_8
             );
-            CONFIG = new JSONObject(content);
+            final JSONObject config = new JSONObject(content);
 
-            initializeDefaults();
-            saveConfig();
+            initializeDefaults(config);
+            current = new ConfigSnapshot(config);
+            write(current);
 
         } catch (IOException ex) {
             throw new IllegalStateException("Failed to load config.", ex);
         }
+        Runtime.getRuntime().addShutdownHook(
+                new Thread(ConfigDataRetriever::flush, "config-flush"));
     }
 
     /**
@@ -84,8 +134,10 @@ public final class ConfigDataRetriever {
     /**
      * Ensures all required configuration keys exist,
      * initializing missing values with defaults.
+     *
+     * @param config the loaded values
      */
-    private static void initializeDefaults() {
+    private static void initializeDefaults(final JSONObject config) {
         final String[] requiredKeys = {
                 "input_language", "target_language", "dark_mode",
                 "font_size", "speed", "increment", "original_script",
@@ -101,12 +153,22 @@ public final class ConfigDataRetriever {
         };
 
         for (int i = 0; i < requiredKeys.length; i++) {
-            if (!CONFIG.has(requiredKeys[i])) {
-                CONFIG.put(requiredKeys[i], defaultValues[i]);
+            if (!config.has(requiredKeys[i])) {
+                config.put(requiredKeys[i], defaultValues[i]);
             }
         }
     }
 
+    /**
+     * Returns the current values. The snapshot never changes, so values
+     * read from it stay consistent with each other.
+     *
+     * @return the current snapshot
+     */
+    public static ConfigSnapshot snapshot() {
+        return current;
+    }
+
     /**
      * Retrieves a string value by config key.
      *
@@ -114,7 +176,7 @@ public final class ConfigDataRetriever {
      * @return the associated string value
      */
     public static String get(final String key) throws NoSuchElementException {
-        return CONFIG.getString(key);
+        return current.getString(key);
     }
 
     /**
@@ -124,7 +186,7 @@ public final class ConfigDataRetriever {
      * @return the associated integer value
      */
     public static int getInt(final String key) {
-        return CONFIG.getInt(key);
+        return current.getInt(key);
     }
 
     /**
@@ -135,7 +197,7 @@ public final class ConfigDataRetriever {
      */
     public static boolean getBool(final String key) {
         try {
-            return CONFIG.getBoolean(key);
+            return current.getBoolean(key);
         } catch (NoSuchElementException ex) {
             return false;
         }
@@ -144,12 +206,56 @@ public final class ConfigDataRetriever {
     /**
      * Updates a configuration key to the specified value.
      * Changes are in-memory only unless {@link #saveConfig()} is called.
+     * If the value differs from the current one, a new snapshot is swapped
+     * in and every listener is told on the calling thread.
      *
      * @param key   the key to update
      * @param value the new value
      */
     public static void set(final String key, final Object value) {
-        CONFIG.put(key, value);
+        synchronized (LOCK) {
+            final Object previous = current.opt(key);
+            if (String.valueOf(previous).equals(String.valueOf(value))) {
+                return;
+            }
+            current = current.with(key, value);
+        }
+        notifyListeners(key);
+    }
+
+    /**
+     * Registers a listener for changed values.
+     *
+     * @param listener the listener
+     */
+    public static void addListener(final Listener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Unregisters a listener added with {@link #addListener(Listener)}.
+     *
+     * @param listener the listener
+     */
+    public static void removeListener(final Listener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Tells every listener that a key changed. A failing listener is
+     * logged and does not keep the others from being told.
+     *
+     * @param key the changed key
+     */
+    private static void notifyListeners(final String key) {
+        for (Listener listener : LISTENERS) {
+            try {
+                listener.configChanged(key);
+            } catch (RuntimeException ex) {
+                System.err.println("Config listener failed for " + key
+                        + ": " + ex.getMessage());
+            }
+        }
     }
 
     /**
@@ -158,19 +264,93 @@ public final class ConfigDataRetriever {
      * @return the speed
      */
     public static int getSpeed() {
-        return CONFIG.getInt("speed");
+        return current.getInt("speed");
     }
 
     /**
-     * Saves the current configuration to disk.
-     * Overwrites the existing config file.
+     * Requests that the current configuration be saved to disk. The file
+     * is written in the background shortly afterwards, with whatever the
+     * values are by then; requests made before that write share it.
      */
     public static void saveConfig() {
-        try (BufferedWriter writer = Files.newBufferedWriter(
-                CONFIG_PATH, StandardCharsets.UTF_8)) {
-            writer.write(CONFIG.toString(JSON_INDENT));
+        if (SAVE_PENDING.compareAndSet(false, true)) {
+            WRITER.schedule(ConfigDataRetriever::writePending,
+                    SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes a requested save now and waits for it, for example before
+     * the application exits. Does nothing if no save is pending.
+     */
+    public static void flush() {
+        try {
+            WRITER.submit(ConfigDataRetriever::writePending)
+                    .get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            System.err.println("Failed to save config file: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the current snapshot if a save is pending. Runs on the
+     * writer thread.
+     */
+    private static void writePending() {
+        if (!SAVE_PENDING.getAndSet(false)) {
+            return;
+        }
+        try {
+            write(current);
         } catch (IOException e) {
-            throw new IllegalStateException("Failed to save config file.", e);
+            System.err.println("Failed to save config file: "
+                    + e.getMessage());
         }
     }
+
+    /**
+     * Writes a snapshot to a temporary file and renames it over the
+     * config file, so a crash never leaves a half-written file.
+     *
+     * @param snapshot the values to save
+     * @throws IOException if the file cannot be written
+     */
+    private static void write(final ConfigSnapshot snapshot)
+            throws IOException {
+        final Path temp = Files.createTempFile(CONFIG_PATH.getParent(),
+                ".config-", ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    temp, StandardCharsets.UTF_8)) {
+                writer.write(snapshot.toJson(JSON_INDENT));
+            }
+            try {
+                Files.move(temp, CONFIG_PATH,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, CONFIG_PATH,
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Receives configuration changes.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        /**
+         * Called after a key was set to a new value.
+         *
+         * @param key the changed key
+         */
+        void configChanged(String key);
+    }
 }
@@ -0,0 +1,196 @@
+package configuration;
+
+import org.json.JSONObject;
+
+/**
+ * An immutable view of the configuration at one point in time.
+ * <p>
+ * The settings read while translating and rendering pages are parsed once
+ * into typed fields, so reading them is a plain field access. A change
+ * never modifies a snapshot: {@link ConfigDataRetriever} builds a new one
+ * and swaps it in, so a caller holding a snapshot sees one consistent set
+ * of values. Unparsable values fall back to their defaults.
+ * </p>
+ */
+public final class ConfigSnapshot {
+
+    /** Every value; never modified once the snapshot is built. */
+    private final JSONObject values;
+
+    /** Whether the dark theme is used. */
+    private final boolean darkMode;
+
+    /** Whether the number of translated words grows with the page. */
+    private final boolean increment;
+
+    /** Whether translations are also shown in their own script. */
+    private final boolean originalScript;
+
+    /** Translation speed level. */
+    private final int speed;
+
+    /** Font size of page text. */
+    private final int fontSize;
+
+    /** Words per page, before squaring. */
+    private final int pageLength;
+
+    /** Pages translated ahead of the reader. */
+    private final int pagesTranslated;
+
+    /** Font of page text. */
+    private final String font;
+
+    /** Language code of the book. */
+    private final String inputLanguage;
+
+    /** Language code translations are in. */
+    private final String targetLanguage;
+
+    /**
+     * Builds a snapshot of the given values. The values are copied, so
+     * later changes to {@code source} do not show through.
+     *
+     * @param source the configuration values
+     */
+    ConfigSnapshot(final JSONObject source) {
+        this.values = new JSONObject(source.toString());
+        this.darkMode = values.optBoolean("dark_mode");
+        this.increment = values.optBoolean("increment");
+        this.originalScript = values.optBoolean("original_script");
+        this.speed = values.optInt("speed",
+                ConfigDataRetriever.DEFAULT_SPEED);
+        this.fontSize = values.optInt("font_size",
+                ConfigDataRetriever.DEFAULT_FONT_SIZE);
+        this.pageLength = values.optInt("page_length",
+                ConfigDataRetriever.DEFAULT_PAGE_LENGTH);
+        this.pagesTranslated = values.optInt("pages_translated",
+                ConfigDataRetriever.DEFAULT_PAGES_TRANSLATED);
+        this.font = values.optString("font");
+        this.inputLanguage = values.optString("input_language");
+        this.targetLanguage = values.optString("target_language");
+    }
+
+    /**
+     * Returns a snapshot equal to this one except for a single value.
+     *
+     * @param key   the key to change
+     * @param value its new value
+     * @return the new snapshot
+     */
+    ConfigSnapshot with(final String key, final Object value) {
+        final JSONObject changed = new JSONObject(values.toString());
+        changed.put(key, value);
+        return new ConfigSnapshot(changed);
+    }
+
+    /**
+     * @param key a config key
+     * @return the raw value, or {@code null} if the key is not set
+     */
+    Object opt(final String key) {
+        return values.opt(key);
+    }
+
+    /**
+     * @param key a config key
+     * @return the string value
+     */
+    String getString(final String key) {
+        return values.getString(key);
+    }
+
+    /**
+     * @param key a config key
+     * @return the integer value
+     */
+    int getInt(final String key) {
+        return values.getInt(key);
+    }
+
+    /**
+     * @param key a config key
+     * @return the boolean value
+     */
+    boolean getBoolean(final String key) {
+        return values.getBoolean(key);
+    }
+
+    /**
+     * @param indent spaces to indent nested values by
+     * @return the values as JSON text
+     */
+    String toJson(final int indent) {
+        return values.toString(indent);
+    }
+
+    /**
+     * @return whether the dark theme is used
+     */
+    public boolean isDarkMode() {
+        return darkMode;
+    }
+
+    /**
+     * @return whether the number of translated words grows with the page
+     */
+    public boolean isIncrement() {
+        return increment;
+    }
+
+    /**
+     * @return whether translations are also shown in their own script
+     */
+    public boolean isOriginalScript() {
+        return originalScript;
+    }
+
+    /**
+     * @return the translation speed level
+     */
+    public int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * @return the font size of page text
+     */
+    public int getFontSize() {
+        return fontSize;
+    }
+
+    /**
+     * @return the words per page setting, before squaring
+     */
+    public int getPageLength() {
+        return pageLength;
+    }
+
+    /**
+     * @return how many pages to translate ahead of the reader
+     */
+    public int getPagesTranslated() {
+        return pagesTranslated;
+    }
+
+    /**
+     * @return the font of page text
+     */
+    public String getFont() {
+        return font;
+    }
+
+    /**
+     * @return the language code of the book
+     */
+    public String getInputLanguage() {
+        return inputLanguage;
+    }
+
+    /**
+     * @return the language code translations are in
+     */
+    public String getTargetLanguage() {
+        return targetLanguage;
+    }
+}
@@ -3,6 +3,7 @@ package configuration;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -23,6 +24,52 @@ public final class LanguageCodes {
     /** Language codes supported by Azure. */
     public static final Set<String> AZURE_LANG_CODES;
 
+    /**
+     * ICU script of each target language not written in Latin script,
+     * or {@code "Any"} where ICU has no dedicated rule for it.
+     */
+    private static final Map<String, String> SCRIPTS = Map.ofEntries(
+            Map.entry("ru", "Cyrillic"), Map.entry("uk", "Cyrillic"),
+            Map.entry("bg", "Cyrillic"), Map.entry("be", "Cyrillic"),
+            Map.entry("mk", "Cyrillic"), Map.entry("kk", "Cyrillic"),
+            Map.entry("ky", "Cyrillic"), Map.entry("tt", "Cyrillic"),
+            Map.entry("ba", "Cyrillic"), Map.entry("mn", "Cyrillic"),
+            Map.entry("mn-cyrl", "Cyrillic"), Map.entry("sr-cyrl", "Cyrillic"),
+            Map.entry("el", "Greek"),
+            Map.entry("zh", "Han"), Map.entry("zh-hans", "Han"),
+            Map.entry("zh-hant", "Han"), Map.entry("lzh", "Han"),
+            Map.entry("yue", "Han"),
+            Map.entry("ko", "Hangul"),
+            Map.entry("ar", "Arabic"), Map.entry("fa", "Arabic"),
+            Map.entry("prs", "Arabic"), Map.entry("ps", "Arabic"),
+            Map.entry("ur", "Arabic"), Map.entry("ug", "Arabic"),
+            Map.entry("ku", "Arabic"), Map.entry("ks", "Arabic"),
+            Map.entry("sd", "Arabic"),
+            Map.entry("he", "Hebrew"),
+            Map.entry("hi", "Devanagari"), Map.entry("mr", "Devanagari"),
+            Map.entry("ne", "Devanagari"), Map.entry("mai", "Devanagari"),
+            Map.entry("bho", "Devanagari"), Map.entry("doi", "Devanagari"),
+            Map.entry("brx", "Devanagari"), Map.entry("gom", "Devanagari"),
+            Map.entry("hne", "Devanagari"),
+            Map.entry("bn", "Bengali"), Map.entry("as", "Bengali"),
+            Map.entry("gu", "Gujarati"),
+            Map.entry("pa", "Gurmukhi"),
+            Map.entry("or", "Oriya"),
+            Map.entry("ta", "Tamil"),
+            Map.entry("te", "Telugu"),
+            Map.entry("kn", "Kannada"),
+            Map.entry("ml", "Malayalam"),
+            Map.entry("th", "Thai"),
+            Map.entry("hy", "Armenian"),
+            Map.entry("ka", "Georgian"),
+            Map.entry("am", "Ethiopic"), Map.entry("ti", "Ethiopic"),
+            Map.entry("dv", "Thaana"),
+            Map.entry("ja", "Any"), Map.entry("bo", "Any"),
+            Map.entry("my", "Any"), Map.entry("km", "Any"),
+            Map.entry("lo", "Any"), Map.entry("si", "Any"),
+            Map.entry("iu", "Any"), Map.entry("mni", "Any"),
+            Map.entry("mn-mong", "Any"));
+
     static {
         boolean hasDeepLKey;
         boolean hasAzureKey;
@@ -210,6 +257,29 @@ public final class LanguageCodes {
         AZURE_LANG_CODES = Collections.unmodifiableSet(azureSet);
     }
 
+    /**
+     * Returns the script a language is written in, as an ICU script name
+     * such as {@code "Cyrillic"} or {@code "Han"}. A code with a region or
+     * script suffix falls back to its base language.
+     *
+     * @param code a language code
+     * @return the script; {@code "Latin"} for Latin-script and unknown
+     *         languages, {@code "Any"} if the script has no ICU rule
+     */
+    public static String scriptOf(final String code) {
+        if (code == null) {
+            return "Any";
+        }
+        final String lower = code.toLowerCase(Locale.ROOT);
+        final String exact = SCRIPTS.get(lower);
+        if (exact != null) {
+            return exact;
+        }
+        final int dash = lower.indexOf('-');
+        return dash < 0 ? "Latin"
+                : SCRIPTS.getOrDefault(lower.substring(0, dash), "Latin");
+    }
+
     private LanguageCodes() {
         // Prevent instantiation
     }
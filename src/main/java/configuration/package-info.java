@@ -4,12 +4,16 @@
  * <p>This package includes:
  * <ul>
  *     <li>{@code ConfigDataRetriever} — manages loading, saving,
- *     and accessing user configuration from a JSON file</li>
+ *     and accessing user configuration from a JSON file, and tells
+ *     registered listeners which settings changed</li>
+ *     <li>{@code ConfigSnapshot} — an immutable, typed view of the
+ *     configuration, replaced whole on every change</li>
  *     <li>{@code LanguageCodes} — maps human-readable language names
  *     to ISO codes and vice versa</li>
  *     <li>{@code FontList} — predefined list of available UI fonts</li>
  * </ul>
  *
- * <p>All classes are static utility holders and cannot be instantiated.
+ * <p>Apart from {@code ConfigSnapshot}, all classes are static utility
+ * holders and cannot be instantiated.
  */
 package configuration;
@@ -2,6 +2,8 @@
 
     import java.io.File;
     import java.io.IOException;
+    import java.io.Reader;
+    import java.io.StringWriter;
 
     /**
      * Gateway interface for importing book content from a file.
@@ -9,11 +11,29 @@
     public interface BookImporter {
 
         /**
-         * Reads and extracts text content from the specified file.
+         * Opens the text content of the specified file as a stream.
+         * Implementations extract text lazily where the format allows,
+         * so callers that read incrementally never hold the whole book.
+         * The caller must close the reader.
+         *
+         * @param file the file to import
+         * @return a reader over the extracted text
+         * @throws IOException if the file cannot be opened or parsed
+         */
+        Reader openBook(File file) throws IOException;
+
+        /**
+         * Reads and extracts the whole text content of the specified file.
          *
          * @param file the file to import
          * @return the extracted text content as a string
          * @throws IOException if the file cannot be read or parsed
          */
-        String importBook(File file) throws IOException;
+        default String importBook(File file) throws IOException {
+            try (Reader reader = openBook(file)) {
+                final StringWriter text = new StringWriter();
+                reader.transferTo(text);
+                return text.toString();
+            }
+        }
     }
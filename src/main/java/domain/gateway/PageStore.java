@@ -0,0 +1,80 @@
+package domain.gateway;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import domain.model.GrowingPageSource;
+import domain.model.Page;
+import domain.model.PageSource;
+import domain.model.TokenTable;
+
+/**
+ * Gateway interface for keeping the pages of a book while it is read.
+ * <p>
+ * Pages are handed over one at a time as they are built, so a store
+ * backed by storage never needs the whole book in memory.
+ * </p>
+ */
+public interface PageStore {
+
+    /**
+     * Starts storing a new book.
+     *
+     * @param table the token table shared by the book's pages
+     * @return a writer that accepts the book's pages in order
+     * @throws IOException if storage cannot be prepared
+     */
+    PageWriter create(TokenTable table) throws IOException;
+
+    /**
+     * Returns a store that keeps every page in memory.
+     *
+     * @return the in-memory store
+     */
+    static PageStore inMemory() {
+        return table -> {
+            final GrowingPageSource pages = new GrowingPageSource();
+            return new PageWriter() {
+                @Override
+                public void accept(final Page page) {
+                    pages.add(page);
+                }
+
+                @Override
+                public PageSource pages() {
+                    return pages;
+                }
+
+                @Override
+                public PageSource finish() {
+                    return pages;
+                }
+            };
+        };
+    }
+
+    /**
+     * Receives the pages of one book, in page order.
+     * {@link #accept(Object)} may throw
+     * {@link java.io.UncheckedIOException} if storage fails.
+     */
+    interface PageWriter extends Consumer<Page> {
+
+        /**
+         * Returns a source over the pages added so far. It grows as pages
+         * are added and may be read from another thread meanwhile, so a
+         * book can be opened before its import finishes.
+         *
+         * @return the live source
+         */
+        PageSource pages();
+
+        /**
+         * Completes the book. No more pages may be added.
+         *
+         * @return a source over every page added
+         * @throws IOException if storage cannot be completed
+         */
+        PageSource finish() throws IOException;
+    }
+}
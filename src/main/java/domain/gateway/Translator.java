@@ -1,5 +1,7 @@
 package domain.gateway;
 
+import java.util.Collection;
+
 /**
  * Gateway interface for translating words.
  */
@@ -12,4 +14,13 @@ public interface Translator {
      * @throws Exception if translation fails or cannot be performed
      */
     void addWord(String word) throws Exception;
+
+    /**
+     * Translates all the given words in a single request and adds
+     * each result to the translation store.
+     *
+     * @param words the words to translate and store
+     * @throws Exception if translation fails or cannot be performed
+     */
+    void addWords(Collection<String> words) throws Exception;
 }
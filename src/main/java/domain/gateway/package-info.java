@@ -17,6 +17,8 @@
  *   — for translating words and storing results.</li>
  *   <li>{@link domain.gateway.WordTransliterator}
  *   — for converting text between scripts.</li>
+ *   <li>{@link domain.gateway.PageStore}
+ *   — for keeping a book's pages, in memory or in storage.</li>
  * </ul>
  *
  * <p>
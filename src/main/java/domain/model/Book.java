@@ -1,17 +1,29 @@
 package domain.model;
 
+import java.util.AbstractList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
  * Represents a book composed of ordered pages.
+ * <p>
+ * Pages come from a {@link PageSource}, which may build them on demand,
+ * so the book itself holds no page objects. The source may still be
+ * growing while a book is imported; page counts and lookups always
+ * reflect the pages added so far.
+ * </p>
  */
 public class Book {
     /**
-     * The list of all pages in the book, sorted by page number.
-     * This list is unmodifiable after construction.
+     * The pages of the book, in page-number order.
      */
-    private final List<Page> pages;
+    private final PageSource pages;
+
+    /**
+     * Lookup from page number to position in {@link #pages}, extended
+     * when the source grows.
+     */
+    private PageIndex index;
 
     /**
      * The page number currently being viewed.
@@ -24,29 +36,52 @@ public class Book {
     private String title;
 
     /**
-     * Constructs a new Book and initializes to the first page.
+     * Constructs a new Book held in memory and initializes to the first
+     * page.
      *
      * @param pageList the list of pages to include in the book
      * @param bookTitle the title of the book
      */
     public Book(final String bookTitle, final List<Page> pageList) {
+        this(bookTitle, pageList == null || pageList.isEmpty()
+                ? null : new ListPageSource(pageList));
+    }
+
+    /**
+     * Creates a Book over a page source, positioned at the first page.
+     *
+     * @param bookTitle the title of the book
+     * @param source    the pages of the book, in page-number order
+     * @return the book
+     */
+    public static Book fromSource(final String bookTitle,
+                                  final PageSource source) {
+        return new Book(bookTitle, source);
+    }
+
+    /**
+     * Constructs a new Book over a page source and initializes to the
+     * first page.
+     *
+     * @param bookTitle the title of the book
+     * @param source    the pages of the book, in page-number order
+     */
+    private Book(final String bookTitle, final PageSource source) {
         if (bookTitle == null || bookTitle.isEmpty()) {
             throw new IllegalArgumentException(
                     "Book title cannot be null or empty.");
         }
-        if (pageList == null || pageList.isEmpty()) {
+        if (source == null || source.size() == 0) {
             throw new IllegalArgumentException(
                     "A book must contain at least one page.");
         }
 
         this.title = bookTitle;
-        // Make a defensive copy that we can sort
-        java.util.List<Page> copy = new java.util.ArrayList<>(pageList);
-        copy.sort(java.util.Comparator.comparingInt(Page::getPageNumber));
-
-        this.pages = java.util.Collections.unmodifiableList(copy);
-        this.currentPageNumber = copy.get(0).getPageNumber();
+        this.pages = source;
+        this.index = new PageIndex(source);
+        this.currentPageNumber = source.pageNumberAt(0);
     }
+
     /**
      * @return the total number of pages in this book
      */
@@ -75,11 +110,12 @@ public class Book {
      * @return the corresponding Page
      */
     public Page getPage(final int pageNumber) {
-        return pages.stream()
-                .filter(page -> page.getPageNumber() == pageNumber)
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException(
-                        "Page number not found: " + pageNumber));
+        final int index = indexOf(pageNumber);
+        if (index < 0) {
+            throw new NoSuchElementException(
+                    "Page number not found: " + pageNumber);
+        }
+        return pages.get(index);
     }
 
     /**
@@ -88,20 +124,34 @@ public class Book {
      * @param pageNumber the target page number
      */
     public void goToPage(final int pageNumber) {
-        if (pages.stream().noneMatch(page ->
-                page.getPageNumber() == pageNumber)) {
+        if (indexOf(pageNumber) < 0) {
             throw new NoSuchElementException(
                     "Invalid page number: " + pageNumber);
         }
         this.currentPageNumber = pageNumber;
     }
 
+    /**
+     * Moves by a number of pages in reading order, stopping at the first
+     * or last page. A negative count moves backwards.
+     *
+     * @param count how many pages to move
+     * @return the page number now being viewed
+     */
+    public int skipPages(final int count) {
+        final long target = (long) indexOf(currentPageNumber) + count;
+        final int clamped = (int) Math.max(0,
+                Math.min(pages.size() - 1, target));
+        currentPageNumber = pages.pageNumberAt(clamped);
+        return currentPageNumber;
+    }
+
     /**
      * Navigates to the next page if it exists.
      */
     public void nextPage() {
         final int next = currentPageNumber + 1;
-        if (pages.stream().anyMatch(page -> page.getPageNumber() == next)) {
+        if (indexOf(next) >= 0) {
             currentPageNumber = next;
         }
     }
@@ -111,7 +161,7 @@ public class Book {
      */
     public void previousPage() {
         final int prev = currentPageNumber - 1;
-        if (pages.stream().anyMatch(page -> page.getPageNumber() == prev)) {
+        if (indexOf(prev) >= 0) {
             currentPageNumber = prev;
         }
     }
@@ -124,9 +174,30 @@ public class Book {
     }
 
     /**
+     * Returns an unmodifiable view of all pages. Pages are fetched from
+     * the source as the view is read, so iterating it does not pin every
+     * page in memory.
+     *
      * @return an unmodifiable list of all pages
      */
     public List<Page> getAllPages() {
+        return new AbstractList<>() {
+            @Override
+            public Page get(final int index) {
+                return pages.get(index);
+            }
+
+            @Override
+            public int size() {
+                return pages.size();
+            }
+        };
+    }
+
+    /**
+     * @return the source the pages are read from
+     */
+    public PageSource getPageSource() {
         return pages;
     }
 
@@ -136,4 +207,16 @@ public class Book {
     public String getTitle() {
         return this.title;
     }
+
+    /**
+     * Finds the position of a page in constant time, without building
+     * any page.
+     *
+     * @param pageNumber the page number
+     * @return its position in the source, or {@code -1} if absent
+     */
+    private int indexOf(final int pageNumber) {
+        index = index.extend(pages);
+        return index.indexOf(pageNumber);
+    }
 }
@@ -0,0 +1,52 @@
+package domain.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * In-memory page source that pages can be appended to while it is read.
+ * <p>
+ * Used while a book is still being imported: the reader sees every page
+ * added so far, and {@link #size()} grows as more arrive. Pages must be
+ * appended in page-number order.
+ * </p>
+ */
+public final class GrowingPageSource implements PageSource {
+
+    /** Initial capacity of the page array. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The pages added so far; guarded by {@code this}. */
+    private Page[] pages = new Page[INITIAL_CAPACITY];
+
+    /** Number of pages added; guarded by {@code this}. */
+    private int count;
+
+    /**
+     * Appends a page after every page added so far.
+     *
+     * @param page the next page
+     */
+    public synchronized void add(final Page page) {
+        if (count == pages.length) {
+            pages = Arrays.copyOf(pages, count * 2);
+        }
+        pages[count++] = page;
+    }
+
+    @Override
+    public synchronized int size() {
+        return count;
+    }
+
+    @Override
+    public synchronized int pageNumberAt(final int index) {
+        return get(index).getPageNumber();
+    }
+
+    @Override
+    public synchronized Page get(final int index) {
+        Objects.checkIndex(index, count);
+        return pages[index];
+    }
+}
@@ -0,0 +1,40 @@
+package domain.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Page source that keeps every page in memory, sorted by page number.
+ */
+public final class ListPageSource implements PageSource {
+
+    /** The pages, sorted by page number. */
+    private final List<Page> pages;
+
+    /**
+     * Creates a source over a copy of the given pages.
+     *
+     * @param pageList the pages, in any order
+     */
+    public ListPageSource(final List<Page> pageList) {
+        final List<Page> copy = new ArrayList<>(pageList);
+        copy.sort(Comparator.comparingInt(Page::getPageNumber));
+        this.pages = copy;
+    }
+
+    @Override
+    public int size() {
+        return pages.size();
+    }
+
+    @Override
+    public int pageNumberAt(final int index) {
+        return pages.get(index).getPageNumber();
+    }
+
+    @Override
+    public Page get(final int index) {
+        return pages.get(index);
+    }
+}
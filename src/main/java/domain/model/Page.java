@@ -7,6 +7,18 @@ import java.util.List;
 /**
  * Represents a single page in a book,
  * containing both original and translated scripts.
+ * <p>
+ * Each original word is tokenized once when the page is built: its
+ * lowercase core is interned in the book's {@link TokenTable}, and the
+ * punctuation before and after the core is remembered as a span. Lookups
+ * can then use the precomputed key instead of normalizing the word again.
+ * </p>
+ * <p>
+ * Translation is kept per word: each original word may carry its
+ * translation and that translation's transliteration. The displayed words
+ * are plain text built from them; how translated words are highlighted is
+ * left to the view.
+ * </p>
  */
 public class Page {
     /**
@@ -24,6 +36,42 @@ public class Page {
      */
     private final List<String> originalWords;
 
+    /**
+     * The table the token ids belong to.
+     */
+    private final TokenTable tokenTable;
+
+    /**
+     * Token id of each original word, or {@code -1} if it has no letters
+     * or digits.
+     */
+    private final int[] tokenIds;
+
+    /**
+     * Interned lookup key of each original word, or {@code null} if it
+     * has no letters or digits.
+     */
+    private final String[] tokenKeys;
+
+    /**
+     * Start of each original word's core; characters before it are
+     * leading punctuation.
+     */
+    private final int[] coreStarts;
+
+    /**
+     * End of each original word's core; characters from it on are
+     * trailing punctuation.
+     */
+    private final int[] coreEnds;
+
+    /**
+     * Per-word translations, or {@code null} until they are applied.
+     * Replaced as a whole, so a reader on another thread always sees a
+     * matching pair of arrays.
+     */
+    private volatile WordTranslations wordTranslations;
+
     /**
      * The list of words currently displayed on
      * this page (translated or original).
@@ -36,13 +84,41 @@ public class Page {
     private boolean translated;
 
     /**
-     * Constructs a Page object with given content and metadata.
+     * Counts changes to the displayed words, so views can tell whether
+     * something they rendered earlier is still current.
+     */
+    private volatile int revision;
+
+    /**
+     * Whether the page changed since it was last saved. Set by every
+     * change to the translated content and cleared by the saver, which
+     * may run on another thread.
+     */
+    private volatile boolean dirty;
+
+    /**
+     * Constructs a Page object with given content and metadata,
+     * using a token table of its own.
      *
      * @param words      the original list of words for this page
      * @param pageNum the page number
      * @param max   the maximum number of words allowed
      */
     public Page(final List<String> words, final int pageNum, final int max) {
+        this(words, pageNum, max, new TokenTable());
+    }
+
+    /**
+     * Constructs a Page object whose tokens are interned in a shared
+     * table.
+     *
+     * @param words   the original list of words for this page
+     * @param pageNum the page number
+     * @param max     the maximum number of words allowed
+     * @param table   the token table shared by the book
+     */
+    public Page(final List<String> words, final int pageNum, final int max,
+                final TokenTable table) {
         if (words == null || words.isEmpty()) {
             throw new IllegalArgumentException(
                     "Content cannot be null or empty.");
@@ -62,6 +138,27 @@ public class Page {
         this.originalWords = Collections.unmodifiableList(
                 new ArrayList<>(words));
         this.translatedWords = new ArrayList<>(words);
+
+        this.tokenTable = table;
+        final int count = originalWords.size();
+        this.tokenIds = new int[count];
+        this.tokenKeys = new String[count];
+        this.coreStarts = new int[count];
+        this.coreEnds = new int[count];
+        for (int i = 0; i < count; i++) {
+            final String word = originalWords.get(i);
+            final int start = Tokenizer.coreStart(word);
+            final int end = Tokenizer.coreEnd(word, start);
+            coreStarts[i] = start;
+            coreEnds[i] = end;
+            if (start < end) {
+                tokenIds[i] = table.intern(Tokenizer.normalize(
+                        word.substring(start, end)));
+                tokenKeys[i] = table.key(tokenIds[i]);
+            } else {
+                tokenIds[i] = -1;
+            }
+        }
     }
 
 
@@ -86,6 +183,70 @@ public class Page {
         return Collections.unmodifiableList(translatedWords);
     }
 
+    /**
+     * @return the number of original words on the page
+     */
+    public int getWordCount() {
+        return tokenIds.length;
+    }
+
+    /**
+     * @param index the position of an original word
+     * @return the word's token id, or {@code -1} if it has no letters
+     *         or digits
+     */
+    public int getTokenId(final int index) {
+        return tokenIds[index];
+    }
+
+    /**
+     * @param index the position of an original word
+     * @return the word's interned lowercase key, or {@code null} if it has
+     *         no letters or digits
+     */
+    public String getKey(final int index) {
+        return tokenKeys[index];
+    }
+
+    /**
+     * @param index the position of an original word
+     * @return the word without its leading and trailing punctuation
+     */
+    public String getCore(final int index) {
+        return originalWords.get(index)
+                .substring(coreStarts[index], coreEnds[index]);
+    }
+
+    /**
+     * @param index the position of an original word
+     * @return the punctuation before the word's core
+     */
+    public String getLeading(final int index) {
+        return originalWords.get(index).substring(0, coreStarts[index]);
+    }
+
+    /**
+     * @param index the position of an original word
+     * @return the punctuation after the word's core
+     */
+    public String getTrailing(final int index) {
+        return originalWords.get(index).substring(coreEnds[index]);
+    }
+
+    /**
+     * @return the table this page's token ids belong to
+     */
+    public TokenTable getTokenTable() {
+        return tokenTable;
+    }
+
+    /**
+     * @return the maximum number of words allowed on this page
+     */
+    public int getMaxWords() {
+        return maxWords;
+    }
+
     /**
      * @return the page number
      */
@@ -101,14 +262,88 @@ public class Page {
     }
 
     /**
-     * Marks the page as translated.
+     * Marks the page as translated. A page that already is stays clean,
+     * so repeated passes over a loaded book cause no saves.
      */
     public void translated() {
+        if (!translated) {
+            this.translated = true;
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * Sets the translation of every original word. Each displayed word
+     * becomes the original's punctuation around the transliteration, or
+     * the original word where there is no translation.
+     *
+     * @param translations     translation of each original word, or
+     *                         {@code null} to keep the original
+     * @param transliterations transliteration of each translation
+     */
+    public void applyTranslations(final String[] translations,
+                                  final String[] transliterations) {
+        final int count = originalWords.size();
+        if (translations.length != count
+                || transliterations.length != count) {
+            throw new IllegalArgumentException(
+                    "Expected one translation per word: " + count);
+        }
+        final List<String> shown = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (translations[i] == null) {
+                shown.add(originalWords.get(i));
+            } else {
+                shown.add(getLeading(i) + transliterations[i]
+                        + getTrailing(i));
+            }
+        }
+        this.wordTranslations = new WordTranslations(
+                translations.clone(), transliterations.clone());
+        this.translatedWords = shown;
         this.translated = true;
+        this.dirty = true;
+        revision++;
     }
 
     /**
-     * Replaces the translated content of the page with a new list of words.
+     * @return {@code true} if translations were set per word, as opposed
+     *         to the page being original or rewritten as a whole
+     */
+    public boolean hasWordTranslations() {
+        return wordTranslations != null;
+    }
+
+    /**
+     * @param index the position of an original word
+     * @return {@code true} if the word is shown translated
+     */
+    public boolean isWordTranslated(final int index) {
+        return getTranslation(index) != null;
+    }
+
+    /**
+     * @param index the position of an original word
+     * @return the word's translation, or {@code null} if it has none
+     */
+    public String getTranslation(final int index) {
+        final WordTranslations current = wordTranslations;
+        return current == null ? null : current.translations[index];
+    }
+
+    /**
+     * @param index the position of an original word
+     * @return the transliteration of the word's translation, or
+     *         {@code null} if it has none
+     */
+    public String getTransliteration(final int index) {
+        final WordTranslations current = wordTranslations;
+        return current == null ? null : current.transliterations[index];
+    }
+
+    /**
+     * Replaces the translated content of the page with a new list of
+     * words, dropping any per-word translations.
      *
      * @param words the new translated list of words
      */
@@ -117,15 +352,81 @@ public class Page {
             throw new IllegalArgumentException(
                     "New content exceeds max words or is null.");
         }
+        this.wordTranslations = null;
         this.translatedWords = new ArrayList<>(words);
         this.translated = true;
+        this.dirty = true;
+        revision++;
     }
 
     /**
      * Resets the translated words back to the original script.
      */
     public void resetToOriginal() {
+        this.wordTranslations = null;
         this.translatedWords = new ArrayList<>(originalWords);
         this.translated = false;
+        this.dirty = true;
+        revision++;
+    }
+
+    /**
+     * Returns a number that changes whenever the displayed words do.
+     * Read it before the words to be sure they are at least that recent.
+     *
+     * @return the revision of the displayed words
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return {@code true} if the page changed since it was last saved
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Clears the unsaved-changes flag. Savers call this before reading
+     * the page, so a change made while the page is written marks it
+     * dirty again.
+     *
+     * @return {@code true} if the page had unsaved changes
+     */
+    public boolean clearDirty() {
+        final boolean wasDirty = dirty;
+        dirty = false;
+        return wasDirty;
+    }
+
+    /**
+     * Flags the page as having unsaved changes, for example after a
+     * failed save.
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Translations of a page's words and their transliterations.
+     */
+    private static final class WordTranslations {
+
+        /** Translation of each word, {@code null} if untranslated. */
+        private final String[] translations;
+
+        /** Transliteration of each translation. */
+        private final String[] transliterations;
+
+        /**
+         * @param translated     translation of each word
+         * @param transliterated transliteration of each translation
+         */
+        private WordTranslations(final String[] translated,
+                                 final String[] transliterated) {
+            this.translations = translated;
+            this.transliterations = transliterated;
+        }
     }
 }
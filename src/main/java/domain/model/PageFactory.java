@@ -1,7 +1,10 @@
 package domain.model;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Factory class responsible for dividing a list of words into pages.
@@ -17,7 +20,7 @@ public final class PageFactory {
 
     /**
      * Splits a list of words into pages with a
-     * maximum number of words per page.
+     * maximum number of words per page. All pages share one token table.
      *
      * @param words           the complete list of words to paginate
      * @param maxWordsPerPage the maximum number of words allowed per page
@@ -26,6 +29,22 @@ public final class PageFactory {
      */
     public static List<Page> paginate(final List<String> words,
                                       final int maxWordsPerPage) {
+        return paginate(words, maxWordsPerPage, new TokenTable());
+    }
+
+    /**
+     * Splits a list of words into pages whose tokens are interned
+     * in the given table.
+     *
+     * @param words           the complete list of words to paginate
+     * @param maxWordsPerPage the maximum number of words allowed per page
+     * @param table           the token table shared by the book
+     * @return a list of Page objects representing paginated content
+     * @throws IllegalArgumentException if maxWordsPerPage is not positive
+     */
+    public static List<Page> paginate(final List<String> words,
+                                      final int maxWordsPerPage,
+                                      final TokenTable table) {
         if (maxWordsPerPage <= 0) {
             throw new IllegalArgumentException(
                     "maxWordsPerPage must be greater than zero.");
@@ -37,10 +56,49 @@ public final class PageFactory {
         for (int i = 0; i < words.size(); i += maxWordsPerPage) {
             int end = Math.min(i + maxWordsPerPage, words.size());
             List<String> chunk = new ArrayList<>(words.subList(i, end));
-            pages.add(new Page(chunk, pageNum, maxWordsPerPage));
+            pages.add(new Page(chunk, pageNum, maxWordsPerPage, table));
             pageNum++;
         }
 
         return pages;
     }
+
+    /**
+     * Reads words from a stream and builds pages as it goes. Each page is
+     * handed to the sink as soon as it is full, so only one page of words
+     * is buffered at a time.
+     *
+     * @param reader          the text to paginate; not closed here
+     * @param maxWordsPerPage the maximum number of words allowed per page
+     * @param table           the token table shared by the book
+     * @param sink            receives each page in order
+     * @return the number of pages built
+     * @throws IOException              if reading fails
+     * @throws IllegalArgumentException if maxWordsPerPage is not positive
+     */
+    public static int paginate(final Reader reader,
+                               final int maxWordsPerPage,
+                               final TokenTable table,
+                               final Consumer<Page> sink)
+            throws IOException {
+        if (maxWordsPerPage <= 0) {
+            throw new IllegalArgumentException(
+                    "maxWordsPerPage must be greater than zero.");
+        }
+
+        final List<String> chunk = new ArrayList<>(maxWordsPerPage);
+        final int[] pageNum = {1};
+        Tokenizer.forEachWord(reader, word -> {
+            chunk.add(word);
+            if (chunk.size() == maxWordsPerPage) {
+                sink.accept(new Page(chunk, pageNum[0]++, maxWordsPerPage,
+                        table));
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            sink.accept(new Page(chunk, pageNum[0]++, maxWordsPerPage, table));
+        }
+        return pageNum[0] - 1;
+    }
 }
@@ -0,0 +1,160 @@
+package domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Constant-time lookup from page number to position in a
+ * {@link PageSource}.
+ * <p>
+ * When page numbers run without gaps, which is how books are paginated,
+ * the position is a subtraction. Otherwise the numbers are kept in an
+ * open-addressing table of primitive ints. Either way no page is built
+ * and no boxing happens on lookup.
+ * </p>
+ */
+public final class PageIndex {
+
+    /** Marks an empty slot in the sparse table. */
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    /** Multiplier used to spread page numbers across the table. */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /** Number of pages indexed. */
+    private final int size;
+
+    /** Page number at position zero, used when numbering is dense. */
+    private final int first;
+
+    /** Page numbers by slot, or {@code null} when numbering is dense. */
+    private final int[] keys;
+
+    /** Positions by slot, parallel to {@link #keys}. */
+    private final int[] values;
+
+    /**
+     * Builds an index over the page numbers of a source.
+     *
+     * @param source the pages to index
+     */
+    public PageIndex(final PageSource source) {
+        this.size = source.size();
+        this.first = size == 0 ? 0 : source.pageNumberAt(0);
+
+        boolean dense = true;
+        for (int i = 1; i < size && dense; i++) {
+            dense = source.pageNumberAt(i) == first + i;
+        }
+        if (dense) {
+            this.keys = null;
+            this.values = null;
+            return;
+        }
+
+        final int capacity = Integer.highestOneBit(Math.max(2, size) * 2);
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < size; i++) {
+            insert(source.pageNumberAt(i), i);
+        }
+    }
+
+    /**
+     * Creates a dense index.
+     *
+     * @param firstNumber page number at position zero
+     * @param pageCount   number of pages
+     */
+    private PageIndex(final int firstNumber, final int pageCount) {
+        this.size = pageCount;
+        this.first = firstNumber;
+        this.keys = null;
+        this.values = null;
+    }
+
+    /**
+     * Returns an index covering a source that may have grown since this
+     * index was built. When numbering stays dense only the new pages are
+     * checked; otherwise the index is rebuilt.
+     *
+     * @param source the source this index was built from
+     * @return this index if the source has not grown, else a new one
+     */
+    public PageIndex extend(final PageSource source) {
+        final int grown = source.size();
+        if (grown == size) {
+            return this;
+        }
+        if (keys != null || size == 0 || grown < size) {
+            return new PageIndex(source);
+        }
+        for (int i = size; i < grown; i++) {
+            if (source.pageNumberAt(i) != first + i) {
+                return new PageIndex(source);
+            }
+        }
+        return new PageIndex(first, grown);
+    }
+
+    /**
+     * @param pageNumber a page number
+     * @return the page's position, or {@code -1} if there is no such page
+     */
+    public int indexOf(final int pageNumber) {
+        if (keys == null) {
+            final long offset = (long) pageNumber - first;
+            return offset >= 0 && offset < size ? (int) offset : -1;
+        }
+        if (pageNumber == EMPTY) {
+            return -1;
+        }
+        final int mask = keys.length - 1;
+        for (int slot = slot(pageNumber, mask); keys[slot] != EMPTY;
+             slot = (slot + 1) & mask) {
+            if (keys[slot] == pageNumber) {
+                return values[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the number of pages indexed
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a page number, keeping the first position if it repeats.
+     *
+     * @param pageNumber the page number
+     * @param position   its position in the source
+     */
+    private void insert(final int pageNumber, final int position) {
+        if (pageNumber == EMPTY) {
+            return;
+        }
+        final int mask = keys.length - 1;
+        int slot = slot(pageNumber, mask);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == pageNumber) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = pageNumber;
+        values[slot] = position;
+    }
+
+    /**
+     * @param pageNumber a page number
+     * @param mask       the table size minus one
+     * @return the page number's home slot
+     */
+    private static int slot(final int pageNumber, final int mask) {
+        final int h = pageNumber * HASH_MULTIPLIER;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,36 @@
+package domain.model;
+
+/**
+ * Ordered, indexed access to the pages of a book.
+ * <p>
+ * A source may keep every page in memory or build pages on demand from
+ * storage, so callers should fetch pages as they need them rather than
+ * holding on to all of them.
+ * </p>
+ */
+public interface PageSource {
+
+    /**
+     * @return the number of pages
+     */
+    int size();
+
+    /**
+     * Returns the page number at a position without building the page.
+     *
+     * @param index the zero-based position, in page-number order
+     * @return the page number at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    int pageNumberAt(int index);
+
+    /**
+     * Returns the page at a position, building it if necessary.
+     * Repeated calls return the same instance while the page stays cached.
+     *
+     * @param index the zero-based position, in page-number order
+     * @return the page
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    Page get(int index);
+}
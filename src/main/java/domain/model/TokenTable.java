@@ -0,0 +1,57 @@
+package domain.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns the normalized word keys of a book and gives each one a small
+ * integer id.
+ * <p>
+ * Every page of a book shares one table, so a word that appears a
+ * thousand times is stored once and all its occurrences carry the same
+ * id and the same key instance.
+ * </p>
+ */
+public final class TokenTable {
+
+    /** Ids by key. */
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    /** Keys by id. */
+    private final List<String> keys = new ArrayList<>();
+
+    /**
+     * Returns the id for a key, adding the key if it is new.
+     *
+     * @param key the normalized key
+     * @return the key's id
+     */
+    public synchronized int intern(final String key) {
+        final Integer existing = ids.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final int id = keys.size();
+        keys.add(key);
+        ids.put(key, id);
+        return id;
+    }
+
+    /**
+     * @param id a token id from this table
+     * @return the shared key instance for the id
+     * @throws IndexOutOfBoundsException if the id is unknown
+     */
+    public synchronized String key(final int id) {
+        return keys.get(id);
+    }
+
+    /**
+     * @return the number of distinct keys
+     */
+    public synchronized int size() {
+        return keys.size();
+    }
+}
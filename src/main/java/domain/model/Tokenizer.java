@@ -0,0 +1,131 @@
+package domain.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Splits text into words and finds the translatable core of each word.
+ * <p>
+ * A word's core is what remains after trimming leading and trailing
+ * characters that are neither letters nor digits, so {@code "Hello,"}
+ * and {@code "(hello"} share the core {@code "hello"} once lowercased.
+ * Punctuation inside a word, as in {@code "don't"}, is kept.
+ * </p>
+ */
+public final class Tokenizer {
+
+    /** Characters read from a stream at a time. */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Tokenizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Splits text on whitespace. Unlike {@code String.split("\\s+")},
+     * leading whitespace never produces an empty first word.
+     *
+     * @param text the text to split
+     * @return the words in order
+     */
+    public static List<String> splitWords(final CharSequence text) {
+        final List<String> words = new ArrayList<>();
+        final int length = text.length();
+        int start = -1;
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                if (start >= 0) {
+                    words.add(text.subSequence(start, i).toString());
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        if (start >= 0) {
+            words.add(text.subSequence(start, length).toString());
+        }
+        return words;
+    }
+
+    /**
+     * Streams the whitespace-separated words of a reader to a consumer,
+     * holding no more than the current word in memory.
+     *
+     * @param reader the text to split; not closed by this method
+     * @param action receives each word in order
+     * @throws IOException if reading fails
+     */
+    public static void forEachWord(final Reader reader,
+                                   final Consumer<String> action)
+            throws IOException {
+        final char[] chunk = new char[READ_BUFFER_SIZE];
+        final StringBuilder word = new StringBuilder();
+        int read;
+        while ((read = reader.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                final char c = chunk[i];
+                if (!Character.isWhitespace(c)) {
+                    word.append(c);
+                } else if (word.length() > 0) {
+                    action.accept(word.toString());
+                    word.setLength(0);
+                }
+            }
+        }
+        if (word.length() > 0) {
+            action.accept(word.toString());
+        }
+    }
+
+    /**
+     * @param word a single word
+     * @return the index of the first character of the word's core; equal
+     *         to the word's length if it has no letters or digits
+     */
+    public static int coreStart(final String word) {
+        int i = 0;
+        while (i < word.length()) {
+            final int cp = word.codePointAt(i);
+            if (Character.isLetterOrDigit(cp)) {
+                break;
+            }
+            i += Character.charCount(cp);
+        }
+        return i;
+    }
+
+    /**
+     * @param word  a single word
+     * @param start the core start returned by {@link #coreStart(String)}
+     * @return the index just past the last character of the word's core
+     */
+    public static int coreEnd(final String word, final int start) {
+        int i = word.length();
+        while (i > start) {
+            final int cp = word.codePointBefore(i);
+            if (Character.isLetterOrDigit(cp)) {
+                break;
+            }
+            i -= Character.charCount(cp);
+        }
+        return i;
+    }
+
+    /**
+     * Builds the lookup key for a word's core.
+     *
+     * @param core the core of a word
+     * @return the lowercase key
+     */
+    public static String normalize(final String core) {
+        return core.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,9 +1,19 @@
 /**
  * Contains domain models for the Diglott application, including:.
  * <ul>
- *     <li>{@code Page} — represents a single book page</li>
+ *     <li>{@code Page} — represents a single book page and the
+ *     translation of each of its words</li>
  *     <li>{@code Book} — manages a collection of pages</li>
+ *     <li>{@code PageSource} — indexed access to a book's pages</li>
+ *     <li>{@code ListPageSource} — keeps every page in memory</li>
+ *     <li>{@code GrowingPageSource} — in-memory pages that can be
+ *     appended while they are read</li>
+ *     <li>{@code PageIndex} — constant-time lookup from page number
+ *     to position</li>
  *     <li>{@code PageFactory} — utility for constructing pages</li>
+ *     <li>{@code Tokenizer} — splits text into words and finds
+ *     each word's translatable core</li>
+ *     <li>{@code TokenTable} — interns the word keys of a book</li>
  * </ul>
  */
 package domain.model;
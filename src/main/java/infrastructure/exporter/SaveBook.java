@@ -2,91 +2,121 @@ package infrastructure.exporter;
 
 import configuration.ConfigDataRetriever;
 import domain.model.Book;
-import domain.model.Page;
+import domain.model.TokenTable;
+import infrastructure.persistence.BookMetadata;
+import infrastructure.persistence.DigFile;
+import infrastructure.persistence.LibraryIndex;
+import infrastructure.persistence.StoredWords;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
-
-import static org.apache.commons.lang3.StringEscapeUtils.escapeJson;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Locates the {@code .dig} files books are saved to in the user's save
+ * directory.
+ * <p>
+ * Files use the binary {@link DigFile} format and are written by the
+ * autosave service, which only writes the pages that changed since the
+ * last save. Each file also keeps the reading position and the
+ * translated words for the book's language pair, so reopening it needs
+ * no translation requests.
+ * </p>
+ */
 public class SaveBook {
     /** The stored file path. */
     private static final Path PATH = Paths.get(
             System.getProperty("user.home"), ".diglott", "saves"
     );
 
+    /** Index of the saved books, opened on first use. */
+    private static LibraryIndex library;
+
     /** Prevents instantiation. */
     public SaveBook() {
     }
 
-    /** Ensure the saves directory exists. */
-    private void createSavesDirectory() {
-        try {
-            Files.createDirectories(PATH);
-            System.out.println("Created directories: " + PATH);
-            System.out.println("User home: " + System.getProperty("user.home"));
-            System.out.println("Save directory: " + PATH.toAbsolutePath());
-        } catch (IOException e) {
-            System.err.println("Failed to create directory: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
     /**
-     * Save a book to appropriate file.
-     * @param book is the book to save.
-     * @return if success.
+     * Captures the book-level state saved next to its pages: the title,
+     * the configured language pair, the reading position and the
+     * translations of the book's words for that pair. Only words the
+     * book's token table holds are included, not the whole word store.
+     * @param book the book.
+     * @return its metadata.
      */
-    public boolean save(final Book book) {
-        createSavesDirectory();
-        Path folder = getSaveDirectory();
-
-        String fileName = book.getTitle()
-                + ConfigDataRetriever.get("target_language") + ".dig";
-        Path filePath = folder.resolve(fileName);
-
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
-            writer.write("[");
-            writer.newLine();
-
-            List<Page> pages = book.getAllPages();
-            for (int i = 0; i < pages.size(); i++) {
-                Page page = pages.get(i);
-
-                writer.write("  {");
-                writer.newLine();
-                writer.write("    \"pageNumber\": "
-                        + page.getPageNumber() + ",");
-                writer.newLine();
-                writer.write("    \"content\": \""
-                        + escapeJson(page.getContent()) + "\",");
-                writer.newLine();
-                writer.write("    \"translated\": \""
-                        + escapeJson(page.isTranslated() ? "true"
-                        : "false") + "\"");
-                writer.write("  }");
-
-                if (i < pages.size() - 1) {
-                    writer.write(",");
+    public static BookMetadata metadata(final Book book) {
+        final Map<String, String> stored =
+                StoredWords.getDefault().getTranslations();
+        final Map<String, String> words = new HashMap<>();
+        if (book.getTotalPages() > 0) {
+            final TokenTable tokens = book.getCurrentPage().getTokenTable();
+            for (int id = 0; id < tokens.size(); id++) {
+                final String key = tokens.key(id);
+                final String translation = stored.get(key);
+                if (translation != null) {
+                    words.put(key, translation);
                 }
-                writer.newLine();
             }
+        }
+        return new BookMetadata(book.getTitle(),
+                ConfigDataRetriever.get("input_language"),
+                ConfigDataRetriever.get("target_language"),
+                book.getCurrentPageNumber(), words);
+    }
 
-            writer.write("]");
-            writer.newLine();
+    /**
+     * Returns the file a book is saved to, named after its title and the
+     * target language. A file of that name holding a different book is
+     * never reused; a numbered name is picked instead.
+     * @param book the book.
+     * @return the save file path.
+     */
+    public static Path savePath(final Book book) {
+        final String name = book.getTitle()
+                + ConfigDataRetriever.get("target_language");
+        Path path = PATH.resolve(name + ".dig");
+        for (int copy = 2; !canSaveTo(path, book); copy++) {
+            path = PATH.resolve(name + " (" + copy + ").dig");
+        }
+        return path;
+    }
 
-            System.out.println("Saving to: " + filePath);
+    /**
+     * Tells whether saving a book to a file keeps every other book.
+     * @param path the candidate file.
+     * @param book the book.
+     * @return true if the file is free or already holds this book.
+     */
+    private static boolean canSaveTo(final Path path, final Book book) {
+        if (Files.notExists(path)) {
             return true;
+        }
+        try {
+            if (!DigFile.isDigFile(path)) {
+                return false;
+            }
+            try (DigFile existing = DigFile.open(path)) {
+                return existing.holds(book.getPageSource());
+            }
         } catch (IOException e) {
-            System.err.println("Failed to save book: " + e.getMessage());
             return false;
         }
     }
 
+    /**
+     * Returns the index of the books in the save directory.
+     * @return the library index.
+     */
+    public static synchronized LibraryIndex library() {
+        if (library == null) {
+            library = new LibraryIndex(PATH);
+        }
+        return library;
+    }
+
     /**
      * path retriever.
      * @return the path */
@@ -3,7 +3,8 @@
  * in the Diglott application, including:
  * <ul>
  *     <li>{@code SaveBook}
- *    — handles exporting text from page files</li>
+ *    — saves books to binary {@code .dig} files, writing only
+ *    changed pages</li>
  * </ul>
  */
 package infrastructure.exporter;
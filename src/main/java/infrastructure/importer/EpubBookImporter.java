@@ -2,10 +2,10 @@ package infrastructure.importer;
 
 import domain.gateway.BookImporter;
 import org.apache.tika.Tika;
-import org.apache.tika.exception.TikaException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 
 /**
  * EPUB importer implementation using Apache Tika.
@@ -13,19 +13,16 @@ import java.io.IOException;
 public class EpubBookImporter implements BookImporter {
 
     /**
-     * Parses an EPUB file and returns its text content.
+     * Parses an EPUB file and streams its text content. Tika parses in
+     * the background and hands text over as it is extracted, without
+     * the length cap that applies when parsing to a string.
      *
      * @param file the EPUB file to import
-     * @return the extracted text content
-     * @throws IOException if parsing fails or file I/O error occurs
+     * @return a reader over the extracted text
+     * @throws IOException if the file cannot be opened
      */
     @Override
-    public String importBook(final File file) throws IOException {
-        try {
-            final Tika tika = new Tika();
-            return tika.parseToString(file);
-        } catch (TikaException e) {
-            throw new IOException("Failed to parse EPUB: " + e.getMessage(), e);
-        }
+    public Reader openBook(final File file) throws IOException {
+        return new Tika().parse(file);
     }
 }
@@ -3,6 +3,11 @@ package infrastructure.importer;
 import configuration.ConfigDataRetriever;
 import domain.model.Book;
 import domain.model.Page;
+import domain.model.TokenTable;
+import domain.model.Tokenizer;
+import infrastructure.persistence.BookMetadata;
+import infrastructure.persistence.DigFile;
+import infrastructure.persistence.StoredWords;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -12,9 +17,17 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
- * .dig file importer.
+ * .dig file importer. Reads the binary format through {@link DigFile}
+ * and falls back to the older JSON format.
+ * <p>
+ * Binary saves also restore the book's title, the reading position and
+ * the translated words for the book's language pair, so pages that were
+ * translated before are shown as saved without asking a translator.
+ * </p>
  */
 public final class LoadBook {
 
@@ -26,18 +39,91 @@ public final class LoadBook {
     }
 
     /**
-     * Reads the .dig file, parses JSON array, and returns list of pages.
+     * Opens a .dig file as a book, restoring saved words into the
+     * application's word store.
      *
      * @param file the .dig file to import
-     * @return list of Page objects built from the file
+     * @return the book stored in the file
      * @throws IOException if file reading fails
      */
     public static Book importBook(final File file) throws IOException {
+        return importBook(file, StoredWords.getDefault());
+    }
+
+    /**
+     * Opens a .dig file as a book. Binary saves are read lazily, one page
+     * at a time; JSON saves are parsed in full.
+     *
+     * @param file  the .dig file to import
+     * @param words the store saved translations are added to when they
+     *              are for the configured language pair
+     * @return the book stored in the file
+     * @throws IOException if file reading fails
+     */
+    public static Book importBook(final File file, final StoredWords words)
+            throws IOException {
+        if (!DigFile.isDigFile(file.toPath())) {
+            return importJson(file);
+        }
+        final DigFile saved = DigFile.open(file.toPath());
+        final BookMetadata metadata;
+        try {
+            metadata = saved.getMetadata();
+        } catch (IOException e) {
+            saved.close();
+            throw e;
+        }
+        if (metadata == null) {
+            return Book.fromSource(file.getName(), saved);
+        }
+
+        final String title = metadata.getTitle().isEmpty()
+                ? file.getName() : metadata.getTitle();
+        final Book book = Book.fromSource(title, saved);
+        try {
+            book.goToPage(metadata.getCurrentPage());
+        } catch (NoSuchElementException e) {
+            // Stay on the first page if the saved one is gone
+        }
+        restoreWords(metadata, words);
+        return book;
+    }
+
+    /**
+     * Adds saved translations the store does not have yet, if they are
+     * for the configured language pair.
+     *
+     * @param metadata the saved book state
+     * @param words    the word store
+     */
+    private static void restoreWords(final BookMetadata metadata,
+                                     final StoredWords words) {
+        if (!metadata.getSourceLanguage().equals(
+                ConfigDataRetriever.get("input_language"))
+                || !metadata.getTargetLanguage().equals(
+                ConfigDataRetriever.get("target_language"))) {
+            return;
+        }
+        for (Map.Entry<String, String> entry
+                : metadata.getWords().entrySet()) {
+            words.addTranslationIfAbsent(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Reads a JSON .dig file, parses the array, and builds its pages.
+     *
+     * @param file the .dig file to import
+     * @return the book built from the file
+     * @throws IOException if file reading fails
+     */
+    private static Book importJson(final File file) throws IOException {
         String content = Files.readString(file.toPath(),
                 StandardCharsets.UTF_8);
 
         JSONArray pagesJson = new JSONArray(content);
         List<Page> pages = new ArrayList<>();
+        TokenTable table = new TokenTable();
 
         for (int i = 0; i < pagesJson.length(); i++) {
             JSONObject pageObj = pagesJson.getJSONObject(i);
@@ -46,14 +132,15 @@ public final class LoadBook {
             String pageContent = pageObj.getString("content");
             boolean translated = pageObj.getBoolean("translated");
 
-            List<String> words = List.of(pageContent.split("\\s+"));
+            List<String> words = Tokenizer.splitWords(pageContent);
             int maxWords = ConfigDataRetriever.getInt("page_length")
                     * ConfigDataRetriever.getInt("page_length");
 
-            Page page = new Page(words, pageNumber, maxWords);
+            Page page = new Page(words, pageNumber, maxWords, table);
             if (translated) {
                 page.translated();
             }
+            page.clearDirty();
             pages.add(page);
         }
 
@@ -0,0 +1,207 @@
+package infrastructure.importer;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reader over the text of a PDF that extracts page ranges in parallel.
+ * <p>
+ * The document is split into fixed-size page ranges, each extracted on a
+ * dedicated fork-join pool. PDFBox documents are not thread-safe, so every
+ * worker thread opens its own handle, backed by temporary files rather
+ * than the heap. Ranges are handed out in order, and only a bounded
+ * number run ahead of the reader, so memory stays proportional to the
+ * look-ahead rather than to the book.
+ * </p>
+ */
+public final class ParallelPdfReader extends Reader {
+
+    /** Time allowed for workers to stop when the reader is closed. */
+    private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+    /** The PDF file. */
+    private final File file;
+
+    /** Number of pages in the document. */
+    private final int pageCount;
+
+    /** Pages per extraction range. */
+    private final int rangeSize;
+
+    /** Maximum number of ranges extracted ahead of the reader. */
+    private final int lookahead;
+
+    /** Pool running the extractions. */
+    private final ForkJoinPool pool;
+
+    /** Each worker thread's own document handle. */
+    private final ThreadLocal<PDDocument> handles = new ThreadLocal<>();
+
+    /** Every handle opened, so they can be closed together. */
+    private final Queue<PDDocument> opened = new ConcurrentLinkedQueue<>();
+
+    /** Extractions in flight, in page order. */
+    private final Deque<ForkJoinTask<String>> pending = new ArrayDeque<>();
+
+    /** First page of the next range to submit. */
+    private int nextStart = 1;
+
+    /** Text of the range being read. */
+    private String buffer = "";
+
+    /** Read position in {@link #buffer}. */
+    private int position;
+
+    /**
+     * Starts extracting the first ranges of a PDF.
+     *
+     * @param pdf     the PDF file
+     * @param pages   the number of pages in the document
+     * @param perTask pages per extraction range
+     * @param threads number of worker threads
+     */
+    public ParallelPdfReader(final File pdf, final int pages,
+                             final int perTask, final int threads) {
+        this.file = pdf;
+        this.pageCount = pages;
+        this.rangeSize = Math.max(1, perTask);
+        this.lookahead = Math.max(1, threads) * 2;
+        this.pool = new ForkJoinPool(Math.max(1, threads));
+        while (pending.size() < lookahead && submitNext()) {
+            // Fill the look-ahead window
+        }
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len)
+            throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (position >= buffer.length()) {
+            final ForkJoinTask<String> next = pending.poll();
+            if (next == null) {
+                return -1;
+            }
+            buffer = await(next);
+            position = 0;
+            submitNext();
+        }
+        final int count = Math.min(len, buffer.length() - position);
+        buffer.getChars(position, position + count, cbuf, off);
+        position += count;
+        return count;
+    }
+
+    /**
+     * Stops the workers and closes every document handle.
+     *
+     * @throws IOException if a handle cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        for (ForkJoinTask<String> task : pending) {
+            task.cancel(true);
+        }
+        pending.clear();
+        pool.shutdownNow();
+        try {
+            pool.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        IOException failure = null;
+        PDDocument document;
+        while ((document = opened.poll()) != null) {
+            try {
+                document.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Submits the next page range, if any remain.
+     *
+     * @return {@code true} if a range was submitted
+     */
+    private boolean submitNext() {
+        if (nextStart > pageCount) {
+            return false;
+        }
+        final int start = nextStart;
+        final int end = Math.min(pageCount, start + rangeSize - 1);
+        nextStart = end + 1;
+        pending.add(pool.submit(() -> extract(start, end)));
+        return true;
+    }
+
+    /**
+     * Extracts the text of a page range on the calling worker thread.
+     *
+     * @param start first page, inclusive
+     * @param end   last page, inclusive
+     * @return the text of the range
+     * @throws IOException if the document cannot be read
+     */
+    private String extract(final int start, final int end)
+            throws IOException {
+        PDDocument document = handles.get();
+        if (document == null) {
+            document = PDDocument.load(file,
+                    MemoryUsageSetting.setupTempFileOnly());
+            opened.add(document);
+            handles.set(document);
+        }
+        final PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setStartPage(start);
+        stripper.setEndPage(end);
+        return stripper.getText(document);
+    }
+
+    /**
+     * Waits for a range and unwraps its failure.
+     *
+     * @param task the extraction
+     * @return the extracted text
+     * @throws IOException if extraction failed or the wait was interrupted
+     */
+    private static String await(final ForkJoinTask<String> task)
+            throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("PDF extraction interrupted");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new IOException("Failed to extract PDF text", cause);
+        }
+    }
+}
@@ -1,29 +1,51 @@
 package infrastructure.importer;
 
 import domain.gateway.BookImporter;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 
 /**
  * PDF importer implementation using Apache PDFBox.
+ * <p>
+ * Documents are opened with temporary-file buffering so large PDFs do not
+ * load into the heap. Short documents are read one page at a time on the
+ * calling thread; longer ones are split into page ranges and extracted in
+ * parallel by a {@link ParallelPdfReader}.
+ * </p>
  */
 public class PdfBookImporter implements BookImporter {
 
+    /** Smallest page count read in parallel. */
+    public static final int PARALLEL_MIN_PAGES = 32;
+
+    /** Pages extracted by each parallel task. */
+    public static final int PAGES_PER_RANGE = 8;
+
+    /** Upper bound on parallel extraction threads. */
+    private static final int MAX_THREADS = 4;
+
     /**
-     * Parses a PDF file and extracts its text content.
+     * Opens a PDF file and streams its text in page order.
      *
      * @param file the PDF file to import
-     * @return the extracted text content
+     * @return a reader over the extracted text
      * @throws IOException if an error occurs during parsing
      */
     @Override
-    public String importBook(final File file) throws IOException {
-        try (PDDocument document = PDDocument.load(file)) {
-            final PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+    public Reader openBook(final File file) throws IOException {
+        final PDDocument document = PDDocument.load(file,
+                MemoryUsageSetting.setupTempFileOnly());
+        final int pages = document.getNumberOfPages();
+        final int threads = Math.min(MAX_THREADS,
+                Runtime.getRuntime().availableProcessors());
+        if (pages < PARALLEL_MIN_PAGES || threads < 2) {
+            return new PdfPageReader(document);
         }
+        document.close();
+        return new ParallelPdfReader(file, pages, PAGES_PER_RANGE, threads);
     }
 }
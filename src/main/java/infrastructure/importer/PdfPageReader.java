@@ -0,0 +1,72 @@
+package infrastructure.importer;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader over the text of a PDF that extracts one PDF page at a time,
+ * so only the current page's text is held in memory.
+ * Closing the reader closes the document.
+ */
+public final class PdfPageReader extends Reader {
+
+    /** The document being read. */
+    private final PDDocument document;
+
+    /** Extracts text from a page range. */
+    private final PDFTextStripper stripper;
+
+    /** Number of pages in the document. */
+    private final int pageCount;
+
+    /** The next PDF page to extract, starting at 1. */
+    private int nextPage = 1;
+
+    /** Text of the current page. */
+    private String buffer = "";
+
+    /** Read position in {@link #buffer}. */
+    private int position;
+
+    /**
+     * Creates a reader over an open document.
+     *
+     * @param doc the document; owned and closed by this reader
+     * @throws IOException if the text stripper cannot be created
+     */
+    public PdfPageReader(final PDDocument doc) throws IOException {
+        this.document = doc;
+        this.stripper = new PDFTextStripper();
+        this.pageCount = doc.getNumberOfPages();
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len)
+            throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (position >= buffer.length()) {
+            if (nextPage > pageCount) {
+                return -1;
+            }
+            stripper.setStartPage(nextPage);
+            stripper.setEndPage(nextPage);
+            buffer = stripper.getText(document);
+            position = 0;
+            nextPage++;
+        }
+        final int count = Math.min(len, buffer.length() - position);
+        buffer.getChars(position, position + count, cbuf, off);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        document.close();
+    }
+}
@@ -4,6 +4,7 @@ import domain.gateway.BookImporter;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 
@@ -13,14 +14,14 @@ import java.nio.file.Files;
 public class TxtBookImporter implements BookImporter {
 
     /**
-     * Reads the content of a UTF-8 encoded TXT file.
+     * Opens a UTF-8 encoded TXT file for buffered reading.
      *
      * @param file the TXT file to import
-     * @return the file content as a string
+     * @return a reader over the file content
      * @throws IOException if an I/O error occurs
      */
     @Override
-    public String importBook(final File file) throws IOException {
-        return Files.readString(file.toPath(), StandardCharsets.UTF_8);
+    public Reader openBook(final File file) throws IOException {
+        return Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
     }
 }
@@ -4,6 +4,10 @@
  * <ul>
  *     <li>{@code PdfBookImporter}
  *    — handles importing text from PDF files</li>
+ *     <li>{@code PdfPageReader}
+ *     — streams PDF text one page at a time</li>
+ *     <li>{@code ParallelPdfReader}
+ *     — extracts PDF page ranges in parallel, in page order</li>
  *     <li>{@code TxtBookImporter}
  *    — handles importing plain text files</li>
  *     <li>{@code EpubBookImporter}
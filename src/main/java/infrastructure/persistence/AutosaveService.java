@@ -0,0 +1,428 @@
+package infrastructure.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import domain.model.Page;
+import domain.model.PageSource;
+
+/**
+ * Saves a book's changed pages in the background.
+ * <p>
+ * Callers report pages as they change; repeated reports of the same page
+ * are coalesced until the next flush. A single daemon thread flushes on a
+ * timer, on request and when the service is closed, writing only pages
+ * still flagged dirty. The first flush writes the whole book to its
+ * {@link DigFile} unless the file already holds it; later flushes append
+ * only the changed records. A timed flush with no reported page and no
+ * change of reading position does nothing. Otherwise the book's
+ * {@link BookMetadata} is built and saved too, and it is rewritten only
+ * when it changed. Each successful flush is reported with the save
+ * file's path, so a library listing can pick up the new state.
+ * </p>
+ * <p>
+ * Closing runs the final flush on the background thread, so callers on
+ * the event thread can use {@link #closeAsync()} instead of waiting. A
+ * service closed while suspended saves once it is resumed, unless it is
+ * {@linkplain #abandon() abandoned}.
+ * </p>
+ */
+public final class AutosaveService implements Closeable {
+
+    /** Default delay between background flushes, in milliseconds. */
+    public static final long DEFAULT_INTERVAL_MS = 5_000;
+
+    /** Time allowed for the final flush when the service is closed. */
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    /** Chooses the save file when it is first written. */
+    private final Supplier<Path> fileChoice;
+
+    /** The book's pages. */
+    private final PageSource source;
+
+    /** Supplies the book's current metadata, or {@code null} for none. */
+    private final Supplier<BookMetadata> metadata;
+
+    /** Told the save file's path after each successful flush. */
+    private final Consumer<Path> saved;
+
+    /** Pages reported since the last flush; guarded by itself. */
+    private final Set<Page> pending =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Single daemon thread that writes the file. */
+    private final ScheduledExecutorService flusher;
+
+    /** Whether the reading position moved since the last flush. */
+    private final AtomicBoolean moved = new AtomicBoolean();
+
+    /** Completes once the final flush ran and the file is closed. */
+    private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
+    /** Whether flushes are held back. */
+    private volatile boolean suspended;
+
+    /** Whether closing was requested; guarded by this. */
+    private boolean closing;
+
+    /** The open save file; only touched on the flusher thread. */
+    private DigFile target;
+
+    /** Path of {@link #target}; only touched on the flusher thread. */
+    private Path targetFile;
+
+    /**
+     * Creates a service that saves a book to the given file.
+     *
+     * @param saveFile   the {@code .dig} file to keep up to date
+     * @param pages      the book's pages
+     * @param intervalMs delay between background flushes, in milliseconds
+     */
+    public AutosaveService(final Path saveFile, final PageSource pages,
+                           final long intervalMs) {
+        this(saveFile, pages, () -> null, intervalMs);
+    }
+
+    /**
+     * Creates a service that saves a book and its metadata to the given
+     * file.
+     *
+     * @param saveFile   the {@code .dig} file to keep up to date
+     * @param pages      the book's pages
+     * @param bookState  supplies the book's current metadata; called on
+     *                   the background thread
+     * @param intervalMs delay between background flushes, in milliseconds
+     */
+    public AutosaveService(final Path saveFile, final PageSource pages,
+                           final Supplier<BookMetadata> bookState,
+                           final long intervalMs) {
+        this(constant(saveFile), pages, bookState, intervalMs);
+    }
+
+    /**
+     * Creates a service that saves a book and its metadata to a file
+     * chosen on the first write, once the whole book is loaded.
+     *
+     * @param saveFile   chooses the {@code .dig} file to keep up to date;
+     *                   called on the background thread until the file
+     *                   is first written
+     * @param pages      the book's pages
+     * @param bookState  supplies the book's current metadata; called on
+     *                   the background thread
+     * @param intervalMs delay between background flushes, in milliseconds
+     */
+    public AutosaveService(final Supplier<Path> saveFile,
+                           final PageSource pages,
+                           final Supplier<BookMetadata> bookState,
+                           final long intervalMs) {
+        this(saveFile, pages, bookState, file -> { }, intervalMs);
+    }
+
+    /**
+     * Creates a service that saves a book and its metadata to a file
+     * chosen on the first write, reporting each successful flush.
+     *
+     * @param saveFile   chooses the {@code .dig} file to keep up to date;
+     *                   called on the background thread until the file
+     *                   is first written
+     * @param pages      the book's pages
+     * @param bookState  supplies the book's current metadata; called on
+     *                   the background thread
+     * @param onSaved    told the save file's path after each successful
+     *                   flush; called on the background thread
+     * @param intervalMs delay between background flushes, in milliseconds
+     */
+    public AutosaveService(final Supplier<Path> saveFile,
+                           final PageSource pages,
+                           final Supplier<BookMetadata> bookState,
+                           final Consumer<Path> onSaved,
+                           final long intervalMs) {
+        this.fileChoice = Objects.requireNonNull(saveFile, "saveFile");
+        this.source = Objects.requireNonNull(pages, "pages");
+        this.metadata = Objects.requireNonNull(bookState, "bookState");
+        this.saved = Objects.requireNonNull(onSaved, "onSaved");
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMs,
+                intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reports that a page changed and should be saved.
+     *
+     * @param page the changed page
+     */
+    public void pageChanged(final Page page) {
+        synchronized (pending) {
+            pending.add(page);
+        }
+    }
+
+    /**
+     * Reports that the reader moved to another page, so the saved
+     * position should be updated on the next flush.
+     */
+    public void positionChanged() {
+        moved.set(true);
+    }
+
+    /**
+     * Holds back flushes, for example while the book is still loading.
+     * Changes keep being collected.
+     */
+    public synchronized void suspend() {
+        suspended = true;
+    }
+
+    /**
+     * Lets flushes run again. If the service was closed meanwhile, the
+     * final flush starts now.
+     */
+    public synchronized void resume() {
+        suspended = false;
+        if (closing) {
+            startClose();
+        }
+    }
+
+    /**
+     * Flushes on the background thread. Unlike a timed flush, this writes
+     * the save file even if no page changed yet.
+     *
+     * @return a future completing with the number of page records
+     *         written, or exceptionally with an
+     *         {@link UncheckedIOException} if writing fails
+     */
+    public CompletableFuture<Integer> flushAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return flush(true);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, flusher);
+    }
+
+    /**
+     * Flushes pending changes and stops the background thread without
+     * waiting. If flushes are suspended, this happens once they are
+     * resumed.
+     *
+     * @return a future completing once the save file is closed, or
+     *         exceptionally with an {@link IOException} if closing it
+     *         fails
+     */
+    public synchronized CompletableFuture<Void> closeAsync() {
+        if (!closing) {
+            closing = true;
+            if (!suspended) {
+                startClose();
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * Stops without saving, for a book that will never finish loading.
+     * Changes still pending are dropped and reported on the error
+     * stream.
+     */
+    public synchronized void abandon() {
+        closing = true;
+        final int dropped;
+        synchronized (pending) {
+            dropped = pending.size();
+            pending.clear();
+        }
+        if (dropped > 0) {
+            System.err.println("Autosave: " + dropped + " changed pages of"
+                    + " an incomplete book were not saved");
+        }
+        suspended = false;
+        startClose();
+    }
+
+    /**
+     * Flushes pending changes and stops the background thread, waiting a
+     * bounded time for the final write. If flushes are suspended, returns
+     * at once and saves once they are resumed.
+     *
+     * @throws IOException if the final write does not finish in time or
+     *                     the save file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        final CompletableFuture<Void> done;
+        synchronized (this) {
+            done = closeAsync();
+            if (suspended) {
+                return;
+            }
+        }
+        try {
+            done.get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("Autosave still writing after "
+                    + CLOSE_TIMEOUT_SECONDS + " s", e);
+        }
+    }
+
+    /**
+     * Queues the final flush and stops the timer. Called at most once
+     * with effect, while holding this service's lock.
+     */
+    private void startClose() {
+        if (!flusher.isShutdown()) {
+            flusher.execute(this::finish);
+            flusher.shutdown();
+        }
+    }
+
+    /**
+     * Runs the final flush and closes the save file, unless the book is
+     * read from that file; its owner closes it. Runs on the flusher
+     * thread.
+     */
+    private void finish() {
+        flushQuietly();
+        try {
+            if (target != null && target != source) {
+                target.close();
+            }
+            closed.complete(null);
+        } catch (IOException | RuntimeException e) {
+            closed.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Writes the pages reported since the last flush that are still
+     * dirty, and the metadata if it changed. Runs on the flusher thread.
+     *
+     * @param force whether to create the save file even if nothing was
+     *              reported
+     * @return the number of page records written
+     * @throws IOException if writing fails; the pages stay pending
+     */
+    private int flush(final boolean force) throws IOException {
+        if (suspended) {
+            return 0;
+        }
+        final List<Page> batch;
+        final boolean wasMoved;
+        synchronized (pending) {
+            if (pending.isEmpty() && !force
+                    && (target == null || !moved.get())) {
+                return 0;
+            }
+            batch = new ArrayList<>(pending);
+            pending.clear();
+            wasMoved = moved.getAndSet(false);
+        }
+
+        final int written;
+        try {
+            final BookMetadata state = metadata.get();
+            if (target == null) {
+                written = openTarget(state) + target.writePages(batch, state);
+            } else {
+                written = target.writePages(batch, state);
+            }
+        } catch (IOException | RuntimeException e) {
+            synchronized (pending) {
+                pending.addAll(batch);
+            }
+            if (wasMoved) {
+                moved.set(true);
+            }
+            throw e;
+        }
+        saved.accept(targetFile);
+        return written;
+    }
+
+    /**
+     * Opens the save file, first bringing it up to date with the whole
+     * book unless the book is read from that file.
+     *
+     * @param state the book's metadata, or {@code null} to keep the saved
+     *              one
+     * @return the number of page records written to bring it up to date
+     * @throws IOException if the file cannot be written or opened
+     */
+    private int openTarget(final BookMetadata state) throws IOException {
+        final Path file = Objects.requireNonNull(fileChoice.get(),
+                "save file");
+        if (source instanceof DigFile
+                && Files.exists(file) && isSourceFile(file)) {
+            target = (DigFile) source;
+            targetFile = file;
+            return 0;
+        }
+        if (Files.notExists(file)) {
+            System.out.println("Autosaving to: " + file);
+        }
+        final int written = DigFile.save(file, source, state);
+        target = DigFile.open(file);
+        targetFile = file;
+        return written;
+    }
+
+    /**
+     * @param file the save file
+     * @return {@code true} if the source is the save file itself
+     * @throws IOException if the paths cannot be compared
+     */
+    private boolean isSourceFile(final Path file) throws IOException {
+        return Files.isSameFile(((DigFile) source).getPath(), file);
+    }
+
+    /**
+     * @param file a file
+     * @return a supplier always choosing that file
+     */
+    private static Supplier<Path> constant(final Path file) {
+        Objects.requireNonNull(file, "saveFile");
+        return () -> file;
+    }
+
+    /**
+     * Flushes from the timer, logging instead of throwing.
+     */
+    private void flushQuietly() {
+        try {
+            flush(false);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Autosave failed: " + e.getMessage());
+        }
+    }
+}
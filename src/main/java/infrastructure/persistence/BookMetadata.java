@@ -0,0 +1,166 @@
+package infrastructure.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Book-level state kept in a {@link DigFile} next to its pages: the
+ * title, the language pair, the reading position and the translations of
+ * the book's words for that pair.
+ */
+public final class BookMetadata {
+
+    /** The book's title. */
+    private final String title;
+
+    /** Language code of the original text. */
+    private final String sourceLanguage;
+
+    /** Language code translated into. */
+    private final String targetLanguage;
+
+    /** Page number the reader was on. */
+    private final int currentPage;
+
+    /** Original word to translation, for the language pair. */
+    private final Map<String, String> words;
+
+    /**
+     * Creates book metadata. The word map is copied.
+     *
+     * @param bookTitle   the book's title
+     * @param source      language code of the original text
+     * @param target      language code translated into
+     * @param pageNumber  page number the reader was on
+     * @param translations original word to translation
+     */
+    public BookMetadata(final String bookTitle, final String source,
+                        final String target, final int pageNumber,
+                        final Map<String, String> translations) {
+        this.title = bookTitle;
+        this.sourceLanguage = source;
+        this.targetLanguage = target;
+        this.currentPage = pageNumber;
+        this.words = new HashMap<>(translations);
+    }
+
+    /**
+     * @return the book's title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return language code of the original text
+     */
+    public String getSourceLanguage() {
+        return sourceLanguage;
+    }
+
+    /**
+     * @return language code translated into
+     */
+    public String getTargetLanguage() {
+        return targetLanguage;
+    }
+
+    /**
+     * @return page number the reader was on
+     */
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    /**
+     * @return original word to translation, unmodifiable
+     */
+    public Map<String, String> getWords() {
+        return Collections.unmodifiableMap(words);
+    }
+
+    /**
+     * Returns this metadata with the words of an older save of the same
+     * language pair added where this one has no translation. Words from
+     * another pair are ignored.
+     *
+     * @param older previously saved metadata
+     * @return the combined metadata, or this one if nothing was added
+     */
+    BookMetadata withWordsFrom(final BookMetadata older) {
+        if (!Objects.equals(sourceLanguage, older.sourceLanguage)
+                || !Objects.equals(targetLanguage, older.targetLanguage)
+                || words.keySet().containsAll(older.words.keySet())) {
+            return this;
+        }
+        final Map<String, String> combined = new HashMap<>(older.words);
+        combined.putAll(words);
+        return new BookMetadata(title, sourceLanguage, targetLanguage,
+                currentPage, combined);
+    }
+
+    /**
+     * Encodes the metadata. Words are written in sorted order, so equal
+     * metadata always encodes to equal bytes.
+     *
+     * @return the encoded bytes
+     * @throws IOException if encoding fails
+     */
+    byte[] encode() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(orEmpty(title));
+            out.writeUTF(orEmpty(sourceLanguage));
+            out.writeUTF(orEmpty(targetLanguage));
+            out.writeInt(currentPage);
+            final Map<String, String> sorted = new TreeMap<>(words);
+            out.writeInt(sorted.size());
+            for (Map.Entry<String, String> entry : sorted.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes metadata written by {@link #encode()}.
+     *
+     * @param bytes     the encoded bytes
+     * @param withWords whether to read the words, or leave them empty
+     * @return the metadata
+     * @throws IOException if the bytes are malformed
+     */
+    static BookMetadata decode(final byte[] bytes, final boolean withWords)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes))) {
+            final String title = in.readUTF();
+            final String source = in.readUTF();
+            final String target = in.readUTF();
+            final int page = in.readInt();
+            final int count = withWords ? in.readInt() : 0;
+            final Map<String, String> words = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                words.put(in.readUTF(), in.readUTF());
+            }
+            return new BookMetadata(title, source, target, page, words);
+        }
+    }
+
+    /**
+     * @param value a string or {@code null}
+     * @return the string, or an empty one for {@code null}
+     */
+    private static String orEmpty(final String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,1128 @@
+package infrastructure.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import domain.model.Page;
+import domain.model.PageIndex;
+import domain.model.PageSource;
+import domain.model.TokenTable;
+
+/**
+ * Binary {@code .dig} save file, read lazily through a memory map.
+ * <p>
+ * Layout: a fixed header, one record per page, a page table and a
+ * {@link BookMetadata} block. The header holds a magic number, the format
+ * version, the page count, the offset of the page table and the offset,
+ * length and CRC-32 of the metadata. Each table entry holds a page number
+ * and the offset, length and CRC-32 of that page's record. A record holds
+ * the page's original words and, once translated, the translation of each
+ * word, so a page reloads exactly as it was saved.
+ * </p>
+ * <p>
+ * Opening a file reads only the header and the table; a page is decoded
+ * when it is asked for and held in a bounded LRU cache. Evicted pages are
+ * only weakly held, so a caller still holding one gets that same instance
+ * back; evicted pages with unsaved changes are kept until they are saved.
+ * Saving appends only the records that
+ * changed, then a new table, and finally points the header at it, so a
+ * crash before the header write leaves the previous save intact. When
+ * superseded records outweigh live ones the file is compacted by writing
+ * a fresh copy and renaming it over the old one. Files are mapped whole,
+ * so a save that would grow past {@value #MAX_FILE_BYTES} bytes is
+ * refused.
+ * </p>
+ */
+public final class DigFile implements PageSource, Closeable {
+
+    /** Default number of decoded pages kept in memory. */
+    public static final int DEFAULT_CACHE_PAGES = 32;
+
+    /** Identifies a binary save file: {@code "DIGB"}. */
+    private static final int MAGIC = 0x44494742;
+
+    /** Current format version. */
+    private static final int VERSION = 2;
+
+    /** Size of the header in bytes. */
+    private static final int HEADER_BYTES = 48;
+
+    /** Largest file that can be mapped and written, in bytes. */
+    private static final long MAX_FILE_BYTES = Integer.MAX_VALUE;
+
+    /** Size of one page table entry in bytes. */
+    private static final int ENTRY_BYTES = 20;
+
+    /** Byte offset of the page count within the header. */
+    private static final int PAGE_COUNT_AT = 8;
+
+    /** Byte offset of the page table offset within the header. */
+    private static final int TABLE_AT = 16;
+
+    /** Byte offset of the metadata offset within the header. */
+    private static final int META_AT = 24;
+
+    /** Record flag: the page is marked translated. */
+    private static final int TRANSLATED = 1;
+
+    /** Record flag: translated words follow the original words. */
+    private static final int REWRITTEN = 2;
+
+    /** Record flag: per-word translations follow the original words. */
+    private static final int WORD_TRANSLATIONS = 4;
+
+    /** The save file. */
+    private final Path path;
+
+    /** Table the decoded pages intern their tokens into. */
+    private final TokenTable table = new TokenTable();
+
+    /** Open channel to the file; guarded by {@code this}. */
+    private FileChannel channel;
+
+    /** Read-only map of the file; guarded by {@code this}. */
+    private MappedByteBuffer map;
+
+    /** Page number of each entry. */
+    private final int[] numbers;
+
+    /** Record offset of each page; guarded by {@code this}. */
+    private final long[] offsets;
+
+    /** Record length of each page; guarded by {@code this}. */
+    private final int[] lengths;
+
+    /** Record checksum of each page; guarded by {@code this}. */
+    private final int[] checksums;
+
+    /** Recently used pages, by index; guarded by {@code this}. */
+    private final Map<Integer, Page> cache;
+
+    /**
+     * Evicted pages that may still be held elsewhere, by index; guarded
+     * by {@code this}.
+     */
+    private final Map<Integer, WeakReference<Page>> released =
+            new HashMap<>();
+
+    /**
+     * Evicted pages with changes not yet saved, by index; guarded by
+     * {@code this}.
+     */
+    private final Map<Integer, Page> unsaved = new HashMap<>();
+
+    /** Offset of the metadata block; guarded by {@code this}. */
+    private long metaOffset;
+
+    /** Length of the metadata block, zero if none; guarded by {@code this}. */
+    private int metaLength;
+
+    /** Checksum of the metadata block; guarded by {@code this}. */
+    private int metaChecksum;
+
+    /** End of the file, where new records go; guarded by {@code this}. */
+    private long end;
+
+    /** Page number lookup, built on first write; guarded by {@code this}. */
+    private PageIndex index;
+
+    /**
+     * Opens a save file and reads its page table.
+     *
+     * @param file       the save file
+     * @param cachePages maximum number of decoded pages kept in memory
+     * @throws IOException if the file cannot be read or is not a binary
+     *                     save file
+     */
+    private DigFile(final Path file, final int cachePages)
+            throws IOException {
+        this.path = file;
+        this.cache = new LinkedHashMap<>(cachePages, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<Integer, Page> eldest) {
+                if (size() <= cachePages) {
+                    return false;
+                }
+                release(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+        mapFile();
+        if (map.capacity() < HEADER_BYTES || map.getInt(0) != MAGIC) {
+            channel.close();
+            throw new IOException("Not a binary save file: " + file);
+        }
+
+        final int count = map.getInt(PAGE_COUNT_AT);
+        this.numbers = new int[count];
+        this.offsets = new long[count];
+        this.lengths = new int[count];
+        this.checksums = new int[count];
+        try {
+            readHeader();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a binary save file. Only the header and page table are read.
+     *
+     * @param file the save file
+     * @return the file as a page source
+     * @throws IOException if the file cannot be read or is not a binary
+     *                     save file
+     */
+    public static DigFile open(final Path file) throws IOException {
+        return open(file, DEFAULT_CACHE_PAGES);
+    }
+
+    /**
+     * Opens a binary save file, keeping at most the given number of
+     * decoded pages in memory. Only the header and page table are read.
+     *
+     * @param file       the save file
+     * @param cachePages maximum number of decoded pages kept in memory
+     * @return the file as a page source
+     * @throws IOException if the file cannot be read or is not a binary
+     *                     save file
+     */
+    public static DigFile open(final Path file, final int cachePages)
+            throws IOException {
+        if (cachePages < 1) {
+            throw new IllegalArgumentException(
+                    "cachePages must be positive: " + cachePages);
+        }
+        return new DigFile(file, cachePages);
+    }
+
+    /**
+     * Tells whether a file starts with the binary save header, as opposed
+     * to the older JSON format.
+     *
+     * @param file the file to check
+     * @return {@code true} if it is a binary save file
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean isDigFile(final Path file) throws IOException {
+        try (FileChannel in = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            final ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && in.read(magic) >= 0) {
+                // Read until the magic number is complete or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Saves a book's pages to a file, keeping any metadata already there.
+     *
+     * @param file   the save file
+     * @param source the pages to save
+     * @return the number of page records written
+     * @throws IOException if the file cannot be written
+     * @see #save(Path, PageSource, BookMetadata)
+     */
+    public static int save(final Path file, final PageSource source)
+            throws IOException {
+        return save(file, source, null);
+    }
+
+    /**
+     * Saves a book's pages and metadata to a file, rewriting only what
+     * changed.
+     * <p>
+     * If the file is already a binary save of the same pages, only
+     * records whose bytes differ are appended. When the pages are read
+     * from that same file, only decoded pages flagged dirty are written.
+     * Otherwise the file is written in full.
+     * </p>
+     *
+     * @param file     the save file
+     * @param source   the pages to save
+     * @param metadata the book's metadata, or {@code null} to keep what
+     *                 the file already has
+     * @return the number of page records written
+     * @throws IOException if the file cannot be written
+     */
+    public static int save(final Path file, final PageSource source,
+                           final BookMetadata metadata)
+            throws IOException {
+        if (source instanceof DigFile
+                && ((DigFile) source).path.equals(file)) {
+            return ((DigFile) source).saveChanges(metadata);
+        }
+        BookMetadata kept = metadata;
+        if (Files.exists(file) && isDigFile(file)) {
+            try (DigFile existing = open(file)) {
+                if (existing.samePages(source)) {
+                    return existing.saveChanges(source, metadata);
+                }
+                if (kept == null) {
+                    kept = existing.getMetadata();
+                }
+            }
+        }
+        writeFull(file, source, kept == null ? null : kept.encode());
+        return source.size();
+    }
+
+    /**
+     * Tells whether this file is a save of the given book: the page
+     * numbering and the words of the first page must match, so a
+     * different book with the same title is not mistaken for it.
+     *
+     * @param source the book's pages
+     * @return {@code true} if saving the book here keeps its own pages
+     */
+    public synchronized boolean holds(final PageSource source) {
+        if (source == this) {
+            return true;
+        }
+        if (!samePages(source)) {
+            return false;
+        }
+        return numbers.length == 0 || get(0).getOriginalWords()
+                .equals(source.get(0).getOriginalWords());
+    }
+
+    /**
+     * @return the save file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Reads the book's metadata.
+     *
+     * @return the metadata, or {@code null} if the file has none
+     * @throws IOException if the metadata is malformed
+     */
+    public synchronized BookMetadata getMetadata() throws IOException {
+        return readMetadata(true);
+    }
+
+    /**
+     * Reads the book's metadata without its translated words, for
+     * listings that only show the title and position.
+     *
+     * @return the metadata with no words, or {@code null} if the file
+     *         has none
+     * @throws IOException if the metadata is malformed
+     */
+    public synchronized BookMetadata getSummary() throws IOException {
+        return readMetadata(false);
+    }
+
+    /**
+     * Counts the pages saved as translated. Only the flag of each record
+     * is read; no page is decoded.
+     *
+     * @return the number of translated pages
+     */
+    public synchronized int countTranslated() {
+        int count = 0;
+        for (int i = 0; i < numbers.length; i++) {
+            remapIfShort(offsets[i] + lengths[i]);
+            // The flag byte follows the page number and max words
+            if ((map.get((int) offsets[i] + 2 * Integer.BYTES)
+                    & TRANSLATED) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int size() {
+        return numbers.length;
+    }
+
+    @Override
+    public int pageNumberAt(final int index) {
+        return numbers[index];
+    }
+
+    @Override
+    public synchronized Page get(final int index) {
+        Objects.checkIndex(index, numbers.length);
+        Page page = cache.get(index);
+        if (page == null) {
+            final WeakReference<Page> held = released.remove(index);
+            page = held == null ? unsaved.remove(index) : held.get();
+            if (page == null) {
+                page = decode(record(index), table);
+            }
+            cache.put(index, page);
+        }
+        return page;
+    }
+
+    /**
+     * @return the number of decoded pages in the cache
+     */
+    public synchronized int cachedPages() {
+        return cache.size();
+    }
+
+    /**
+     * Moves an evicted page out of the cache: a page with unsaved
+     * changes is kept until it is saved, any other is only weakly held.
+     * Weakly held pages that changed since are kept the same way, and
+     * pages nobody holds any more are forgotten.
+     *
+     * @param index the evicted page's position
+     * @param page  the evicted page
+     */
+    private void release(final int index, final Page page) {
+        if (page.isDirty()) {
+            unsaved.put(index, page);
+        } else {
+            released.put(index, new WeakReference<>(page));
+        }
+        final Iterator<Map.Entry<Integer, WeakReference<Page>>> it =
+                released.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<Integer, WeakReference<Page>> entry = it.next();
+            final Page held = entry.getValue().get();
+            if (held == null) {
+                it.remove();
+            } else if (held.isDirty()) {
+                unsaved.put(entry.getKey(), held);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Releases the file. Pages already decoded stay usable.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        map = null;
+        channel.close();
+    }
+
+    /**
+     * Appends the records of the given pages that have unsaved changes,
+     * and the metadata if it changed. Each page is matched to its entry
+     * by page number; clean pages are skipped, so callers may pass every
+     * page they have seen.
+     *
+     * @param changed  pages that may have changed
+     * @param metadata the book's metadata, or {@code null} to keep the
+     *                 saved one
+     * @return the number of page records written
+     * @throws IOException if a page is not in this file or the file cannot
+     *                     be written; the pages stay dirty
+     */
+    public synchronized int writePages(final Collection<Page> changed,
+                                       final BookMetadata metadata)
+            throws IOException {
+        if (index == null) {
+            index = new PageIndex(this);
+        }
+        final byte[][] records = new byte[numbers.length][];
+        final List<Page> cleared = new ArrayList<>();
+        try {
+            for (Page page : changed) {
+                final int at = index.indexOf(page.getPageNumber());
+                if (at < 0) {
+                    throw new IOException("Page " + page.getPageNumber()
+                            + " is not in " + path);
+                }
+                if (page.clearDirty()) {
+                    cleared.add(page);
+                    records[at] = encode(page);
+                }
+            }
+            final int written = appendChanged(records,
+                    encodeMetadata(metadata));
+            unsaved.values().removeIf(page -> !page.isDirty());
+            return written;
+        } catch (IOException e) {
+            cleared.forEach(Page::markDirty);
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the records of decoded pages that changed since the file
+     * was opened or last saved.
+     *
+     * @param metadata the book's metadata, or {@code null} to keep the
+     *                 saved one
+     * @return the number of page records written
+     * @throws IOException if the file cannot be written
+     */
+    private synchronized int saveChanges(final BookMetadata metadata)
+            throws IOException {
+        final List<Page> decoded = new ArrayList<>(cache.values());
+        decoded.addAll(unsaved.values());
+        for (WeakReference<Page> held : released.values()) {
+            final Page page = held.get();
+            if (page != null) {
+                decoded.add(page);
+            }
+        }
+        return writePages(decoded, metadata);
+    }
+
+    /**
+     * Appends the records of pages in another source that differ from
+     * this file.
+     *
+     * @param source   pages with the same numbering as this file
+     * @param metadata the book's metadata, or {@code null} to keep the
+     *                 saved one
+     * @return the number of page records written
+     * @throws IOException if the file cannot be written
+     */
+    private synchronized int saveChanges(final PageSource source,
+                                         final BookMetadata metadata)
+            throws IOException {
+        final byte[][] records = new byte[numbers.length][];
+        final List<Page> cleared = new ArrayList<>();
+        try {
+            for (int i = 0; i < numbers.length; i++) {
+                final Page page = source.get(i);
+                if (page.clearDirty()) {
+                    cleared.add(page);
+                }
+                records[i] = encode(page);
+            }
+            return appendChanged(records,
+                    encodeMetadata(metadata));
+        } catch (IOException e) {
+            cleared.forEach(Page::markDirty);
+            throw e;
+        }
+    }
+
+    /**
+     * Encodes metadata to save. Words in the saved metadata that the new
+     * one lacks are kept, since callers only know the words of the pages
+     * read so far.
+     *
+     * @param metadata the book's metadata, or {@code null} to keep the
+     *                 saved one
+     * @return the bytes to save, or {@code null} to keep the saved ones
+     * @throws IOException if the saved metadata is malformed
+     */
+    private byte[] encodeMetadata(final BookMetadata metadata)
+            throws IOException {
+        if (metadata == null) {
+            return null;
+        }
+        final BookMetadata saved = readMetadata(true);
+        return (saved == null ? metadata : metadata.withWordsFrom(saved))
+                .encode();
+    }
+
+    /**
+     * Appends every record that differs from the one on disk and the
+     * metadata if it differs, then a new page table, then points the
+     * header at them. Compacts the file afterwards if it has become mostly
+     * superseded records. If anything
+     * fails before the header is written, the in-memory table is put back
+     * as it was, so a retry compares against what is really on disk.
+     *
+     * @param records new record bytes by index; {@code null} if unchanged
+     * @param meta    new metadata bytes; {@code null} if unchanged
+     * @return the number of page records written
+     * @throws IOException if the file cannot be written
+     */
+    private int appendChanged(final byte[][] records, final byte[] meta)
+            throws IOException {
+        final long[] savedOffsets = offsets.clone();
+        final int[] savedLengths = lengths.clone();
+        final int[] savedChecksums = checksums.clone();
+        final long savedMetaOffset = metaOffset;
+        final int savedMetaLength = metaLength;
+        final int savedMetaChecksum = metaChecksum;
+
+        int written = 0;
+        try {
+            for (int i = 0; i < records.length; i++) {
+                final byte[] record = records[i];
+                if (record == null || (record.length == lengths[i]
+                        && checksum(record) == checksums[i])) {
+                    continue;
+                }
+                offsets[i] = write(record, end);
+                lengths[i] = record.length;
+                checksums[i] = checksum(record);
+                written++;
+            }
+            final boolean metaChanged = meta != null
+                    && (meta.length != metaLength
+                    || checksum(meta) != metaChecksum);
+            if (written == 0 && !metaChanged) {
+                return 0;
+            }
+            if (metaChanged) {
+                metaOffset = write(meta, end);
+                metaLength = meta.length;
+                metaChecksum = checksum(meta);
+            }
+
+            final long tableAt = end;
+            write(tableBytes(numbers, offsets, lengths, checksums),
+                    tableAt);
+            channel.force(false);
+            write(header(numbers.length, tableAt, metaOffset, metaLength,
+                    metaChecksum), 0);
+            channel.force(false);
+        } catch (IOException e) {
+            System.arraycopy(savedOffsets, 0, offsets, 0, offsets.length);
+            System.arraycopy(savedLengths, 0, lengths, 0, lengths.length);
+            System.arraycopy(savedChecksums, 0, checksums, 0,
+                    checksums.length);
+            metaOffset = savedMetaOffset;
+            metaLength = savedMetaLength;
+            metaChecksum = savedMetaChecksum;
+            throw e;
+        }
+
+        long live = metaLength;
+        for (int length : lengths) {
+            live += length;
+        }
+        if (end - HEADER_BYTES - (long) ENTRY_BYTES * numbers.length
+                > live * 2) {
+            compact();
+        }
+        return written;
+    }
+
+    /**
+     * Rewrites the file without superseded records and reopens it. The
+     * live records are copied as they are, so no page is decoded and
+     * pages with unsaved changes stay unsaved.
+     *
+     * @throws IOException if the file cannot be rewritten
+     */
+    private void compact() throws IOException {
+        final byte[] meta;
+        if (metaLength == 0) {
+            meta = null;
+        } else {
+            remapIfShort(metaOffset + metaLength);
+            meta = new byte[metaLength];
+            map.duplicate().position((int) metaOffset).get(meta);
+        }
+        writeFull(path, numbers, index -> {
+            final ByteBuffer record = record(index);
+            final byte[] bytes = new byte[record.remaining()];
+            record.get(bytes);
+            return bytes;
+        }, meta);
+        channel.close();
+        mapFile();
+        readHeader();
+    }
+
+    /**
+     * Reads the metadata block.
+     *
+     * @param withWords whether to read the translated words
+     * @return the metadata, or {@code null} if the file has none
+     * @throws IOException if the metadata is malformed
+     */
+    private BookMetadata readMetadata(final boolean withWords)
+            throws IOException {
+        if (metaLength == 0) {
+            return null;
+        }
+        remapIfShort(metaOffset + metaLength);
+        final byte[] bytes = new byte[metaLength];
+        map.duplicate().position((int) metaOffset).get(bytes);
+        return BookMetadata.decode(bytes, withWords);
+    }
+
+    /**
+     * Opens the file for reading and writing and maps its current bytes.
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    private void mapFile() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        end = channel.size();
+        if (end > MAX_FILE_BYTES) {
+            channel.close();
+            throw new IOException("Save file too large: " + path);
+        }
+        map = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+    }
+
+    /**
+     * Reads the version, the metadata location and the page table.
+     *
+     * @throws IOException if the header or table is malformed
+     */
+    private void readHeader() throws IOException {
+        final int version = map.getInt(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version
+                    + ": " + path);
+        }
+        if (map.getInt(PAGE_COUNT_AT) != numbers.length) {
+            throw new IOException("Page count changed: " + path);
+        }
+        metaOffset = map.getLong(META_AT);
+        metaLength = map.getInt(META_AT + Long.BYTES);
+        metaChecksum = map.getInt(META_AT + Long.BYTES + Integer.BYTES);
+        if (metaOffset < 0 || metaLength < 0
+                || metaOffset + metaLength > map.capacity()) {
+            throw new IOException("Corrupt metadata: " + path);
+        }
+        readTable(map.getLong(TABLE_AT));
+    }
+
+    /**
+     * Loads the page table into the index arrays.
+     *
+     * @param tableAt offset of the page table
+     * @throws IOException if the table does not fit in the file
+     */
+    private void readTable(final long tableAt) throws IOException {
+        final int count = numbers.length;
+        if (tableAt < HEADER_BYTES
+                || tableAt + (long) ENTRY_BYTES * count > map.capacity()) {
+            throw new IOException("Corrupt page table: " + path);
+        }
+        final ByteBuffer entries = map.duplicate();
+        entries.position((int) tableAt);
+        for (int i = 0; i < count; i++) {
+            numbers[i] = entries.getInt();
+            offsets[i] = entries.getLong();
+            lengths[i] = entries.getInt();
+            checksums[i] = entries.getInt();
+            if (offsets[i] < HEADER_BYTES || lengths[i] < 0
+                    || offsets[i] + lengths[i] > tableAt) {
+                throw new IOException("Corrupt page table: " + path);
+            }
+        }
+    }
+
+    /**
+     * Returns a page's record.
+     *
+     * @param index the page position
+     * @return the record bytes
+     */
+    private ByteBuffer record(final int index) {
+        remapIfShort(offsets[index] + lengths[index]);
+        final ByteBuffer record = map.duplicate();
+        record.position((int) offsets[index]);
+        record.limit((int) offsets[index] + lengths[index]);
+        return record.slice();
+    }
+
+    /**
+     * Remaps the file if bytes up to a position were appended after it
+     * was mapped.
+     *
+     * @param needed the position that must be mapped
+     */
+    private void remapIfShort(final long needed) {
+        if (needed > map.capacity()) {
+            try {
+                map = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes bytes at a position, moving the end of file if they pass it.
+     *
+     * @param bytes    the bytes
+     * @param position where to write them
+     * @return the position they were written at
+     * @throws IOException if writing fails
+     */
+    private long write(final byte[] bytes, final long position)
+            throws IOException {
+        if (position + bytes.length > MAX_FILE_BYTES) {
+            throw new IOException("Save file would exceed "
+                    + MAX_FILE_BYTES + " bytes: " + path);
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+        end = Math.max(end, at);
+        return position;
+    }
+
+    /**
+     * Tells whether a source has exactly this file's page numbers.
+     *
+     * @param source the pages to compare
+     * @return {@code true} if the numbering matches
+     */
+    private boolean samePages(final PageSource source) {
+        if (source.size() != numbers.length) {
+            return false;
+        }
+        for (int i = 0; i < numbers.length; i++) {
+            if (source.pageNumberAt(i) != numbers[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a complete save file of a book's pages. The pages' unsaved
+     * changes flags are cleared, and set again if writing fails.
+     *
+     * @param file   the save file
+     * @param source the pages to save
+     * @param meta   the metadata bytes, or {@code null} for none
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeFull(final Path file, final PageSource source,
+                                  final byte[] meta) throws IOException {
+        final int[] numbers = new int[source.size()];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = source.pageNumberAt(i);
+        }
+        final List<Page> cleared = new ArrayList<>();
+        try {
+            writeFull(file, numbers, index -> {
+                final Page page = source.get(index);
+                if (page.clearDirty()) {
+                    cleared.add(page);
+                }
+                return encode(page);
+            }, meta);
+        } catch (IOException e) {
+            cleared.forEach(Page::markDirty);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a complete save file next to the target and renames it into
+     * place, so readers never see a partial file.
+     *
+     * @param file    the save file
+     * @param numbers page number of each record
+     * @param records supplies each record's bytes, in page order
+     * @param meta    the metadata bytes, or {@code null} for none
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeFull(final Path file, final int[] numbers,
+                                  final Records records,
+                                  final byte[] meta) throws IOException {
+        final int count = numbers.length;
+        final long[] offsets = new long[count];
+        final int[] lengths = new int[count];
+        final int[] checksums = new int[count];
+
+        final Path folder = file.toAbsolutePath().getParent();
+        Files.createDirectories(folder);
+        final Path temp = Files.createTempFile(folder, ".dig-", ".tmp");
+        try {
+            long position = HEADER_BYTES;
+            try (OutputStream out = new BufferedOutputStream(
+                    Files.newOutputStream(temp))) {
+                out.write(new byte[HEADER_BYTES]);
+                for (int i = 0; i < count; i++) {
+                    final byte[] record = records.get(i);
+                    if (position + record.length > MAX_FILE_BYTES) {
+                        throw new IOException("Save file would exceed "
+                                + MAX_FILE_BYTES + " bytes: " + file);
+                    }
+                    offsets[i] = position;
+                    lengths[i] = record.length;
+                    checksums[i] = checksum(record);
+                    out.write(record);
+                    position += record.length;
+                }
+                if (position + (long) ENTRY_BYTES * count
+                        + (meta == null ? 0 : meta.length)
+                        > MAX_FILE_BYTES) {
+                    throw new IOException("Save file would exceed "
+                            + MAX_FILE_BYTES + " bytes: " + file);
+                }
+                out.write(tableBytes(numbers, offsets, lengths, checksums));
+                if (meta != null) {
+                    out.write(meta);
+                }
+            }
+            final long metaAt = position + (long) ENTRY_BYTES * count;
+            try (FileChannel out = FileChannel.open(temp,
+                    StandardOpenOption.WRITE)) {
+                final ByteBuffer header = ByteBuffer.wrap(meta == null
+                        ? header(count, position, 0, 0, 0)
+                        : header(count, position, metaAt, meta.length,
+                        checksum(meta)));
+                while (header.hasRemaining()) {
+                    out.write(header, header.position());
+                }
+                out.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Supplies the bytes of each page record when a file is written. */
+    @FunctionalInterface
+    private interface Records {
+        /**
+         * @param index the page position
+         * @return the record bytes
+         * @throws IOException if the record cannot be produced
+         */
+        byte[] get(int index) throws IOException;
+    }
+
+    /**
+     * Builds a header pointing at a page table and a metadata block.
+     *
+     * @param count        number of pages
+     * @param tableAt      offset of the page table
+     * @param metaAt       offset of the metadata
+     * @param metaBytes    length of the metadata, zero for none
+     * @param metaChecksum checksum of the metadata
+     * @return the header bytes
+     */
+    private static byte[] header(final int count, final long tableAt,
+                                 final long metaAt, final int metaBytes,
+                                 final int metaChecksum) {
+        return ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(count)
+                .putInt(0)
+                .putLong(tableAt)
+                .putLong(metaAt)
+                .putInt(metaBytes)
+                .putInt(metaChecksum)
+                .array();
+    }
+
+    /**
+     * Builds a page table.
+     *
+     * @param numbers   page number of each entry
+     * @param offsets   record offset of each entry
+     * @param lengths   record length of each entry
+     * @param checksums record checksum of each entry
+     * @return the table bytes
+     */
+    private static byte[] tableBytes(final int[] numbers,
+                                     final long[] offsets,
+                                     final int[] lengths,
+                                     final int[] checksums) {
+        final ByteBuffer out =
+                ByteBuffer.allocate(ENTRY_BYTES * numbers.length);
+        for (int i = 0; i < numbers.length; i++) {
+            out.putInt(numbers[i])
+                    .putLong(offsets[i])
+                    .putInt(lengths[i])
+                    .putInt(checksums[i]);
+        }
+        return out.array();
+    }
+
+    /**
+     * Encodes a page as a record: page number, max words, flags, the
+     * original words and then either each word's translation or, if the
+     * page was rewritten as a whole, its translated words. Each word list
+     * is a count followed by length-prefixed UTF-8 words.
+     *
+     * @param page the page
+     * @return the record bytes
+     * @throws IOException if encoding fails
+     */
+    private static byte[] encode(final Page page) throws IOException {
+        final List<String> original = page.getOriginalWords();
+        final List<String> shown = page.getWords();
+        final boolean perWord = page.hasWordTranslations();
+        final boolean rewritten = !perWord && !shown.equals(original);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(page.getPageNumber());
+            out.writeInt(page.getMaxWords());
+            out.writeByte((page.isTranslated() ? TRANSLATED : 0)
+                    | (rewritten ? REWRITTEN : 0)
+                    | (perWord ? WORD_TRANSLATIONS : 0));
+            writeWords(out, original);
+            if (perWord) {
+                writeTranslations(out, page);
+            } else if (rewritten) {
+                writeWords(out, shown);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a record. The page comes back clean.
+     *
+     * @param record the record bytes
+     * @param tokens the token table for the page
+     * @return the page
+     */
+    private static Page decode(final ByteBuffer record,
+                               final TokenTable tokens) {
+        final int number = record.getInt();
+        final int maxWords = record.getInt();
+        final int flags = record.get();
+        final Page page = new Page(readWords(record), number, maxWords,
+                tokens);
+        if ((flags & WORD_TRANSLATIONS) != 0) {
+            readTranslations(record, page);
+        } else if ((flags & REWRITTEN) != 0) {
+            page.rewriteTranslatedContent(readWords(record));
+        } else if ((flags & TRANSLATED) != 0) {
+            page.translated();
+        }
+        page.clearDirty();
+        return page;
+    }
+
+    /**
+     * Writes a count followed by length-prefixed UTF-8 words.
+     *
+     * @param out   the output
+     * @param words the words
+     * @throws IOException if writing fails
+     */
+    private static void writeWords(final DataOutputStream out,
+                                   final List<String> words)
+            throws IOException {
+        out.writeInt(words.size());
+        for (String word : words) {
+            final byte[] utf8 = word.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    /**
+     * Writes each word's translation and transliteration. An untranslated
+     * word is a length of {@code -1}; a translated one is its
+     * length-prefixed UTF-8 translation followed by its transliteration.
+     *
+     * @param out  the output
+     * @param page a page with per-word translations
+     * @throws IOException if writing fails
+     */
+    private static void writeTranslations(final DataOutputStream out,
+                                          final Page page)
+            throws IOException {
+        for (int i = 0; i < page.getWordCount(); i++) {
+            final String translation = page.getTranslation(i);
+            if (translation == null) {
+                out.writeInt(-1);
+                continue;
+            }
+            for (String text : new String[] {translation,
+                    page.getTransliteration(i)}) {
+                final byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            }
+        }
+    }
+
+    /**
+     * Reads translations written by {@link #writeTranslations} and
+     * applies them to the page.
+     *
+     * @param in   the record
+     * @param page the page built from the record's original words
+     */
+    private static void readTranslations(final ByteBuffer in,
+                                         final Page page) {
+        final int count = page.getWordCount();
+        final String[] translations = new String[count];
+        final String[] transliterations = new String[count];
+        for (int i = 0; i < count; i++) {
+            final int length = in.getInt();
+            if (length < 0) {
+                continue;
+            }
+            final byte[] utf8 = new byte[length];
+            in.get(utf8);
+            translations[i] = new String(utf8, StandardCharsets.UTF_8);
+            final byte[] shown = new byte[in.getInt()];
+            in.get(shown);
+            transliterations[i] = new String(shown, StandardCharsets.UTF_8);
+        }
+        page.applyTranslations(translations, transliterations);
+    }
+
+    /**
+     * Reads a word list written by {@link #writeWords}.
+     *
+     * @param in the record
+     * @return the words
+     */
+    private static List<String> readWords(final ByteBuffer in) {
+        final int count = in.getInt();
+        final List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final byte[] utf8 = new byte[in.getInt()];
+            in.get(utf8);
+            words.add(new String(utf8, StandardCharsets.UTF_8));
+        }
+        return words;
+    }
+
+    /**
+     * @param record record bytes
+     * @return their CRC-32
+     */
+    private static int checksum(final byte[] record) {
+        final CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,141 @@
+package infrastructure.persistence;
+
+/**
+ * What the library lists for one saved book: its title, language pair and
+ * reading progress, plus the size and modification time of the save file
+ * the entry was read from.
+ */
+public final class LibraryEntry {
+
+    /** Name of the save file within the saves directory. */
+    private final String fileName;
+
+    /** The book's title. */
+    private final String title;
+
+    /** Language code of the original text, empty if unknown. */
+    private final String sourceLanguage;
+
+    /** Language code translated into, empty if unknown. */
+    private final String targetLanguage;
+
+    /** Number of pages in the book. */
+    private final int pageCount;
+
+    /** Page number the reader was on. */
+    private final int currentPage;
+
+    /** Number of pages already translated. */
+    private final int translatedPages;
+
+    /** Size of the save file when the entry was read. */
+    private final long fileSize;
+
+    /** Modification time of the save file, in milliseconds. */
+    private final long modified;
+
+    /**
+     * Creates a library entry.
+     *
+     * @param file       name of the save file
+     * @param bookTitle  the book's title
+     * @param source     language code of the original text
+     * @param target     language code translated into
+     * @param pages      number of pages
+     * @param page       page number the reader was on
+     * @param translated number of translated pages
+     * @param size       size of the save file
+     * @param modifiedAt modification time of the save file, in
+     *                   milliseconds
+     */
+    public LibraryEntry(final String file, final String bookTitle,
+                        final String source, final String target,
+                        final int pages, final int page,
+                        final int translated, final long size,
+                        final long modifiedAt) {
+        this.fileName = file;
+        this.title = bookTitle;
+        this.sourceLanguage = source;
+        this.targetLanguage = target;
+        this.pageCount = pages;
+        this.currentPage = page;
+        this.translatedPages = translated;
+        this.fileSize = size;
+        this.modified = modifiedAt;
+    }
+
+    /**
+     * @return name of the save file within the saves directory
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * @return the book's title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return language code of the original text, empty if unknown
+     */
+    public String getSourceLanguage() {
+        return sourceLanguage;
+    }
+
+    /**
+     * @return language code translated into, empty if unknown
+     */
+    public String getTargetLanguage() {
+        return targetLanguage;
+    }
+
+    /**
+     * @return number of pages in the book
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * @return page number the reader was on
+     */
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    /**
+     * @return number of pages already translated
+     */
+    public int getTranslatedPages() {
+        return translatedPages;
+    }
+
+    /**
+     * @return size of the save file when the entry was read
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * @return modification time of the save file, in milliseconds
+     */
+    public long getModified() {
+        return modified;
+    }
+
+    /**
+     * Tells whether the entry still describes a file, judged by its size
+     * and modification time.
+     *
+     * @param size       the file's current size
+     * @param modifiedAt the file's current modification time
+     * @return {@code true} if the entry is up to date
+     */
+    boolean matches(final long size, final long modifiedAt) {
+        return fileSize == size && modified == modifiedAt;
+    }
+}
@@ -0,0 +1,449 @@
+package infrastructure.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+
+/**
+ * Index of the books in a saves directory, kept in a small file next to
+ * them so the library can be listed without opening every save.
+ * <p>
+ * Each entry remembers the size and modification time of the file it was
+ * read from. Listing compares those against the directory and rereads
+ * only files that changed, were added or were removed; the index file is
+ * rewritten only when an entry changed. Savers can report a file they
+ * wrote with {@link #update(Path)}, and {@link #watch(Consumer)} keeps
+ * the index current while the library is on screen.
+ * </p>
+ */
+public final class LibraryIndex implements Closeable {
+
+    /** Name of the index file within the saves directory. */
+    public static final String INDEX_NAME = "library.idx";
+
+    /** Identifies an index file: {@code "DIGL"}. */
+    private static final int MAGIC = 0x4449474C;
+
+    /** Current index file version. */
+    private static final int VERSION = 1;
+
+    /** Extension of save files. */
+    private static final String SAVE_EXTENSION = ".dig";
+
+    /** The saves directory. */
+    private final Path directory;
+
+    /** The index file. */
+    private final Path indexFile;
+
+    /** Entries by file name; guarded by {@code this}. */
+    private final Map<String, LibraryEntry> entries = new HashMap<>();
+
+    /** Whether entries changed since the index was written. */
+    private boolean changed;
+
+    /** Watch service of the running watcher, or {@code null}. */
+    private WatchService watcher;
+
+    /**
+     * Opens the index of a saves directory, reading the index file if
+     * there is one.
+     *
+     * @param saves the saves directory
+     */
+    public LibraryIndex(final Path saves) {
+        this.directory = saves;
+        this.indexFile = saves.resolve(INDEX_NAME);
+        readIndex();
+    }
+
+    /**
+     * Lists the saved books, sorted by title. Only files that changed
+     * since they were last indexed are opened.
+     *
+     * @return the entries
+     * @throws IOException if the saves directory cannot be listed
+     */
+    public synchronized List<LibraryEntry> list() throws IOException {
+        refresh();
+        return sorted();
+    }
+
+    /**
+     * @return the current entries sorted by title, without checking the
+     *         directory; guarded by {@code this}
+     */
+    private List<LibraryEntry> sorted() {
+        final List<LibraryEntry> listed = new ArrayList<>(entries.values());
+        listed.sort(Comparator.comparing(LibraryEntry::getTitle,
+                String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(LibraryEntry::getFileName));
+        return listed;
+    }
+
+    /**
+     * Rereads one save file, for example right after it was written, and
+     * drops its entry if it no longer exists.
+     *
+     * @param file the save file
+     * @return the new entry, or {@code null} if the file is gone or
+     *         cannot be read
+     */
+    public synchronized LibraryEntry update(final Path file) {
+        final String name = file.getFileName().toString();
+        LibraryEntry entry = null;
+        try {
+            entry = read(directory.resolve(name), attributes(
+                    directory.resolve(name)));
+        } catch (NoSuchFileException e) {
+            // Deleted: drop the entry below
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Cannot index " + name + ": "
+                    + e.getMessage());
+        }
+        if (entry == null) {
+            changed |= entries.remove(name) != null;
+        } else {
+            entries.put(name, entry);
+            changed = true;
+        }
+        writeIndexQuietly();
+        return entry;
+    }
+
+    /**
+     * Starts a daemon thread that updates entries as save files change.
+     * Does nothing if already watching.
+     *
+     * @param onChange given the updated entries, sorted by title, on the
+     *                 watcher thread after entries change
+     * @throws IOException if the directory cannot be watched
+     */
+    public synchronized void watch(
+            final Consumer<List<LibraryEntry>> onChange) throws IOException {
+        if (watcher != null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        final WatchService service =
+                directory.getFileSystem().newWatchService();
+        directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        watcher = service;
+
+        final Thread thread = new Thread(() -> watchLoop(service, onChange),
+                "library-watch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the watcher, if any.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Waits for file events and updates the affected entries until the
+     * watch service is closed.
+     *
+     * @param service  the watch service
+     * @param onChange given the updated entries after they change
+     */
+    private void watchLoop(final WatchService service,
+                           final Consumer<List<LibraryEntry>> onChange) {
+        try {
+            while (true) {
+                final WatchKey key = service.take();
+                final Set<Path> touched = new HashSet<>();
+                boolean overflow = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        overflow = true;
+                    } else if (isSave((Path) event.context())) {
+                        touched.add((Path) event.context());
+                    }
+                }
+                key.reset();
+                if (!overflow && touched.isEmpty()) {
+                    continue;
+                }
+                final List<LibraryEntry> current;
+                synchronized (this) {
+                    if (overflow) {
+                        refresh();
+                    } else {
+                        touched.forEach(this::update);
+                    }
+                    current = sorted();
+                }
+                onChange.accept(current);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Stopped by close()
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Library watcher stopped: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Brings every entry up to date with the directory.
+     *
+     * @throws IOException if the directory cannot be listed
+     */
+    private void refresh() throws IOException {
+        final Set<String> seen = new HashSet<>();
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> saves = Files.newDirectoryStream(
+                    directory, "*" + SAVE_EXTENSION)) {
+                for (Path file : saves) {
+                    final String name = file.getFileName().toString();
+                    seen.add(name);
+                    refresh(file, name);
+                }
+            }
+        }
+        changed |= entries.keySet().retainAll(seen);
+        writeIndexQuietly();
+    }
+
+    /**
+     * Rereads one file if its size or modification time changed.
+     *
+     * @param file the save file
+     * @param name its file name
+     */
+    private void refresh(final Path file, final String name) {
+        try {
+            final BasicFileAttributes attributes = attributes(file);
+            final LibraryEntry entry = entries.get(name);
+            if (entry != null && entry.matches(attributes.size(),
+                    attributes.lastModifiedTime().toMillis())) {
+                return;
+            }
+            entries.put(name, read(file, attributes));
+            changed = true;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Cannot index " + name + ": "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the entry for a save file.
+     *
+     * @param file       the save file
+     * @param attributes its size and modification time
+     * @return the entry
+     * @throws IOException if the file cannot be read
+     */
+    private static LibraryEntry read(final Path file,
+                                     final BasicFileAttributes attributes)
+            throws IOException {
+        final String name = file.getFileName().toString();
+        final long size = attributes.size();
+        final long modified = attributes.lastModifiedTime().toMillis();
+        if (!DigFile.isDigFile(file)) {
+            return readJson(file, size, modified);
+        }
+        try (DigFile saved = DigFile.open(file)) {
+            final BookMetadata summary = saved.getSummary();
+            final int first = saved.size() == 0 ? 0 : saved.pageNumberAt(0);
+            if (summary == null) {
+                return new LibraryEntry(name, titleOf(name), "", "",
+                        saved.size(), first, saved.countTranslated(),
+                        size, modified);
+            }
+            return new LibraryEntry(name, summary.getTitle().isEmpty()
+                    ? titleOf(name) : summary.getTitle(),
+                    summary.getSourceLanguage(),
+                    summary.getTargetLanguage(), saved.size(),
+                    summary.getCurrentPage(), saved.countTranslated(),
+                    size, modified);
+        }
+    }
+
+    /**
+     * Reads the entry for a save in the older JSON format.
+     *
+     * @param file     the save file
+     * @param size     its size
+     * @param modified its modification time
+     * @return the entry
+     * @throws IOException if the file cannot be read or parsed
+     */
+    private static LibraryEntry readJson(final Path file, final long size,
+                                         final long modified)
+            throws IOException {
+        final JSONArray pages;
+        try {
+            pages = new JSONArray(Files.readString(file,
+                    StandardCharsets.UTF_8));
+        } catch (JSONException e) {
+            throw new IOException("Not a save file: " + file, e);
+        }
+        int translated = 0;
+        int first = Integer.MAX_VALUE;
+        for (int i = 0; i < pages.length(); i++) {
+            if (pages.getJSONObject(i).optBoolean("translated")) {
+                translated++;
+            }
+            first = Math.min(first,
+                    pages.getJSONObject(i).optInt("pageNumber", first));
+        }
+        final String name = file.getFileName().toString();
+        return new LibraryEntry(name, titleOf(name), "", "",
+                pages.length(), pages.length() == 0 ? 0 : first,
+                translated, size, modified);
+    }
+
+    /**
+     * @param file a save file
+     * @return its size and modification time
+     * @throws IOException if the file cannot be read
+     */
+    private static BasicFileAttributes attributes(final Path file)
+            throws IOException {
+        return Files.readAttributes(file, BasicFileAttributes.class);
+    }
+
+    /**
+     * @param name a file name
+     * @return {@code true} if it names a save file
+     */
+    private static boolean isSave(final Path name) {
+        return name.toString().endsWith(SAVE_EXTENSION);
+    }
+
+    /**
+     * @param name a save file name
+     * @return the name without its extension, used as a fallback title
+     */
+    private static String titleOf(final String name) {
+        return name.substring(0, name.length() - SAVE_EXTENSION.length());
+    }
+
+    /**
+     * Loads entries from the index file. A missing or unreadable index
+     * leaves the index empty, to be rebuilt by the next listing.
+     */
+    private void readIndex() {
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final LibraryEntry entry = new LibraryEntry(in.readUTF(),
+                        in.readUTF(), in.readUTF(), in.readUTF(),
+                        in.readInt(), in.readInt(), in.readInt(),
+                        in.readLong(), in.readLong());
+                entries.put(entry.getFileName(), entry);
+            }
+        } catch (IOException e) {
+            entries.clear();
+            System.err.println("Rebuilding library index: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Rewrites the index file if entries changed, logging failures; the
+     * index is only a cache of the save files.
+     */
+    private void writeIndexQuietly() {
+        if (!changed) {
+            return;
+        }
+        try {
+            writeIndex();
+            changed = false;
+        } catch (IOException e) {
+            System.err.println("Failed to write library index: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes all entries to a temporary file and renames it over the
+     * index.
+     *
+     * @throws IOException if the index cannot be written
+     */
+    private void writeIndex() throws IOException {
+        Files.createDirectories(directory);
+        final Path temp = Files.createTempFile(directory, ".library-",
+                ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(
+                            Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(entries.size());
+                for (LibraryEntry entry : entries.values()) {
+                    out.writeUTF(entry.getFileName());
+                    out.writeUTF(entry.getTitle());
+                    out.writeUTF(entry.getSourceLanguage());
+                    out.writeUTF(entry.getTargetLanguage());
+                    out.writeInt(entry.getPageCount());
+                    out.writeInt(entry.getCurrentPage());
+                    out.writeInt(entry.getTranslatedPages());
+                    out.writeLong(entry.getFileSize());
+                    out.writeLong(entry.getModified());
+                }
+            }
+            try {
+                Files.move(temp, indexFile,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, indexFile,
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package infrastructure.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import domain.gateway.PageStore;
+import domain.model.Page;
+import domain.model.PageSource;
+import domain.model.TokenTable;
+
+/**
+ * Page source backed by a spool file, keeping only recently used pages in
+ * memory.
+ * <p>
+ * Each page is written to the file as one record, and an in-memory index
+ * keeps the page number, byte offset and length of every record. Pages are
+ * rebuilt from their record on access and held in a bounded LRU cache.
+ * When a page that changed since its record was written is evicted, it is
+ * appended as a new record and the index is pointed at it, so translation
+ * progress is never lost to eviction.
+ * </p>
+ * <p>
+ * Evicted pages are only weakly held. As long as a caller such as the
+ * translation scheduler or the reading window still holds one, {@link
+ * #get(int)} returns that same instance rather than rebuilding it, and
+ * changes made to it after eviction are written back on the next
+ * eviction. Pages may be appended while the file is being read, so a book
+ * can be opened before its import finishes.
+ * </p>
+ * <p>
+ * Record layout: page number, max words, a state byte, the original words
+ * and, for translated pages, either each word's translation and
+ * transliteration or the rewritten words. Each word list is a count
+ * followed by length-prefixed UTF-8 strings.
+ * </p>
+ */
+public final class PageFile implements PageSource, Closeable {
+
+    /** Default number of pages kept in memory. */
+    public static final int DEFAULT_CACHE_PAGES = 32;
+
+    /** State byte: the page has not been translated. */
+    private static final byte UNTRANSLATED = 0;
+
+    /** State byte: translated, with translated words in the record. */
+    private static final byte REWRITTEN = 1;
+
+    /** State byte: translated, with per-word translations in the record. */
+    private static final byte WORD_TRANSLATIONS = 2;
+
+    /** Initial capacity of the index arrays. */
+    private static final int INITIAL_INDEX_SIZE = 64;
+
+    /** The spool file. */
+    private final Path file;
+
+    /** Open channel to the spool file; guarded by {@code this}. */
+    private final FileChannel channel;
+
+    /** Table the rebuilt pages intern their tokens into. */
+    private final TokenTable table;
+
+    /** Page number of each record; guarded by {@code this}. */
+    private int[] pageNumbers = new int[INITIAL_INDEX_SIZE];
+
+    /** Byte offset of each page's latest record; guarded by {@code this}. */
+    private long[] offsets = new long[INITIAL_INDEX_SIZE];
+
+    /** Byte length of each page's latest record; guarded by {@code this}. */
+    private int[] lengths = new int[INITIAL_INDEX_SIZE];
+
+    /**
+     * Revision of each page's instance when its latest record was read or
+     * written; guarded by {@code this}.
+     */
+    private int[] storedRevisions = new int[INITIAL_INDEX_SIZE];
+
+    /**
+     * Whether each page's latest record marks it translated; guarded by
+     * {@code this}.
+     */
+    private boolean[] storedTranslated = new boolean[INITIAL_INDEX_SIZE];
+
+    /** Number of pages appended; guarded by {@code this}. */
+    private int count;
+
+    /** Recently used pages, by index; guarded by {@code this}. */
+    private final Map<Integer, Page> cache;
+
+    /**
+     * Evicted pages that may still be held elsewhere, by index; guarded
+     * by {@code this}.
+     */
+    private final Map<Integer, WeakReference<Page>> released =
+            new HashMap<>();
+
+    /** End of the file, where records go; guarded by {@code this}. */
+    private long end;
+
+    /**
+     * Creates an empty source over a freshly truncated spool file.
+     *
+     * @param spool      the spool file
+     * @param openFile   an open read/write channel to it
+     * @param tokens     the token table for rebuilt pages
+     * @param cachePages maximum number of pages kept in memory
+     */
+    private PageFile(final Path spool, final FileChannel openFile,
+                     final TokenTable tokens, final int cachePages) {
+        this.file = spool;
+        this.channel = openFile;
+        this.table = tokens;
+        this.cache = new LinkedHashMap<>(cachePages, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<Integer, Page> eldest) {
+                if (size() <= cachePages) {
+                    return false;
+                }
+                release(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a store that spools each book to a temporary file, which is
+     * deleted when the JVM exits.
+     *
+     * @param cachePages maximum number of pages kept in memory per book
+     * @return the store
+     */
+    public static PageStore temporaryStore(final int cachePages) {
+        return tokens -> {
+            final Path spool = Files.createTempFile("diglott-", ".pages");
+            spool.toFile().deleteOnExit();
+            return new Writer(spool, tokens, cachePages);
+        };
+    }
+
+    @Override
+    public synchronized int size() {
+        return count;
+    }
+
+    @Override
+    public synchronized int pageNumberAt(final int index) {
+        Objects.checkIndex(index, count);
+        return pageNumbers[index];
+    }
+
+    @Override
+    public synchronized Page get(final int index) {
+        Objects.checkIndex(index, count);
+        Page page = cache.get(index);
+        if (page == null) {
+            final WeakReference<Page> held = released.remove(index);
+            page = held == null ? null : held.get();
+            if (page == null) {
+                page = readPage(index);
+            }
+            cache.put(index, page);
+        }
+        return page;
+    }
+
+    /**
+     * @return the number of pages currently held in memory
+     */
+    public synchronized int cachedPages() {
+        return cache.size();
+    }
+
+    /**
+     * Closes the file and deletes it.
+     *
+     * @throws IOException if the file cannot be closed or deleted
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        cache.clear();
+        released.clear();
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Appends a page record after the pages added so far. The record is
+     * encoded before the lock is taken, so readers are only held up for
+     * the write itself.
+     *
+     * @param page the next page, in page-number order
+     * @throws IOException if writing fails
+     */
+    private void append(final Page page) throws IOException {
+        final byte[] record = encode(page);
+        synchronized (this) {
+            if (count == pageNumbers.length) {
+                final int grown = count * 2;
+                pageNumbers = Arrays.copyOf(pageNumbers, grown);
+                offsets = Arrays.copyOf(offsets, grown);
+                lengths = Arrays.copyOf(lengths, grown);
+                storedRevisions = Arrays.copyOf(storedRevisions, grown);
+                storedTranslated = Arrays.copyOf(storedTranslated, grown);
+            }
+            pageNumbers[count] = page.getPageNumber();
+            storedTranslated[count] = page.isTranslated();
+            offsets[count] = write(record);
+            lengths[count] = record.length;
+            count++;
+        }
+    }
+
+    /**
+     * Writes a record at the end of the file.
+     *
+     * @param record the record bytes
+     * @return the offset the record was written at
+     * @throws IOException if writing fails
+     */
+    private long write(final byte[] record) throws IOException {
+        final long start = end;
+        final ByteBuffer buffer = ByteBuffer.wrap(record);
+        long position = start;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        end = position;
+        return start;
+    }
+
+    /**
+     * Rebuilds a page from its latest record.
+     *
+     * @param index the page position
+     * @return the page
+     */
+    private Page readPage(final int index) {
+        final ByteBuffer record = ByteBuffer.allocate(lengths[index]);
+        try {
+            long position = offsets[index];
+            while (record.hasRemaining()) {
+                final int read = channel.read(record, position);
+                if (read < 0) {
+                    throw new IOException("Truncated page record");
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        record.flip();
+
+        final int number = record.getInt();
+        final int maxWords = record.getInt();
+        final byte state = record.get();
+        final Page page = new Page(readWords(record), number, maxWords,
+                table);
+        if (state == WORD_TRANSLATIONS) {
+            final int count = page.getWordCount();
+            final String[] translations = new String[count];
+            final String[] transliterations = new String[count];
+            for (int i = 0; i < count; i++) {
+                translations[i] = readText(record);
+                transliterations[i] = readText(record);
+            }
+            page.applyTranslations(translations, transliterations);
+        } else if (state == REWRITTEN) {
+            page.rewriteTranslatedContent(readWords(record));
+        }
+        storedRevisions[index] = page.getRevision();
+        storedTranslated[index] = page.isTranslated();
+        return page;
+    }
+
+    /**
+     * Moves an evicted page to the weakly held pages, writing back every
+     * released page still held elsewhere that changed since its record
+     * was written. Pages nobody holds any more are forgotten.
+     *
+     * @param index the evicted page's position
+     * @param page  the evicted page
+     */
+    private void release(final int index, final Page page) {
+        released.put(index, new WeakReference<>(page));
+        final Iterator<Map.Entry<Integer, WeakReference<Page>>> it =
+                released.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<Integer, WeakReference<Page>> entry = it.next();
+            final Page held = entry.getValue().get();
+            if (held == null) {
+                it.remove();
+            } else {
+                writeBack(entry.getKey(), held);
+            }
+        }
+    }
+
+    /**
+     * Appends a page as a new record if it changed since its latest
+     * record was read or written.
+     *
+     * @param index the page position
+     * @param page  the page
+     */
+    private void writeBack(final int index, final Page page) {
+        final int revision = page.getRevision();
+        final boolean translated = page.isTranslated();
+        if (revision == storedRevisions[index]
+                && translated == storedTranslated[index]) {
+            return;
+        }
+        try {
+            final byte[] record = encode(page);
+            offsets[index] = write(record);
+            lengths[index] = record.length;
+            storedRevisions[index] = revision;
+            storedTranslated[index] = translated;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes a page as one record.
+     *
+     * @param page the page
+     * @return the record bytes
+     * @throws IOException if encoding fails
+     */
+    private static byte[] encode(final Page page) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(page.getPageNumber());
+            out.writeInt(page.getMaxWords());
+            if (page.hasWordTranslations()) {
+                out.writeByte(WORD_TRANSLATIONS);
+                writeWords(out, page.getOriginalWords());
+                for (int i = 0; i < page.getWordCount(); i++) {
+                    writeText(out, page.getTranslation(i));
+                    writeText(out, page.getTransliteration(i));
+                }
+            } else {
+                out.writeByte(page.isTranslated() ? REWRITTEN
+                        : UNTRANSLATED);
+                writeWords(out, page.getOriginalWords());
+                if (page.isTranslated()) {
+                    writeWords(out, page.getWords());
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a count followed by length-prefixed UTF-8 words.
+     *
+     * @param out   the output
+     * @param words the words
+     * @throws IOException if writing fails
+     */
+    private static void writeWords(final DataOutputStream out,
+                                   final List<String> words)
+            throws IOException {
+        out.writeInt(words.size());
+        for (String word : words) {
+            final byte[] utf8 = word.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    /**
+     * Writes length-prefixed UTF-8 text, or a length of {@code -1} for
+     * none.
+     *
+     * @param out  the output
+     * @param text the text, or {@code null}
+     * @throws IOException if writing fails
+     */
+    private static void writeText(final DataOutputStream out,
+                                  final String text) throws IOException {
+        if (text == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    /**
+     * Reads text written by {@link #writeText}.
+     *
+     * @param in the record
+     * @return the text, or {@code null}
+     */
+    private static String readText(final ByteBuffer in) {
+        final int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final String text = new String(in.array(), in.position(), length,
+                StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return text;
+    }
+
+    /**
+     * Reads a word list written by {@link #writeWords}.
+     *
+     * @param in the record
+     * @return the words
+     */
+    private static List<String> readWords(final ByteBuffer in) {
+        final int count = in.getInt();
+        final List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int length = in.getInt();
+            words.add(new String(in.array(), in.position(), length,
+                    StandardCharsets.UTF_8));
+            in.position(in.position() + length);
+        }
+        return words;
+    }
+
+    /**
+     * Spools pages to the file as they arrive, keeping only the index.
+     * The file can be read through {@link #pages()} while pages are
+     * still being added.
+     */
+    public static final class Writer implements PageStore.PageWriter {
+
+        /** The source the pages are appended to. */
+        private final PageFile pageFile;
+
+        /**
+         * Opens a writer that truncates the file.
+         *
+         * @param path       the spool file
+         * @param table      the token table for the finished source
+         * @param cacheLimit maximum number of pages kept in memory
+         * @throws IOException if the file cannot be opened
+         */
+        public Writer(final Path path, final TokenTable table,
+                      final int cacheLimit) throws IOException {
+            this.pageFile = new PageFile(path, FileChannel.open(path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE),
+                    table, cacheLimit);
+        }
+
+        /**
+         * Appends a page record. Pages must arrive in page-number order.
+         *
+         * @param page the page to store
+         * @throws UncheckedIOException if writing fails
+         */
+        @Override
+        public void accept(final Page page) {
+            try {
+                pageFile.append(page);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public PageFile pages() {
+            return pageFile;
+        }
+
+        @Override
+        public PageFile finish() {
+            return pageFile;
+        }
+    }
+}
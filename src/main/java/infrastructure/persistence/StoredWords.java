@@ -1,47 +1,347 @@
 package infrastructure.persistence;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
 
 import configuration.ConfigDataRetriever;
+import domain.model.Tokenizer;
 
 /**
- * Stores translated words in memory during application runtime.
+ * Stores translated words for the current language pair.
+ * <p>
+ * Translations are kept separately for each (input language, target
+ * language) pair. When backed by a {@link TranslationLog}, the words for a
+ * pair are loaded from disk the first time that pair is used, and every
+ * new translation is appended to the log so later sessions start warm.
+ * </p>
+ * <p>
+ * The store is safe to share between the UI thread and background
+ * translation threads. Translators fetch through
+ * {@link #fetchMissing(Collection, Fetcher)}, which claims each word
+ * before it is fetched, so two threads never pay for the same
+ * translation, and waits for words another thread is fetching.
+ * </p>
  */
 public class StoredWords {
 
+    /** Store shared by the application, created on first use. */
+    private static StoredWords defaultStore;
+
+    /**
+     * Translations and in-flight fetches, keyed by language pair.
+     */
+    private final ConcurrentMap<String, PairStore> stores;
+
     /**
-     * Stores mappings from the original word to its translated form.
+     * Durable log of translations, or {@code null} to keep words
+     * in memory only.
      */
-    private final Map<String, String> translated;
+    private final TranslationLog log;
 
     /**
      * Creates a new instance of {@code StoredWords}
-     * with an empty translations map.
+     * with an empty, in-memory translations map.
      */
     public StoredWords() {
-        this.translated = new HashMap<>();
+        this(null);
+    }
+
+    /**
+     * Creates a new instance of {@code StoredWords} backed by the given log.
+     *
+     * @param translationLog the log to load from and append to,
+     *                       or {@code null} to keep words in memory only
+     */
+    public StoredWords(final TranslationLog translationLog) {
+        this.stores = new ConcurrentHashMap<>();
+        this.log = translationLog;
+    }
+
+    /**
+     * Returns the application's store, backed by the default
+     * {@link TranslationLog}.
+     *
+     * @return the shared store
+     */
+    public static synchronized StoredWords getDefault() {
+        if (defaultStore == null) {
+            defaultStore = new StoredWords(TranslationLog.getDefault());
+        }
+        return defaultStore;
     }
 
     /**
-     * Adds a translation to the map.
+     * Adds a translation to the map, replacing any existing one.
      *
      * @param key   the original word
      * @param value the translated word
      */
     public void addTranslation(final String key, final String value) {
-        if ("debug".equals(ConfigDataRetriever.get("logs"))) {
-            System.out.println(key + " " + value.toLowerCase());
+        final String translated = value.toLowerCase(Locale.ROOT);
+        currentStore().words.put(key, translated);
+        recordAddition(key, translated);
+    }
+
+    /**
+     * Adds a translation only if the word has none yet.
+     *
+     * @param key   the original word
+     * @param value the translated word
+     * @return {@code true} if the translation was added
+     */
+    public boolean addTranslationIfAbsent(final String key,
+                                          final String value) {
+        final String translated = value.toLowerCase(Locale.ROOT);
+        if (currentStore().words.putIfAbsent(key, translated) != null) {
+            return false;
+        }
+        recordAddition(key, translated);
+        return true;
+    }
+
+    /**
+     * Looks up the translation of a word.
+     *
+     * @param key the original word
+     * @return the translated word, or {@code null} if there is none
+     */
+    public String getTranslation(final String key) {
+        return currentStore().words.get(key);
+    }
+
+    /**
+     * @param key the original word
+     * @return {@code true} if the word already has a translation
+     */
+    public boolean hasTranslation(final String key) {
+        return currentStore().words.containsKey(key);
+    }
+
+    /**
+     * Claims a word for fetching. At most one caller at a time holds the
+     * claim for a word, and no claim is granted once it is translated.
+     * Every successful claim must be followed by {@link #release(String)}.
+     *
+     * @param key the original word
+     * @return {@code true} if the caller should fetch the word
+     */
+    public boolean reserve(final String key) {
+        return claim(currentStore(), key) != null;
+    }
+
+    /**
+     * Releases a claim obtained from {@link #reserve(String)}.
+     *
+     * @param key the original word
+     */
+    public void release(final String key) {
+        final CountDownLatch claim = currentStore().inFlight.remove(key);
+        if (claim != null) {
+            claim.countDown();
+        }
+    }
+
+    /**
+     * Fetches the translations a batch of words still lacks. Words that
+     * are already translated are skipped; the rest are claimed and passed
+     * to the fetcher in one call, which stores what it gets. Words
+     * another thread is fetching are waited for, and fetched once more if
+     * that thread did not store them. Words are matched in lowercase and
+     * the store is resolved once, so the whole call uses one language
+     * pair.
+     *
+     * @param words   the words a page needs
+     * @param fetcher fetches and stores the claimed words
+     * @throws Exception if the fetcher fails or the wait is interrupted
+     */
+    public void fetchMissing(final Collection<String> words,
+                             final Fetcher fetcher) throws Exception {
+        final PairStore store = currentStore();
+        final Map<String, CountDownLatch> elsewhere = new HashMap<>();
+        fetchClaimed(store, words, fetcher, elsewhere);
+        if (elsewhere.isEmpty()) {
+            return;
+        }
+        for (CountDownLatch claim : elsewhere.values()) {
+            claim.await();
+        }
+        final List<String> retry = new ArrayList<>();
+        for (String word : words) {
+            if (elsewhere.containsKey(Tokenizer.normalize(word))) {
+                retry.add(word);
+            }
         }
-        translated.put(key, value.toLowerCase());
+        fetchClaimed(store, retry, fetcher, new HashMap<>());
     }
 
     /**
-     * Retrieves the current map of stored translations.
+     * Claims the untranslated words, fetches them and releases the
+     * claims.
+     *
+     * @param store     the language pair's store
+     * @param words     the requested words
+     * @param fetcher   fetches and stores the claimed words
+     * @param elsewhere receives the claims held by other threads, by key
+     * @throws Exception if the fetcher fails
+     */
+    private static void fetchClaimed(final PairStore store,
+                                     final Collection<String> words,
+                                     final Fetcher fetcher,
+                                     final Map<String, CountDownLatch>
+                                             elsewhere)
+            throws Exception {
+        final Set<String> seen = new HashSet<>();
+        final Map<String, CountDownLatch> claims = new HashMap<>();
+        final List<String> claimed = new ArrayList<>();
+        for (String word : words) {
+            final String key = Tokenizer.normalize(word);
+            if (!seen.add(key)) {
+                continue;
+            }
+            final CountDownLatch claim = claim(store, key);
+            if (claim != null) {
+                claims.put(key, claim);
+                claimed.add(word);
+            } else {
+                final CountDownLatch held = store.inFlight.get(key);
+                if (held != null) {
+                    elsewhere.put(key, held);
+                }
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            fetcher.fetch(claimed);
+        } finally {
+            claims.forEach((key, claim) -> {
+                store.inFlight.remove(key, claim);
+                claim.countDown();
+            });
+        }
+    }
+
+    /**
+     * Claims one word in a store.
+     *
+     * @param store the language pair's store
+     * @param key   the original word
+     * @return the new claim, or {@code null} if the word is translated
+     *         or another caller holds it
+     */
+    private static CountDownLatch claim(final PairStore store,
+                                        final String key) {
+        if (store.words.containsKey(key)) {
+            return null;
+        }
+        final CountDownLatch claim = new CountDownLatch(1);
+        if (store.inFlight.putIfAbsent(key, claim) != null) {
+            return null;
+        }
+        // Re-check: the word may have been added before the claim landed
+        if (store.words.containsKey(key)) {
+            store.inFlight.remove(key, claim);
+            claim.countDown();
+            return null;
+        }
+        return claim;
+    }
+
+    /**
+     * Retrieves a read-only view of the current stored translations.
      *
      * @return a map of original words to their translated forms
      */
     public Map<String, String> getTranslations() {
-        return translated;
+        return Collections.unmodifiableMap(currentStore().words);
+    }
+
+    /**
+     * Logs a newly added translation to the console and the durable log.
+     *
+     * @param key        the original word
+     * @param translated the lowercase translated word
+     */
+    private void recordAddition(final String key, final String translated) {
+        if ("debug".equals(ConfigDataRetriever.get("logs"))) {
+            System.out.println(key + " " + translated);
+        }
+        if (log != null) {
+            log.append(sourceLanguage(), targetLanguage(), key, translated);
+        }
+    }
+
+    /**
+     * Returns the store for the configured language pair,
+     * loading it from the log on first use.
+     *
+     * @return the store for the current pair
+     */
+    private PairStore currentStore() {
+        final String source = sourceLanguage();
+        final String target = targetLanguage();
+        return stores.computeIfAbsent(source + ">" + target,
+                pair -> new PairStore(log == null ? Map.of()
+                        : log.load(source, target)));
+    }
+
+    /**
+     * @return the configured input language code
+     */
+    private static String sourceLanguage() {
+        return ConfigDataRetriever.get("input_language");
+    }
+
+    /**
+     * @return the configured target language code
+     */
+    private static String targetLanguage() {
+        return ConfigDataRetriever.get("target_language");
+    }
+
+    /**
+     * Fetches translations for claimed words and stores them.
+     */
+    @FunctionalInterface
+    public interface Fetcher {
+
+        /**
+         * Fetches and stores translations.
+         *
+         * @param words the words claimed for this call, in request order
+         * @throws Exception if fetching fails
+         */
+        void fetch(List<String> words) throws Exception;
+    }
+
+    /**
+     * Translations and in-flight fetches for one language pair.
+     */
+    private static final class PairStore {
+
+        /** Mappings from the original word to its translated form. */
+        private final ConcurrentMap<String, String> words;
+
+        /** Words being fetched, each with a claim opened on release. */
+        private final ConcurrentMap<String, CountDownLatch> inFlight =
+                new ConcurrentHashMap<>();
+
+        /**
+         * @param initial translations loaded from disk
+         */
+        private PairStore(final Map<String, String> initial) {
+            this.words = new ConcurrentHashMap<>(initial);
+        }
     }
 }
@@ -0,0 +1,199 @@
+package infrastructure.persistence;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Append-only, on-disk log of every translation fetched from a provider.
+ * <p>
+ * Each line is a small JSON object holding the source language, the
+ * target language, the lowercase word and its translation. Lines are
+ * queued in memory and appended by a background thread, so callers on
+ * the translation path never wait for the disk. A line left unfinished
+ * by a crash is ended before new lines are appended, so only that line
+ * is lost.
+ * </p>
+ */
+public final class TranslationLog {
+
+    /** Default location of the log in the user's home directory. */
+    private static final Path DEFAULT_PATH = Paths.get(
+            System.getProperty("user.home"), ".diglott", "translations.log"
+    );
+
+    /** Delay between background flushes, in milliseconds. */
+    private static final long FLUSH_INTERVAL_MS = 500;
+
+    /** Lazily created log shared by the whole application. */
+    private static TranslationLog defaultLog;
+
+    /** The log file. */
+    private final Path file;
+
+    /** Lines waiting to be appended to the file. */
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+
+    /** Single daemon thread that appends pending lines. */
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * Creates a log backed by the given file.
+     * The file and its parent directories are created on first flush.
+     *
+     * @param logFile the file to append to
+     */
+    public TranslationLog(final Path logFile) {
+        this.file = logFile;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "translation-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS,
+                FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the application-wide log stored under {@code ~/.diglott/}.
+     * Pending lines are flushed when the JVM shuts down.
+     *
+     * @return the shared log
+     */
+    public static synchronized TranslationLog getDefault() {
+        if (defaultLog == null) {
+            defaultLog = new TranslationLog(DEFAULT_PATH);
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(defaultLog::flush, "translation-log-exit"));
+        }
+        return defaultLog;
+    }
+
+    /**
+     * Reads every stored translation for one language pair.
+     * Lines that cannot be parsed, such as a line cut short by a crash,
+     * are skipped.
+     *
+     * @param source the source language code
+     * @param target the target language code
+     * @return a new mutable map from lowercase word to translation
+     */
+    public Map<String, String> load(final String source,
+                                    final String target) {
+        final Map<String, String> entries = new HashMap<>();
+        if (Files.notExists(file)) {
+            return entries;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(
+                file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    final JSONObject entry = new JSONObject(line);
+                    if (source.equals(entry.optString("src"))
+                            && target.equals(entry.optString("tgt"))) {
+                        entries.put(entry.getString("word"),
+                                entry.getString("text"));
+                    }
+                } catch (JSONException ignored) {
+                    // Skip torn or corrupt lines
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to read translation log: "
+                    + e.getMessage());
+        }
+        return entries;
+    }
+
+    /**
+     * Queues a translation to be appended to the log.
+     *
+     * @param source      the source language code
+     * @param target      the target language code
+     * @param word        the lowercase original word
+     * @param translation the translated word
+     */
+    public void append(final String source, final String target,
+                       final String word, final String translation) {
+        pending.add(new JSONObject()
+                .put("src", source)
+                .put("tgt", target)
+                .put("word", word)
+                .put("text", translation)
+                .toString());
+    }
+
+    /**
+     * Appends all queued lines to the log file.
+     * Called periodically in the background and on shutdown.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(file.getParent());
+            final boolean torn = endsMidLine();
+            try (BufferedWriter writer = Files.newBufferedWriter(file,
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND)) {
+                if (torn) {
+                    // End the line a crash cut short, so it stays apart
+                    writer.newLine();
+                }
+                String line;
+                while ((line = pending.poll()) != null) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write translation log: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Tells whether the file's last line is missing its line break, as
+     * when a crash interrupted a write.
+     *
+     * @return {@code true} if the file is non-empty and does not end with
+     *         a newline
+     * @throws IOException if the file cannot be read
+     */
+    private boolean endsMidLine() throws IOException {
+        if (Files.notExists(file)) {
+            return false;
+        }
+        try (SeekableByteChannel in = Files.newByteChannel(file,
+                StandardOpenOption.READ)) {
+            final long size = in.size();
+            if (size == 0) {
+                return false;
+            }
+            final ByteBuffer last = ByteBuffer.allocate(1);
+            in.position(size - 1);
+            return in.read(last) == 1 && last.get(0) != '\n';
+        }
+    }
+}
@@ -3,7 +3,22 @@
  * for the Diglott application, including:
  * <ul>
  *     <li>{@code StoredWords} — stores word-to-translation mappings
- *     during application runtime and logs additions in debug mode</li>
+ *     per language pair and logs additions in debug mode</li>
+ *     <li>{@code TranslationLog} — append-only on-disk log that lets
+ *     translations survive restarts without repeating API calls</li>
+ *     <li>{@code PageFile} — spools a book's pages to disk and keeps
+ *     only recently used pages in memory</li>
+ *     <li>{@code DigFile} — binary {@code .dig} save file with a page
+ *     table, read through a memory map and saved incrementally</li>
+ *     <li>{@code BookMetadata} — title, language pair, reading position
+ *     and translated words saved alongside a book's pages</li>
+ *     <li>{@code LibraryIndex} — cached list of saved books with their
+ *     reading progress, kept current by size and timestamp checks and a
+ *     file watcher</li>
+ *     <li>{@code LibraryEntry} — one saved book as listed by the
+ *     library</li>
+ *     <li>{@code AutosaveService} — coalesces changed pages and saves
+ *     them in the background</li>
  * </ul>
  */
 package infrastructure.persistence;
@@ -1,17 +1,18 @@
 package infrastructure.translation;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import configuration.ConfigDataRetriever;
 import domain.gateway.Translator;
+import domain.model.Tokenizer;
 import infrastructure.persistence.StoredWords;
 
 /**
@@ -20,6 +21,18 @@ import infrastructure.persistence.StoredWords;
  */
 public class AzureTranslationHandler implements Translator {
 
+    /**
+     * Maximum number of array elements sent in a single Azure request.
+     */
+    private static final int MAX_TEXTS_PER_REQUEST = 100;
+
+    /**
+     * Azure translation endpoint, without the target language.
+     */
+    private static final String ENDPOINT =
+            "https://api.cognitive.microsofttranslator.com/"
+                    + "translate?api-version=3.0&to=";
+
     /**
      * API key used to authenticate with Azure.
      */
@@ -35,6 +48,11 @@ public class AzureTranslationHandler implements Translator {
      */
     private final StoredWords storedWords;
 
+    /**
+     * Paces and retries the requests sent to Azure.
+     */
+    private final RateLimiter limiter;
+
     /**
      * Creates a TranslationHandler instance.
      *
@@ -50,7 +68,31 @@ public class AzureTranslationHandler implements Translator {
     public AzureTranslationHandler(final String inputAzureApiKey,
                                    final String inputAzureRegion,
                                    final StoredWords wordStorage) {
+        this(inputAzureApiKey, inputAzureRegion, wordStorage,
+                RateLimiter.forAzure());
+    }
+
+    /**
+     * Creates a TranslationHandler instance that sends its requests
+     * through the given limiter.
+     *
+     * @param inputAzureApiKey
+     * the API key for the translation service, or
+     * {@code null} to use the config value
+     * @param inputAzureRegion
+     * the Azure service region,
+     * or {@code null} to use the config value
+     * @param wordStorage
+     * the storage for translated words
+     * @param requestLimiter
+     * paces and retries each request
+     */
+    public AzureTranslationHandler(final String inputAzureApiKey,
+                                   final String inputAzureRegion,
+                                   final StoredWords wordStorage,
+                                   final RateLimiter requestLimiter) {
         this.storedWords = wordStorage;
+        this.limiter = requestLimiter;
 
         if (inputAzureApiKey == null || inputAzureApiKey.trim().isEmpty()
                 || "none".equals(inputAzureApiKey) || inputAzureRegion == null
@@ -76,65 +118,86 @@ public class AzureTranslationHandler implements Translator {
      */
     @Override
     public void addWord(final String word) throws Exception {
+        addWords(List.of(word));
+    }
+
+    /**
+     * Translates the given words using as few Azure requests as possible
+     * and stores each result. Words that are already translated are
+     * skipped, and words another thread is fetching are waited for.
+     * Each request carries up to {@value #MAX_TEXTS_PER_REQUEST} words as
+     * elements of a single JSON array and goes through the rate limiter
+     * on its own.
+     *
+     * @param words the words to translate
+     * @throws Exception if the API key is missing or a request fails
+     */
+    @Override
+    public void addWords(final Collection<String> words) throws Exception {
         if ("none".equals(azureApiKey)) {
             throw new Exception("Missing API Key");
         }
 
         final String targetLang = ConfigDataRetriever.get("target_language");
-        final JSONObject responseJson = makeApiCall(word, targetLang);
-
-        final JSONArray translations =
-                responseJson.getJSONArray("translations");
-        if (translations != null && translations.length() > 0) {
-            final String translated =
-                    translations.getJSONObject(0).getString("text");
+        storedWords.fetchMissing(words, pending -> {
+            for (int start = 0; start < pending.size();
+                 start += MAX_TEXTS_PER_REQUEST) {
+                final int end = Math.min(start + MAX_TEXTS_PER_REQUEST,
+                        pending.size());
+                final List<String> batch = pending.subList(start, end);
+                storeResults(batch,
+                        limiter.send(() -> makeApiCall(batch, targetLang)));
+            }
+        });
+    }
 
-            final String key = word.toLowerCase();
-            if (!storedWords.getTranslations().containsKey(key)) {
-                storedWords.addTranslation(key, translated);
+    /**
+     * Stores the translations of one Azure response.
+     *
+     * @param batch   the words sent in the request, in order
+     * @param results the response array, one element per word
+     */
+    private void storeResults(final List<String> batch,
+                              final JSONArray results) {
+        final int count = Math.min(results.length(), batch.size());
+        for (int i = 0; i < count; i++) {
+            final JSONArray translations = results.getJSONObject(i)
+                    .optJSONArray("translations");
+            if (translations != null && translations.length() > 0) {
+                final String translated =
+                        translations.getJSONObject(0).getString("text");
+
+                storedWords.addTranslationIfAbsent(
+                        Tokenizer.normalize(batch.get(i)), translated);
             }
         }
     }
 
     /**
      * Makes a POST request to the Azure translation API.
+     * The request reuses the session-wide connection to the provider.
      *
-     * @param word the word to translate
+     * @param words the words to translate, one array element each
      * @param targetLang the language to translate into
-     * @return the JSON response as a JSONObject
+     * @return the JSON response array, one element per word
      * @throws Exception if the request fails
      */
-    protected JSONObject makeApiCall(final String word, final String targetLang)
+    protected JSONArray makeApiCall(final List<String> words,
+                                    final String targetLang)
             throws Exception {
-        final String url = "https://api.cognitive.microsofttranslator.com/"
-                + "translate?api-version=3.0&to=" + targetLang;
-
-        final HttpURLConnection conn =
-                (HttpURLConnection) new URL(url).openConnection();
-        conn.setRequestMethod("POST");
-        conn.setDoOutput(true);
-        conn.setRequestProperty("Ocp-Apim-Subscription-Key", azureApiKey);
-        conn.setRequestProperty("Ocp-Apim-Subscription-Region", azureRegion);
-        conn.setRequestProperty("Content-Type",
-                "application/json; charset=UTF-8");
-
-        String jsonPayload = "[{\"Text\": \"" + word + "\"}]";
-        try (OutputStream os = conn.getOutputStream()) {
-            os.write(jsonPayload.getBytes(StandardCharsets.UTF_8));
-        }
-
-
-        final StringBuilder responseBuilder = new StringBuilder();
-        try (BufferedReader in = new BufferedReader(
-                new InputStreamReader(
-                        conn.getInputStream(), StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = in.readLine()) != null) {
-                responseBuilder.append(line);
-            }
+        final URI uri = URI.create(ENDPOINT
+                + URLEncoder.encode(targetLang, StandardCharsets.UTF_8));
+        final Map<String, String> headers = Map.of(
+                "Ocp-Apim-Subscription-Key", azureApiKey,
+                "Ocp-Apim-Subscription-Region", azureRegion,
+                "Content-Type", "application/json; charset=UTF-8");
+
+        final JSONArray payload = new JSONArray();
+        for (String word : words) {
+            payload.put(new JSONObject().put("Text", word));
         }
 
-        JSONArray topArray = new JSONArray(responseBuilder.toString());
-        return topArray.getJSONObject(0);
+        return new JSONArray(TranslationHttpClient.shared()
+                .post(uri, headers, payload.toString()));
     }
 }
@@ -0,0 +1,107 @@
+package infrastructure.translation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import domain.gateway.WordTransliterator;
+
+/**
+ * Decorates a {@link WordTransliterator} with a bounded memo of recent
+ * results.
+ * <p>
+ * A book repeats the same few hundred vocabulary words on every page, and
+ * each page build transliterates all of them. Results are kept in a
+ * least-recently-used map, so each distinct word is normally transliterated
+ * once per session; the least recently used result is dropped once the
+ * map is full. The wrapped transliterator runs outside the lock, so
+ * callers on different threads do not wait for each other's misses.
+ * </p>
+ */
+public class CachingTransliterator implements WordTransliterator {
+
+    /** Default number of results kept. */
+    public static final int DEFAULT_CAPACITY = 4_096;
+
+    /** The transliterator whose results are kept. */
+    private final WordTransliterator delegate;
+
+    /** Results by input, in access order; guarded by itself. */
+    private final Map<String, String> results;
+
+    /**
+     * Creates a cache with the default capacity.
+     *
+     * @param transliterator the transliterator to wrap
+     */
+    public CachingTransliterator(final WordTransliterator transliterator) {
+        this(transliterator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param transliterator the transliterator to wrap
+     * @param capacity       most results kept at once
+     */
+    public CachingTransliterator(final WordTransliterator transliterator,
+                                 final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Capacity must be positive.");
+        }
+        this.delegate = transliterator;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the remembered result for the input, transliterating it
+     * only on a miss.
+     *
+     * @param input the original text to transliterate
+     * @return the transliterated version of the input
+     */
+    @Override
+    public String transliterate(final String input) {
+        if (input == null) {
+            return delegate.transliterate(null);
+        }
+        synchronized (results) {
+            final String known = results.get(input);
+            if (known != null) {
+                return known;
+            }
+        }
+        final String result = delegate.transliterate(input);
+        if (result != null) {
+            synchronized (results) {
+                results.put(input, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of results currently kept
+     */
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    /**
+     * Drops every remembered result, for example when the target language
+     * changes.
+     */
+    public void clear() {
+        synchronized (results) {
+            results.clear();
+        }
+    }
+}
@@ -1,18 +1,18 @@
 package infrastructure.translation;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import configuration.ConfigDataRetriever;
 import domain.gateway.Translator;
+import domain.model.Tokenizer;
 import infrastructure.persistence.StoredWords;
 
 /**
@@ -21,6 +21,23 @@ import infrastructure.persistence.StoredWords;
  */
 public class DeepLTranslationHandler implements Translator {
 
+    /**
+     * Maximum number of texts DeepL accepts in a single request.
+     */
+    private static final int MAX_TEXTS_PER_REQUEST = 50;
+
+    /**
+     * DeepL translation endpoint.
+     */
+    private static final URI ENDPOINT =
+            URI.create("https://api-free.deepl.com/v2/translate");
+
+    /**
+     * Headers sent with every DeepL request.
+     */
+    private static final Map<String, String> HEADERS = Map.of(
+            "Content-Type", "application/x-www-form-urlencoded");
+
     /**
      * API key used to authenticate with DeepL.
      */
@@ -31,6 +48,11 @@ public class DeepLTranslationHandler implements Translator {
      */
     private final StoredWords storedWords;
 
+    /**
+     * Paces and retries the requests sent to DeepL.
+     */
+    private final RateLimiter limiter;
+
     /**
      * Creates a TranslationHandler instance.
      *
@@ -42,7 +64,26 @@ public class DeepLTranslationHandler implements Translator {
      */
     public DeepLTranslationHandler(final String inputDeepLApiKey,
                                    final StoredWords wordStorage) {
+        this(inputDeepLApiKey, wordStorage, RateLimiter.forDeepL());
+    }
+
+    /**
+     * Creates a TranslationHandler instance that sends its requests
+     * through the given limiter.
+     *
+     * @param inputDeepLApiKey
+     * the API key for the translation service, or
+     * {@code null} to use the config value
+     * @param wordStorage
+     * the storage for translated words
+     * @param requestLimiter
+     * paces and retries each request
+     */
+    public DeepLTranslationHandler(final String inputDeepLApiKey,
+                                   final StoredWords wordStorage,
+                                   final RateLimiter requestLimiter) {
         this.storedWords = wordStorage;
+        this.limiter = requestLimiter;
 
         if (inputDeepLApiKey == null || inputDeepLApiKey.trim().isEmpty()
                 || "none".equals(inputDeepLApiKey)) {
@@ -63,39 +104,80 @@ public class DeepLTranslationHandler implements Translator {
      */
     @Override
     public void addWord(final String word) throws Exception {
+        addWords(List.of(word));
+    }
+
+    /**
+     * Translates the given words using as few DeepL requests as possible
+     * and stores each result. Words that are already translated are
+     * skipped, and words another thread is fetching are waited for.
+     * Each request carries up to {@value #MAX_TEXTS_PER_REQUEST} words as
+     * repeated {@code text} parameters and goes through the rate limiter
+     * on its own.
+     *
+     * @param words the words to translate
+     * @throws Exception if the API key is missing or a request fails
+     */
+    @Override
+    public void addWords(final Collection<String> words) throws Exception {
         // guard all missing-key cases, not just "none"
         if (deepLApiKey == null || deepLApiKey.trim().isEmpty()
                 || "none".equals(deepLApiKey)) {
             throw new IllegalStateException("Missing API Key");
         }
 
+        storedWords.fetchMissing(words, pending -> {
+            for (int start = 0; start < pending.size();
+                 start += MAX_TEXTS_PER_REQUEST) {
+                final int end = Math.min(start + MAX_TEXTS_PER_REQUEST,
+                        pending.size());
+                translateBatch(pending.subList(start, end));
+            }
+        });
+    }
+
+    /**
+     * Sends one DeepL request for the given words and stores the results.
+     *
+     * @param batch the words to translate, at most one request's worth
+     * @throws Exception if the request fails
+     */
+    private void translateBatch(final List<String> batch) throws Exception {
         final String encodedKey =
                 URLEncoder.encode(deepLApiKey, StandardCharsets.UTF_8);
-        final String encodedWord =
-                URLEncoder.encode(word, StandardCharsets.UTF_8);
         final String targetLang = ConfigDataRetriever.get("target_language");
 
-        final String urlParams = "auth_key=" + encodedKey
-                + "&text=" + encodedWord
-                + "&target_lang=" + targetLang;
+        final StringBuilder urlParams = new StringBuilder("auth_key=")
+                .append(encodedKey);
+        for (String word : batch) {
+            urlParams.append("&text=")
+                    .append(URLEncoder.encode(word, StandardCharsets.UTF_8));
+        }
+        urlParams.append("&target_lang=").append(targetLang);
 
-        final JSONObject responseJson = makeApiCall(urlParams);
+        final String params = urlParams.toString();
+        final JSONObject responseJson =
+                limiter.send(() -> makeApiCall(params));
 
         final JSONArray translations = responseJson.optJSONArray(
                 "translations");
-        if (translations != null && translations.length() > 0) {
+        if (translations == null) {
+            return;
+        }
+        // DeepL returns one translation per text, in request order
+        final int count = Math.min(translations.length(), batch.size());
+        for (int i = 0; i < count; i++) {
             final String translated =
-                    translations.getJSONObject(0).getString("text");
+                    translations.getJSONObject(i).getString("text");
 
-            final String key = word.toLowerCase();
-            if (!storedWords.getTranslations().containsKey(key)) {
-                storedWords.addTranslation(key, translated);
-            }
+            storedWords.addTranslationIfAbsent(
+                    Tokenizer.normalize(batch.get(i)), translated);
         }
     }
 
     /**
      * Makes a POST request to the DeepL translation API.
+     * The request reuses the session-wide connection to the provider.
      *
      * @param urlParams the encoded request parameters
      * @return the JSON response as a JSONObject
@@ -103,29 +185,7 @@ public class DeepLTranslationHandler implements Translator {
      */
     protected JSONObject makeApiCall(final String urlParams)
             throws Exception {
-        final String url = "https://api-free.deepl.com/v2/translate";
-
-        final HttpURLConnection conn =
-                (HttpURLConnection) new URL(url).openConnection();
-        conn.setRequestMethod("POST");
-        conn.setDoOutput(true);
-        conn.setRequestProperty("Content-Type",
-                "application/x-www-form-urlencoded");
-
-        try (OutputStream os = conn.getOutputStream()) {
-            os.write(urlParams.getBytes(StandardCharsets.UTF_8));
-        }
-
-        final StringBuilder responseBuilder = new StringBuilder();
-        try (BufferedReader in = new BufferedReader(
-                new InputStreamReader(
-                        conn.getInputStream(), StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = in.readLine()) != null) {
-                responseBuilder.append(line);
-            }
-        }
-
-        return new JSONObject(responseBuilder.toString());
+        return new JSONObject(TranslationHttpClient.shared()
+                .post(ENDPOINT, HEADERS, urlParams));
     }
 }
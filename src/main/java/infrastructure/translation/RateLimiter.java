@@ -0,0 +1,242 @@
+package infrastructure.translation;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces the HTTP requests sent to a translation provider with a
+ * token-bucket rate limit and retries throttled ones.
+ * <p>
+ * Handlers send each request through {@link #send(Request)}, so a batch
+ * split into several requests takes one token per request, and a retry
+ * repeats only the request that was throttled. Tokens refill at a steady
+ * rate up to a small burst, which keeps a session inside the provider's
+ * quota without idling. When the provider still answers
+ * {@code 429} or {@code 503}, the call is retried after the server's
+ * {@code Retry-After} delay if it sent one, otherwise after a jittered
+ * exponential backoff. Either wait is capped at the maximum backoff
+ * delay. A {@code Retry-After} pause also holds back every other caller
+ * sharing this limiter.
+ * </p>
+ */
+public class RateLimiter {
+
+    /** HTTP status for too many requests. */
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    /** HTTP status for a temporarily unavailable service. */
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    /** Default number of retries after the first attempt. */
+    private static final int DEFAULT_MAX_RETRIES = 5;
+
+    /** Default first backoff delay, in milliseconds. */
+    private static final long DEFAULT_BASE_DELAY_MS = 500;
+
+    /** Default cap on a single backoff delay, in milliseconds. */
+    private static final long DEFAULT_MAX_DELAY_MS = 30_000;
+
+    /** Largest doubling applied to the base delay. */
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    /** Limiter shared by every DeepL handler. */
+    private static final RateLimiter DEEPL = new RateLimiter(5, 10);
+
+    /** Limiter shared by every Azure handler. */
+    private static final RateLimiter AZURE = new RateLimiter(10, 20);
+
+    /** Time between requests at the sustained rate, in nanoseconds. */
+    private final long intervalNanos;
+
+    /** How far ahead of the sustained rate a burst may run. */
+    private final long burstNanos;
+
+    /** Retries allowed after the first attempt. */
+    private final int maxRetries;
+
+    /** First backoff delay, in milliseconds. */
+    private final long baseDelayMs;
+
+    /** Cap on a single backoff delay, in milliseconds. */
+    private final long maxDelayMs;
+
+    /**
+     * Time the next request would be due at the sustained rate;
+     * guarded by {@code this}.
+     */
+    private long nextDue;
+
+    /** No call may start before this time; guarded by {@code this}. */
+    private long pausedUntil;
+
+    /**
+     * Creates a limiter with the default retry policy.
+     *
+     * @param requestsPerSecond sustained request rate
+     * @param burst             requests allowed back to back after idling
+     */
+    public RateLimiter(final double requestsPerSecond, final int burst) {
+        this(requestsPerSecond, burst, DEFAULT_MAX_RETRIES,
+                DEFAULT_BASE_DELAY_MS, DEFAULT_MAX_DELAY_MS);
+    }
+
+    /**
+     * Creates a limiter.
+     *
+     * @param requestsPerSecond sustained request rate
+     * @param burst             requests allowed back to back after idling
+     * @param retries           retries allowed after the first attempt
+     * @param baseDelay         first backoff delay, in milliseconds
+     * @param maxDelay          cap on a single backoff delay, in
+     *                          milliseconds
+     */
+    public RateLimiter(final double requestsPerSecond,
+                       final int burst,
+                       final int retries,
+                       final long baseDelay,
+                       final long maxDelay) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException(
+                    "Rate and burst must be positive");
+        }
+        this.intervalNanos = Math.max(1L,
+                (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        this.burstNanos = intervalNanos * (burst - 1);
+        this.maxRetries = retries;
+        this.baseDelayMs = baseDelay;
+        this.maxDelayMs = maxDelay;
+        this.nextDue = nanoTime();
+        this.pausedUntil = nextDue;
+    }
+
+    /**
+     * @return the limiter for requests to the DeepL API
+     */
+    public static RateLimiter forDeepL() {
+        return DEEPL;
+    }
+
+    /**
+     * @return the limiter for requests to the Azure Translator API
+     */
+    public static RateLimiter forAzure() {
+        return AZURE;
+    }
+
+    /**
+     * Sends one request once a token is available, retrying it while the
+     * provider answers that it is throttled.
+     *
+     * @param request the request to send
+     * @param <T>     the type of the response
+     * @return the response
+     * @throws Exception the request's error once retries run out, or at
+     *                   once if it is not a throttling error
+     */
+    public <T> T send(final Request<T> request) throws Exception {
+        int attempt = 0;
+        while (true) {
+            acquire();
+            try {
+                return request.send();
+            } catch (TranslationHttpException e) {
+                if (!isRetryable(e) || attempt >= maxRetries) {
+                    throw e;
+                }
+                backOff(e, attempt++);
+            }
+        }
+    }
+
+    /**
+     * Blocks until a token is available and takes it. Each caller
+     * reserves its slot up front, so waiting callers are served in
+     * arrival order.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void acquire() throws InterruptedException {
+        final long wait;
+        synchronized (this) {
+            final long now = nanoTime();
+            final long start = Math.max(Math.max(now, pausedUntil),
+                    nextDue - burstNanos);
+            nextDue = Math.max(nextDue, start) + intervalNanos;
+            wait = start - now;
+        }
+        if (wait > 0) {
+            sleepNanos(wait);
+        }
+    }
+
+    /**
+     * Waits before the next attempt. A server-sent delay, capped at the
+     * maximum backoff delay, pauses every caller; otherwise only this
+     * caller backs off.
+     *
+     * @param e       the throttling error
+     * @param attempt zero-based number of the failed attempt
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void backOff(final TranslationHttpException e, final int attempt)
+            throws InterruptedException {
+        if (e.getRetryAfterSeconds() >= 0) {
+            final long delay = TimeUnit.MILLISECONDS.toNanos(Math.min(
+                    maxDelayMs,
+                    TimeUnit.SECONDS.toMillis(e.getRetryAfterSeconds())));
+            synchronized (this) {
+                pausedUntil = Math.max(pausedUntil, nanoTime() + delay);
+            }
+            return;
+        }
+
+        final long cap = Math.min(maxDelayMs,
+                baseDelayMs << Math.min(attempt, MAX_BACKOFF_SHIFT));
+        final long jittered = cap / 2
+                + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+        sleepNanos(TimeUnit.MILLISECONDS.toNanos(jittered));
+    }
+
+    /**
+     * @param e the error from the provider
+     * @return {@code true} if the provider asked us to slow down
+     */
+    private static boolean isRetryable(final TranslationHttpException e) {
+        return e.getStatusCode() == TOO_MANY_REQUESTS
+                || e.getStatusCode() == SERVICE_UNAVAILABLE;
+    }
+
+    /**
+     * @return the current time in nanoseconds
+     */
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Sleeps for the given time.
+     *
+     * @param nanos how long to sleep, in nanoseconds
+     * @throws InterruptedException if interrupted while sleeping
+     */
+    protected void sleepNanos(final long nanos) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+    }
+
+    /**
+     * One HTTP request to a provider.
+     *
+     * @param <T> the type of the response
+     */
+    @FunctionalInterface
+    public interface Request<T> {
+
+        /**
+         * Sends the request.
+         *
+         * @return the response
+         * @throws Exception if the request fails
+         */
+        T send() throws Exception;
+    }
+}
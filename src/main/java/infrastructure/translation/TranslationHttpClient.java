@@ -0,0 +1,131 @@
+package infrastructure.translation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Long-lived HTTP client shared by the translation handlers.
+ * <p>
+ * One {@link HttpClient} is kept for the whole session, so connections
+ * to a provider stay open between pages and the TLS handshake is paid
+ * once rather than per request. HTTP/2 is preferred, which lets
+ * concurrent requests to the same host share one connection; servers
+ * that only speak HTTP/1.1 fall back to pooled keep-alive connections.
+ * </p>
+ */
+public final class TranslationHttpClient {
+
+    /** Time allowed to open a connection. */
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    /** Time allowed for a whole request, including the response. */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /** Lowest HTTP status treated as an error. */
+    private static final int FIRST_ERROR_STATUS = 300;
+
+    /** Client shared by every handler. */
+    private static final TranslationHttpClient SHARED =
+            new TranslationHttpClient(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(CONNECT_TIMEOUT)
+                    .build());
+
+    /** The underlying client, which owns the connection pool. */
+    private final HttpClient client;
+
+    /**
+     * Creates a wrapper around the given client.
+     *
+     * @param httpClient the client to send requests with
+     */
+    public TranslationHttpClient(final HttpClient httpClient) {
+        this.client = httpClient;
+    }
+
+    /**
+     * @return the client shared by the whole application
+     */
+    public static TranslationHttpClient shared() {
+        return SHARED;
+    }
+
+    /**
+     * Sends a POST request and waits for the response body.
+     *
+     * @param uri     the endpoint
+     * @param headers request headers, including the content type
+     * @param body    the request body
+     * @return the response body
+     * @throws TranslationHttpException if the provider returns an error
+     *         status
+     * @throws IOException          if the request cannot be sent
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    public String post(final URI uri, final Map<String, String> headers,
+                       final String body)
+            throws IOException, InterruptedException {
+        return bodyOf(client.send(buildPost(uri, headers, body),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Builds a POST request with the shared timeout.
+     *
+     * @param uri     the endpoint
+     * @param headers request headers
+     * @param body    the request body
+     * @return the request
+     */
+    private static HttpRequest buildPost(final URI uri,
+                                         final Map<String, String> headers,
+                                         final String body) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(body,
+                        StandardCharsets.UTF_8));
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    /**
+     * Returns the body of a successful response.
+     *
+     * @param response the response
+     * @return the response body
+     * @throws TranslationHttpException if the status is not a success
+     */
+    private static String bodyOf(final HttpResponse<String> response)
+            throws TranslationHttpException {
+        if (response.statusCode() >= FIRST_ERROR_STATUS) {
+            throw new TranslationHttpException(response.statusCode(),
+                    retryAfterSeconds(response), response.body());
+        }
+        return response.body();
+    }
+
+    /**
+     * Reads a {@code Retry-After} header given in seconds. The HTTP-date
+     * form is rare for these providers and is treated as absent.
+     *
+     * @param response the response
+     * @return the delay in seconds, or {@code -1} if absent or unparsable
+     */
+    static long retryAfterSeconds(final HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Math.max(0L, Long.parseLong(value.trim()));
+                    } catch (NumberFormatException e) {
+                        return -1L;
+                    }
+                })
+                .orElse(-1L);
+    }
+}
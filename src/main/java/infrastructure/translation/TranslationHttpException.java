@@ -0,0 +1,49 @@
+package infrastructure.translation;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a translation provider answers with a non-success status.
+ * Carries the status code and any {@code Retry-After} hint so callers can
+ * decide whether and when to try again.
+ */
+public class TranslationHttpException extends IOException {
+
+    /** Serialization version. */
+    private static final long serialVersionUID = 1L;
+
+    /** HTTP status returned by the provider. */
+    private final int statusCode;
+
+    /** Seconds the provider asked us to wait, or {@code -1} if none. */
+    private final long retryAfterSeconds;
+
+    /**
+     * Creates an exception for a failed provider response.
+     *
+     * @param status     the HTTP status code
+     * @param retryAfter seconds to wait before retrying, or {@code -1}
+     * @param body       the response body, used as the message
+     */
+    public TranslationHttpException(final int status, final long retryAfter,
+                                    final String body) {
+        super("HTTP " + status + ": " + body);
+        this.statusCode = status;
+        this.retryAfterSeconds = retryAfter;
+    }
+
+    /**
+     * @return the HTTP status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return seconds the provider asked us to wait, or {@code -1} if the
+     *         response had no usable {@code Retry-After} header
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,227 @@
+package infrastructure.translation;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+import application.usecase.TranslatePageUseCase;
+import domain.model.Page;
+
+/**
+ * Schedules page translations for a reading session on one shared worker.
+ * <p>
+ * Requests for a page that is already queued or running are merged into
+ * the existing request. The page on screen always goes ahead of prefetch
+ * work. Finished pages are marked translated and reported on the Swing
+ * event thread, and a page stays pending until then, so it cannot be
+ * queued again in between. Nothing is reported after shutdown.
+ * </p>
+ * <p>
+ * Prefetching is part of the scheduler rather than a task of its own:
+ * callers queue the pages ahead of the reader as {@link Priority#PREFETCH}
+ * requests in page order, and {@link #cancelPrefetch()} drops the queued
+ * ones when the reader moves, so only the new window is translated.
+ * </p>
+ * <p>
+ * A single worker thread is used on purpose: the words chosen for a page
+ * depend on the words translated before it, and one translation request
+ * per page is already batched, so extra threads would only reorder the
+ * vocabulary without reducing the number of API calls.
+ * </p>
+ */
+public final class TranslationScheduler {
+
+    /**
+     * Scheduling priority of a page translation.
+     */
+    public enum Priority {
+        /** The page the reader is looking at. */
+        VISIBLE,
+        /** A page ahead of the reader, translated speculatively. */
+        PREFETCH
+    }
+
+    /** Translates one page. */
+    private final TranslatePageUseCase translator;
+
+    /** Called on the event thread with each translated page. */
+    private final Consumer<Page> onTranslated;
+
+    /** Single worker draining a priority queue of requests. */
+    private final ThreadPoolExecutor executor;
+
+    /** Queued or running requests, by page identity. */
+    private final Map<Page, Request> pending = new IdentityHashMap<>();
+
+    /** Submission counter keeping equal priorities in FIFO order. */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates a scheduler with its own daemon worker thread.
+     *
+     * @param useCase  the use case used to translate each page
+     * @param listener called on the event thread after each page is
+     *                 translated
+     */
+    public TranslationScheduler(final TranslatePageUseCase useCase,
+                                final Consumer<Page> listener) {
+        this.translator = useCase;
+        this.onTranslated = listener;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L,
+                TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), r -> {
+                    final Thread thread = new Thread(r, "page-translation");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Requests translation of a page. A page that is already translated
+     * is ignored; a page that is already queued keeps its place unless
+     * this request raises its priority.
+     *
+     * @param page     the page to translate
+     * @param priority how urgently the page is needed
+     */
+    public synchronized void submit(final Page page,
+                                    final Priority priority) {
+        if (page.isTranslated() || executor.isShutdown()) {
+            return;
+        }
+
+        final Request existing = pending.get(page);
+        if (existing == null) {
+            final Request request = new Request(page, priority);
+            pending.put(page, request);
+            executor.execute(request);
+        } else if (!existing.running
+                && priority.compareTo(existing.priority) < 0
+                && executor.getQueue().remove(existing)) {
+            existing.priority = priority;
+            executor.execute(existing);
+        }
+    }
+
+    /**
+     * Drops every queued prefetch request. A request already running is
+     * allowed to finish.
+     */
+    public synchronized void cancelPrefetch() {
+        final Iterator<Request> it = pending.values().iterator();
+        while (it.hasNext()) {
+            final Request request = it.next();
+            if (!request.running && request.priority == Priority.PREFETCH
+                    && executor.getQueue().remove(request)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @param page the page to check
+     * @return {@code true} if the page is queued or being translated
+     */
+    public synchronized boolean isPending(final Page page) {
+        return pending.containsKey(page);
+    }
+
+    /**
+     * Stops accepting work and drops everything still queued.
+     * A request already running is interrupted and not reported.
+     */
+    public synchronized void shutdown() {
+        executor.shutdownNow();
+        pending.clear();
+    }
+
+    /**
+     * Runs one request on the worker thread.
+     *
+     * @param request the request to run
+     */
+    private void run(final Request request) {
+        synchronized (this) {
+            if (pending.get(request.page) != request) {
+                return;
+            }
+            request.running = true;
+        }
+
+        try {
+            if (!request.page.isTranslated()) {
+                translator.execute(request.page);
+            }
+        } catch (RuntimeException ex) {
+            System.err.println("Page translation failed: "
+                    + ex.getMessage());
+        }
+
+        SwingUtilities.invokeLater(() -> finish(request));
+    }
+
+    /**
+     * Marks a request's page translated and reports it, unless the
+     * scheduler was shut down meanwhile. Runs on the event thread.
+     *
+     * @param request the finished request
+     */
+    private void finish(final Request request) {
+        synchronized (this) {
+            if (pending.get(request.page) != request) {
+                return;
+            }
+            pending.remove(request.page);
+            request.page.translated();
+        }
+        if (onTranslated != null) {
+            onTranslated.accept(request.page);
+        }
+    }
+
+    /**
+     * A queued page translation, ordered by priority then submission.
+     */
+    private final class Request implements Runnable, Comparable<Request> {
+
+        /** The page to translate. */
+        private final Page page;
+
+        /** Submission order, used to break ties. */
+        private final long order;
+
+        /** Current priority; only changed while out of the queue. */
+        private Priority priority;
+
+        /** Whether the worker has started on this request. */
+        private boolean running;
+
+        /**
+         * @param target the page to translate
+         * @param level  the initial priority
+         */
+        private Request(final Page target, final Priority level) {
+            this.page = target;
+            this.priority = level;
+            this.order = sequence.getAndIncrement();
+        }
+
+        @Override
+        public void run() {
+            TranslationScheduler.this.run(this);
+        }
+
+        @Override
+        public int compareTo(final Request other) {
+            final int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority
+                    : Long.compare(order, other.order);
+        }
+    }
+}
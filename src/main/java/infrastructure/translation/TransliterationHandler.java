@@ -1,26 +1,80 @@
 package infrastructure.translation;
 
 import com.ibm.icu.text.Transliterator;
+import configuration.LanguageCodes;
 import domain.gateway.WordTransliterator;
 
 /**
  * Handles the transliteration of text from any script
  * to Latin ASCII using ICU4J.
+ * <p>
+ * When the target language is known, its script picks a dedicated rule
+ * such as {@code "Cyrillic-Latin; Latin-ASCII"}, which skips the generic
+ * per-character script detection of {@code "Any-Latin"}. Text the
+ * dedicated rule leaves outside ASCII is retried with the generic rule,
+ * and ASCII input is returned unchanged.
+ * </p>
+ * <p>
+ * ICU transliterators are not safe to share between threads, so each
+ * thread builds and keeps its own instances. The handler itself may be
+ * shared freely.
+ * </p>
  */
 public class TransliterationHandler implements WordTransliterator {
 
-    /**
-     * ICU4J transliterator for "Any-Latin; Latin-ASCII".
-     */
-    private final Transliterator transliterator;
+    /** Rule that converts any script to Latin ASCII. */
+    static final String GENERIC_RULE = "Any-Latin; Latin-ASCII";
+
+    /** The rule picked for the target language. */
+    private final String rule;
+
+    /** This thread's transliterator for {@link #rule}. */
+    private final ThreadLocal<Transliterator> dedicated;
+
+    /** This thread's transliterator for {@link #GENERIC_RULE}. */
+    private final ThreadLocal<Transliterator> generic =
+            ThreadLocal.withInitial(() ->
+                    Transliterator.getInstance(GENERIC_RULE));
 
     /**
      * Creates a transliteration handler configured to convert
      * any script to Latin ASCII.
      */
     public TransliterationHandler() {
-        this.transliterator =
-                Transliterator.getInstance("Any-Latin; Latin-ASCII");
+        this(GENERIC_RULE);
+    }
+
+    /**
+     * Creates a transliteration handler tuned to the script of a target
+     * language.
+     *
+     * @param targetLanguage the language code translations are in
+     * @return the handler
+     */
+    public static TransliterationHandler forLanguage(
+            final String targetLanguage) {
+        return new TransliterationHandler(
+                ruleFor(LanguageCodes.scriptOf(targetLanguage)));
+    }
+
+    /**
+     * Creates a transliteration handler with the given ICU rule.
+     *
+     * @param transliterationRule an ICU transliterator ID ending in Latin
+     *                            ASCII
+     */
+    private TransliterationHandler(final String transliterationRule) {
+        this.rule = transliterationRule;
+        this.dedicated = GENERIC_RULE.equals(transliterationRule) ? generic
+                : ThreadLocal.withInitial(() ->
+                        Transliterator.getInstance(transliterationRule));
+    }
+
+    /**
+     * @return the ICU rule used first for every input
+     */
+    public String getRule() {
+        return rule;
     }
 
     /**
@@ -34,6 +88,42 @@ public class TransliterationHandler implements WordTransliterator {
         if (input == null) {
             return "";
         }
-        return transliterator.transliterate(input);
+        if (isAscii(input)) {
+            return input;
+        }
+        final String result = dedicated.get().transliterate(input);
+        if (dedicated == generic || isAscii(result)) {
+            return result;
+        }
+        return generic.get().transliterate(input);
+    }
+
+    /**
+     * @param script an ICU script name, as from
+     *               {@link LanguageCodes#scriptOf(String)}
+     * @return the rule converting that script to Latin ASCII
+     */
+    private static String ruleFor(final String script) {
+        switch (script) {
+            case "Any":
+                return GENERIC_RULE;
+            case "Latin":
+                return "Latin-ASCII";
+            default:
+                return script + "-Latin; Latin-ASCII";
+        }
+    }
+
+    /**
+     * @param text some text
+     * @return {@code true} if every character is ASCII
+     */
+    private static boolean isAscii(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -4,16 +4,27 @@
  * <ul>
  *     <li>{@code TransliterationHandler} —
  *     uses ICU4J to convert words from any script
- *     to Latin ASCII characters</li>
+ *     to Latin ASCII characters, with a rule picked for the target
+ *     language's script and one instance per thread</li>
+ *     <li>{@code CachingTransliterator} —
+ *     remembers recent transliterations so each distinct word is
+ *     converted once</li>
  *     <li>{@code DeepLTranslationHandler} —
  *     connects to the DeepL API to perform translations
  *     and stores translated words for reuse</li>
  *     <li>{@code AzureTranslationHandler} —
  *     connects to the Azure API to perform translations
  *     and stores translated words for reuse</li>
- *     <li>{@code PageTranslationTask} —
- *     wraps page translation in a background task
- *     using {@code SwingWorker} to keep the UI responsive</li>
+ *     <li>{@code TranslationScheduler} —
+ *     translates the visible page and the pages ahead of it on one
+ *     shared worker, merging duplicate requests per page</li>
+ *     <li>{@code TranslationHttpClient} —
+ *     long-lived HTTP/2 client shared by the translation handlers</li>
+ *     <li>{@code TranslationHttpException} —
+ *     a provider error status, with any {@code Retry-After} hint</li>
+ *     <li>{@code RateLimiter} —
+ *     paces each provider request with a token bucket and retries
+ *     throttled ones with backoff</li>
  * </ul>
  */
 package infrastructure.translation;
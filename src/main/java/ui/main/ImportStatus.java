@@ -0,0 +1,93 @@
+package ui.main;
+
+import application.usecase.ImportBookProgress;
+
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks a book that is still loading in the background and tells the
+ * window showing it when the page count changes.
+ * <p>
+ * Progress arrives on the import thread, often once per page. Updates are
+ * coalesced so at most one is waiting on the event dispatch thread at a
+ * time, and the listener always sees the latest count.
+ * </p>
+ */
+final class ImportStatus implements ImportBookProgress {
+
+    /** Pages loaded so far. */
+    private volatile int pageCount;
+
+    /** Whether the import has ended. */
+    private volatile boolean finished;
+
+    /** The error that ended the import early, if any. */
+    private volatile IOException failure;
+
+    /** Whether an update is already queued on the EDT. */
+    private final AtomicBoolean queued = new AtomicBoolean();
+
+    /** Runs on the EDT after each change; only touched on the EDT. */
+    private Runnable listener = () -> { };
+
+    @Override
+    public void pagesAdded(final int count) {
+        pageCount = count;
+        post();
+    }
+
+    @Override
+    public void finished(final int count, final IOException error) {
+        pageCount = count;
+        failure = error;
+        finished = true;
+        post();
+    }
+
+    /**
+     * Sets what runs on the EDT when the status changes, and runs it once
+     * so the caller starts from the current state. Must be called on the
+     * EDT.
+     *
+     * @param onChange the update to run
+     */
+    void setListener(final Runnable onChange) {
+        listener = onChange;
+        onChange.run();
+    }
+
+    /**
+     * @return pages loaded so far
+     */
+    int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * @return whether the import has ended
+     */
+    boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * @return the error that ended the import early, or {@code null}
+     */
+    IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Queues a listener run unless one is already waiting.
+     */
+    private void post() {
+        if (queued.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                queued.set(false);
+                listener.run();
+            });
+        }
+    }
+}
@@ -23,17 +23,17 @@ import configuration.LanguageCodes;
 import domain.gateway.Translator;
 import domain.gateway.WordTransliterator;
 import domain.gateway.ImporterSelector;                    // <-- added
-import domain.model.Page;
 import infrastructure.importer.FactorySelector;            // <-- added
+import infrastructure.persistence.PageFile;
 import infrastructure.persistence.StoredWords;
 import infrastructure.translation.DeepLTranslationHandler;
 import infrastructure.translation.AzureTranslationHandler;
 import infrastructure.translation.TransliterationHandler;
+import infrastructure.translation.CachingTransliterator;
 import infrastructure.tts.SpeechManager;
 import ui.components.UIThemeManager;
 import ui.login.LoginUI;
 
-import java.util.List;
 import javax.swing.BorderFactory;
 import java.awt.BorderLayout;
 import java.awt.FlowLayout;
@@ -71,17 +71,17 @@ public class MainUI extends JFrame {
     /** File currently selected by the user. */
     private File selectedFile;
 
-    /** Raw text content of the loaded book. */
-    private String bookText;
-
     /** Whether dark mode is enabled. */
     private boolean darkMode;
 
-    /** Pages created from the loaded book. */
-    private List<Page> pages;
+    /** The loaded book, before it is given its display title. */
+    private Book loadedBook;
+
+    /** Background loading status of {@link #loadedBook}. */
+    private ImportStatus importStatus;
 
-    /** Stored translations. */
-    private final StoredWords storedWords = new StoredWords();
+    /** Stored translations, persisted across sessions. */
+    private final StoredWords storedWords = StoredWords.getDefault();
 
     /** Translation controller. */
     private final TranslationController controller;        // <-- changed
@@ -156,21 +156,25 @@ public class MainUI extends JFrame {
         Translator translator;
 
         if (LanguageCodes.DEEPL_LANG_CODES.contains(targetLanguage)) {
-            translator = new DeepLTranslationHandler(deepLApiKey, storedWords);
-        } else if (LanguageCodes.AZURE_LANG_CODES.contains(targetLanguage)) {
-            translator = new AzureTranslationHandler(azureApiKey, azureRegion,
+            translator = new DeepLTranslationHandler(deepLApiKey,
                     storedWords);
+        } else if (LanguageCodes.AZURE_LANG_CODES.contains(targetLanguage)) {
+            translator = new AzureTranslationHandler(azureApiKey,
+                    azureRegion, storedWords);
         } else {
             throw new IllegalArgumentException("Unsupported target language "
                     + "code: " + targetLanguage);
         }
-        WordTransliterator wordTransliterator = new TransliterationHandler();
+        WordTransliterator wordTransliterator =
+                new CachingTransliterator(
+                        TransliterationHandler.forLanguage(targetLanguage));
         translatorUseCase = new TranslatePageInteractor(
                 translator, wordTransliterator, storedWords);
 
         final ImporterSelector selector = new FactorySelector();
         final ImportBookUseCase importUc =
-                new ImportBookInteractor(selector);
+                new ImportBookInteractor(selector,
+                        PageFile.temporaryStore(PageFile.DEFAULT_CACHE_PAGES));
         this.controller = new TranslationController(importUc);
 
         try {
@@ -251,14 +255,23 @@ public class MainUI extends JFrame {
     /** Adds listeners to UI components for button actions. */
     private void addListeners() {
         pickFileButton.addActionListener(e -> {
-            final var result = controller.loadBook();
+            final ImportStatus status = new ImportStatus();
+            final var result = controller.loadBook(status);
             if (result != null) {
-                pages = result.getPages();
-                bookText = result.getText();
+                loadedBook = result.getBook();
                 selectedFile = result.getFile();
+                importStatus = status;
                 JOptionPane.showMessageDialog(
                         this, "Book loaded successfully!");
-                pickFileButton.setText("Loaded: " + result.getFile().getName());
+                final String name = result.getFile().getName();
+                status.setListener(() -> {
+                    if (importStatus != status) {
+                        return;
+                    }
+                    pickFileButton.setText("Loaded: " + name
+                            + (status.isFinished() ? ""
+                            : " (" + status.getPageCount() + " pages...)"));
+                });
             }
         });
 
@@ -268,7 +281,7 @@ public class MainUI extends JFrame {
         });
 
         startButton.addActionListener(e -> {
-            if (bookText == null) {
+            if (loadedBook == null) {
                 JOptionPane.showMessageDialog(
                         this, "Please load a book first.");
                 return;
@@ -289,7 +302,8 @@ public class MainUI extends JFrame {
                 return;
             }
 
-            translatorUseCase.execute(pages.get(0));
+            translatorUseCase.execute(loadedBook.getPage(
+                    loadedBook.getCurrentPageNumber()));
 
             final String credsPath =
                     ConfigDataRetriever.get("credentials_path");
@@ -298,10 +312,13 @@ public class MainUI extends JFrame {
                     new SpeakWordsInteractor(speaker);
             speakController = new SpeakController(speakUseCase, speaker);
 
-            Book book = new Book(
-                    selectedFile.getName().replace(".txt", ""), pages);
-            new PageUI(book, darkMode, translatorUseCase,
-                    speakController).setVisible(true);
+            Book book = Book.fromSource(
+                    selectedFile.getName().replace(".txt", ""),
+                    loadedBook.getPageSource());
+            final PageUI pageUI = new PageUI(book, darkMode,
+                    translatorUseCase, speakController);
+            pageUI.followImport(importStatus);
+            pageUI.setVisible(true);
 
             dispose();
         });
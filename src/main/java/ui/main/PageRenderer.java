@@ -0,0 +1,192 @@
+package ui.main;
+
+import configuration.ConfigDataRetriever;
+import domain.model.Page;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns pages into the HTML shown by the reading window.
+ * <p>
+ * Translated words are drawn bold and underlined as their
+ * transliteration, followed by the translation in its own script when the
+ * "original_script" setting is on; other words are shown as written. Text
+ * is escaped as it is appended straight into one reused buffer sized for
+ * the page. Pages rewritten as a whole, such as those from older saves,
+ * are shown as given.
+ * </p>
+ * <p>
+ * The result is kept for the most recently shown pages until their
+ * revision or the "original_script" setting changes. Flipping back and
+ * forth between pages therefore returns the same string without building
+ * it again. Only used on the event dispatch thread.
+ * </p>
+ */
+final class PageRenderer {
+
+    /** Pages whose HTML is kept. */
+    static final int CACHED_PAGES = 8;
+
+    /** Markup before the page text. */
+    private static final String PREFIX = "<html><body>";
+
+    /** Markup after the page text. */
+    private static final String SUFFIX = "</body></html>";
+
+    /** Markup opening a translated word. */
+    private static final String HIGHLIGHT = "<b><u>";
+
+    /** Markup closing a translated word. */
+    private static final String HIGHLIGHT_END = "</u></b>";
+
+    /** Characters reserved per word when sizing the buffer. */
+    private static final int CHARS_PER_WORD = 16;
+
+    /** Buffer reused for every page. */
+    private final StringBuilder buffer = new StringBuilder();
+
+    /** Rendered HTML by page, least recently shown first. */
+    private final Map<Page, Rendered> cache =
+            new LinkedHashMap<>(CACHED_PAGES * 2, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<Page, Rendered> eldest) {
+                    return size() > CACHED_PAGES;
+                }
+            };
+
+    /**
+     * Returns the HTML for a page, reusing the last rendering if the page
+     * has not changed since.
+     *
+     * @param page the page to show
+     * @return the page as an HTML document
+     */
+    String render(final Page page) {
+        final int revision = page.getRevision();
+        final boolean showOriginal =
+                ConfigDataRetriever.snapshot().isOriginalScript();
+        final Rendered known = cache.get(page);
+        if (known != null && known.revision == revision
+                && known.showOriginal == showOriginal) {
+            return known.html;
+        }
+
+        buffer.setLength(0);
+        buffer.append(PREFIX);
+        if (page.hasWordTranslations() || !page.isTranslated()) {
+            appendWords(page, showOriginal);
+        } else {
+            appendAsGiven(page.getWords());
+        }
+        buffer.append(SUFFIX);
+
+        final String html = buffer.toString();
+        cache.put(page, new Rendered(revision, showOriginal, html));
+        return html;
+    }
+
+    /**
+     * Appends each original word, highlighting translated ones.
+     *
+     * @param page         a page with per-word translations, or none
+     * @param showOriginal whether to add each translation in its own
+     *                     script
+     */
+    private void appendWords(final Page page, final boolean showOriginal) {
+        final int count = page.getWordCount();
+        buffer.ensureCapacity(PREFIX.length() + SUFFIX.length()
+                + count * CHARS_PER_WORD);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                buffer.append(' ');
+            }
+            final String translation = page.getTranslation(i);
+            final String transliteration = page.getTransliteration(i);
+            if (translation == null || transliteration == null) {
+                appendEscaped(page.getOriginalWords().get(i));
+                continue;
+            }
+            appendEscaped(page.getLeading(i));
+            buffer.append(HIGHLIGHT);
+            appendEscaped(transliteration);
+            if (showOriginal) {
+                buffer.append('(');
+                appendEscaped(translation);
+                buffer.append(')');
+            }
+            buffer.append(HIGHLIGHT_END);
+            appendEscaped(page.getTrailing(i));
+        }
+    }
+
+    /**
+     * Appends words that may already hold markup, unchanged.
+     *
+     * @param words the displayed words
+     */
+    private void appendAsGiven(final List<String> words) {
+        buffer.ensureCapacity(PREFIX.length() + SUFFIX.length()
+                + words.size() * CHARS_PER_WORD);
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                buffer.append(' ');
+            }
+            buffer.append(words.get(i));
+        }
+    }
+
+    /**
+     * Appends text with the characters HTML treats specially escaped.
+     *
+     * @param text plain text
+     */
+    private void appendEscaped(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '<':
+                    buffer.append("&lt;");
+                    break;
+                case '>':
+                    buffer.append("&gt;");
+                    break;
+                case '&':
+                    buffer.append("&amp;");
+                    break;
+                default:
+                    buffer.append(c);
+            }
+        }
+    }
+
+    /**
+     * A page's HTML and what it was rendered from.
+     */
+    private static final class Rendered {
+
+        /** Page revision the HTML reflects. */
+        private final int revision;
+
+        /** Whether translations in their own script were shown. */
+        private final boolean showOriginal;
+
+        /** The rendered HTML. */
+        private final String html;
+
+        /**
+         * @param pageRevision page revision the HTML reflects
+         * @param original     whether translations in their own script
+         *                     were shown
+         * @param rendered     the rendered HTML
+         */
+        private Rendered(final int pageRevision, final boolean original,
+                         final String rendered) {
+            this.revision = pageRevision;
+            this.showOriginal = original;
+            this.html = rendered;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package ui.main;
 
 import configuration.ConfigDataRetriever;
+import configuration.ConfigSnapshot;
 import application.controller.SpeakController;
 import application.usecase.TranslatePageUseCase;
 import domain.model.Book;
 import domain.model.Page;
 import infrastructure.exporter.SaveBook;
-import infrastructure.translation.PageTranslationTask;
+import infrastructure.persistence.AutosaveService;
+import infrastructure.translation.TranslationScheduler;
+import infrastructure.translation.TranslationScheduler.Priority;
+import ui.components.UIThemeManager;
 
 import javax.swing.JButton;
 import javax.swing.JEditorPane;
@@ -16,18 +20,34 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.text.html.HTMLEditorKit;
 import javax.swing.text.html.StyleSheet;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.FlowLayout;
+import java.awt.Point;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.Closeable;
+import java.io.IOException;
 
 /**
  * UI window for displaying book pages and navigating between them,
  * refactored to use Book model directly.
+ * <p>
+ * Display settings changed while the window is open are applied to the
+ * shown page in place, keeping the scroll position; pages are re-rendered
+ * from their stored translations, never translated again.
+ * </p>
+ * <p>
+ * Leaving the window hides it at once; unsaved pages are written in the
+ * background and the window is disposed when that is done, so the event
+ * thread never waits on the disk.
+ * </p>
  */
 public class PageUI extends JFrame {
 
@@ -50,10 +70,7 @@ public class PageUI extends JFrame {
     private final Book displayedBook;
 
     /** Whether dark mode is active. */
-    private final boolean isDarkMode;
-
-    /** Translator use case for translating content. */
-    private final TranslatePageUseCase pageTranslator;
+    private boolean isDarkMode;
 
     /** Text-to-speech controller. */
     private final SpeakController speechController;
@@ -61,9 +78,37 @@ public class PageUI extends JFrame {
     /** Editor pane displaying the page content. */
     private final JEditorPane contentArea;
 
+    /** Scroll pane around {@link #contentArea}. */
+    private final JScrollPane contentScroll;
+
     /** Label showing current page number. */
     private final JLabel pageIndicator;
 
+    /** Shared worker translating the visible page and the ones ahead. */
+    private final TranslationScheduler scheduler;
+
+    /** Saves translated pages in the background. */
+    private final AutosaveService autosave;
+
+    /** Button moving to the next page. */
+    private final JButton nextBtn;
+
+    /** Button saving the book. */
+    private final JButton saveButton;
+
+    /** Builds and caches the HTML of shown pages. */
+    private final PageRenderer renderer = new PageRenderer();
+
+    /** HTML currently in {@link #contentArea}, to skip redundant loads. */
+    private String shownHtml;
+
+    /** Whether the book is still being imported. */
+    private boolean loading;
+
+    /** Applies display setting changes on the EDT. */
+    private final ConfigDataRetriever.Listener settingsListener =
+            key -> SwingUtilities.invokeLater(() -> settingChanged(key));
+
     /**
      * Constructs the PageUI window.
      *
@@ -79,12 +124,17 @@ public class PageUI extends JFrame {
 
         this.displayedBook = book;
         this.isDarkMode = darkMode;
-        this.pageTranslator = translatorUseCase;
+        this.scheduler = new TranslationScheduler(translatorUseCase,
+                this::onPageTranslated);
+        this.autosave = new AutosaveService(() -> SaveBook.savePath(book),
+                book.getPageSource(), () -> SaveBook.metadata(book),
+                file -> SaveBook.library().update(file),
+                AutosaveService.DEFAULT_INTERVAL_MS);
         this.speechController = speakCtrl;
 
         setTitle("Reading: " + book.getTitle());
         setSize(WIDTH, HEIGHT);
-        setDefaultCloseOperation(EXIT_ON_CLOSE);
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
         setLocationRelativeTo(null);
         setLayout(new BorderLayout());
 
@@ -93,16 +143,16 @@ public class PageUI extends JFrame {
         contentArea.setEditable(false);
         configureHtmlStyle();
 
-        JScrollPane scrollPane = new JScrollPane(contentArea);
-        scrollPane.getViewport().setBackground(
+        contentScroll = new JScrollPane(contentArea);
+        contentScroll.getViewport().setBackground(
                 isDarkMode ? DARK_BG : Color.WHITE);
-        add(scrollPane, BorderLayout.CENTER);
+        add(contentScroll, BorderLayout.CENTER);
 
         JButton backBtn = new JButton("Back to Main Page");
         JButton prevBtn = new JButton("Last Page");
-        JButton nextBtn = new JButton("Next Page");
+        nextBtn = new JButton("Next Page");
         JButton speakBtn = new JButton("Speak");
-        JButton saveButton = new JButton("Save");
+        saveButton = new JButton("Save");
 
         pageIndicator = new JLabel("", SwingConstants.CENTER);
 
@@ -119,15 +169,36 @@ public class PageUI extends JFrame {
         nextBtn.setEnabled(book.getTotalPages() > 1);
         prevBtn.setEnabled(false);
 
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(final WindowEvent e) {
+                if (loading) {
+                    // The import stops with the application, so the book
+                    // can never be completed and saved
+                    loading = false;
+                    autosave.abandon();
+                }
+                leave(() -> System.exit(0));
+            }
+        });
+
         backBtn.addActionListener(e -> {
-            dispose();
-            new MainUI(ConfigDataRetriever.get("deepl_api_key"),
+            final Runnable openMain = () -> new MainUI(
+                    ConfigDataRetriever.get("deepl_api_key"),
                     ConfigDataRetriever.get("azure_api_key"),
                     ConfigDataRetriever.get("azure_region"));
+            if (loading) {
+                // Saving waits for the import to finish
+                leave(() -> { });
+                openMain.run();
+            } else {
+                leave(openMain);
+            }
         });
 
         nextBtn.addActionListener(e -> {
             book.nextPage();
+            autosave.positionChanged();
             refreshContent();
             prevBtn.setEnabled(true);
             nextBtn.setEnabled(book.getCurrentPageNumber()
@@ -136,17 +207,26 @@ public class PageUI extends JFrame {
 
         prevBtn.addActionListener(e -> {
             book.previousPage();
+            autosave.positionChanged();
             refreshContent();
             nextBtn.setEnabled(true);
             prevBtn.setEnabled(book.getCurrentPageNumber() > 1);
         });
 
         saveButton.addActionListener(e -> {
-            SaveBook saveBook = new SaveBook();
-            if (saveBook.save(displayedBook)) {
-                saveButton.setEnabled(false);
-                saveButton.setText("Saved.");
-            }
+            saveButton.setEnabled(false);
+            autosave.pageChanged(displayedBook.getCurrentPage());
+            autosave.flushAsync().whenComplete((written, error) ->
+                    SwingUtilities.invokeLater(() -> {
+                        saveButton.setEnabled(true);
+                        if (error == null) {
+                            saveButton.setText("Saved.");
+                        } else {
+                            JOptionPane.showMessageDialog(this,
+                                    "Failed to save book.", "Save Error",
+                                    JOptionPane.ERROR_MESSAGE);
+                        }
+                    }));
         });
 
         speakBtn.addActionListener(e -> {
@@ -178,17 +258,95 @@ public class PageUI extends JFrame {
                     prevBtn, nextBtn, speakBtn);
         }
 
+        ConfigDataRetriever.addListener(settingsListener);
         refreshContent();
     }
 
+    /**
+     * Follows a book that is still loading: the page count and the next
+     * button update as pages arrive, and saving waits until the whole
+     * book is in. Must be called on the EDT.
+     *
+     * @param status the loading book's status
+     */
+    void followImport(final ImportStatus status) {
+        saveButton.setEnabled(false);
+        loading = true;
+        if (!status.isFinished()) {
+            autosave.suspend();
+        }
+        status.setListener(() -> {
+            updatePageIndicator();
+            nextBtn.setEnabled(displayedBook.getCurrentPageNumber()
+                    < displayedBook.getTotalPages());
+            if (status.isFinished() && loading) {
+                loading = false;
+                if (status.getFailure() == null) {
+                    saveButton.setEnabled(true);
+                    autosave.resume();
+                } else {
+                    autosave.abandon();
+                    saveButton.setText("Incomplete");
+                    JOptionPane.showMessageDialog(this,
+                            "Loading stopped after "
+                                    + status.getPageCount() + " pages.",
+                            "Book Incomplete",
+                            JOptionPane.WARNING_MESSAGE);
+                }
+            }
+        });
+    }
+
+    /**
+     * Hides the window, stops translating and writes any unsaved pages
+     * in the background. Once the save file is closed, the book's pages
+     * are released, the window is disposed and the next step runs on the
+     * EDT.
+     *
+     * @param then what to do once the book is saved
+     */
+    private void leave(final Runnable then) {
+        setVisible(false);
+        ConfigDataRetriever.removeListener(settingsListener);
+        scheduler.shutdown();
+        autosave.closeAsync().whenComplete((done, error) -> {
+            if (error != null) {
+                System.err.println("Failed to close save file: "
+                        + error.getMessage());
+            }
+            closePages();
+            SwingUtilities.invokeLater(() -> {
+                dispose();
+                then.run();
+            });
+        });
+    }
+
+    /**
+     * Closes the file the book's pages are read from, if any: its save
+     * file or the spool file of an imported book. Only called once the
+     * pages are no longer read or saved.
+     */
+    private void closePages() {
+        if (displayedBook.getPageSource() instanceof Closeable) {
+            try {
+                ((Closeable) displayedBook.getPageSource()).close();
+            } catch (IOException e) {
+                System.err.println("Failed to close book file: "
+                        + e.getMessage());
+            }
+        }
+    }
+
     /** Applies HTML styling to the content pane. */
     private void configureHtmlStyle() {
+        final ConfigSnapshot config = ConfigDataRetriever.snapshot();
         HTMLEditorKit editorKit = new HTMLEditorKit();
         StyleSheet styleSheet = new StyleSheet();
         styleSheet.addRule("body { font-family: "
-                + ConfigDataRetriever.get("font")
+                + config.getFont()
                 + "; font-size: "
-                + ConfigDataRetriever.get("font_size")
+                + config.getFontSize()
                 + "; color: "
                 + (isDarkMode ? "white" : "black")
                 + "; background-color: "
@@ -202,30 +360,116 @@ public class PageUI extends JFrame {
      */
     private void refreshContent() {
         Page page = displayedBook.getCurrentPage();
-        if (!page.isTranslated()) {
-            translatePageInBackground(page);
+        scheduler.submit(page, Priority.VISIBLE);
+        showPage(false);
+        updatePageIndicator();
+        schedulePrefetch();
+    }
+
+    /**
+     * Loads the current page's HTML into the content pane unless it is
+     * already shown.
+     *
+     * @param keepPosition {@code true} to stay at the same scroll position,
+     *                     {@code false} to start at the top of the page
+     */
+    private void showPage(final boolean keepPosition) {
+        final String html = renderer.render(displayedBook.getCurrentPage());
+        if (html.equals(shownHtml)) {
+            return;
+        }
+        final Point position = contentScroll.getViewport().getViewPosition();
+        contentArea.setText(html);
+        shownHtml = html;
+        if (keepPosition) {
+            SwingUtilities.invokeLater(() ->
+                    contentScroll.getViewport().setViewPosition(position));
+        } else {
+            contentArea.setCaretPosition(0);
         }
-        contentArea.setText("<html><body>"
-                + page.getContent() + "</body></html>");
-        contentArea.setCaretPosition(0);
+    }
+
+    /**
+     * Updates the window after a setting changed. Only the presentation
+     * is rebuilt: the renderer keys its cache on "original_script", and
+     * style changes reload the shown HTML under a new style sheet.
+     *
+     * @param key the changed setting
+     */
+    private void settingChanged(final String key) {
+        switch (key) {
+            case "dark_mode":
+                isDarkMode = ConfigDataRetriever.snapshot().isDarkMode();
+                UIThemeManager.applyTheme(getContentPane(), isDarkMode);
+                restyle();
+                break;
+            case "font":
+            case "font_size":
+                restyle();
+                break;
+            case "original_script":
+                showPage(true);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Rebuilds the content pane's style sheet and viewport background,
+     * and shows the page again under them.
+     */
+    private void restyle() {
+        configureHtmlStyle();
+        contentScroll.getViewport().setBackground(
+                isDarkMode ? DARK_BG : Color.WHITE);
+        shownHtml = null;
+        showPage(true);
+    }
+
+    /** Shows the current page number and the page count. */
+    private void updatePageIndicator() {
         pageIndicator.setText("Page "
                 + displayedBook.getCurrentPageNumber() + " of "
                 + displayedBook.getTotalPages());
     }
 
     /**
-     * Asynchronously translates a page and updates UI if needed.
+     * Redraws the page once its translation lands, if it is still shown.
      *
-     * @param page the page to translate
+     * @param page the page that was just translated
      */
-    private void translatePageInBackground(final Page page) {
-        PageTranslationTask task = new PageTranslationTask(
-                pageTranslator, page, () -> {
-            if (displayedBook.getCurrentPage().equals(page)) {
-                refreshContent();
-            }
-        });
-        task.execute();
+    private void onPageTranslated(final Page page) {
+        autosave.pageChanged(page);
+        saveButton.setText("Save");
+        if (displayedBook.getCurrentPage() == page) {
+            refreshContent();
+        }
+    }
+
+    /**
+     * Queues the pages after the current one, up to the configured
+     * "pages_translated" window. Queued pages that fell outside the new
+     * window are dropped first, so jumping away does not leave stale
+     * work ahead of the pages the reader now needs.
+     */
+    private void schedulePrefetch() {
+        scheduler.cancelPrefetch();
+        final int current = displayedBook.getCurrentPageNumber();
+        final int last = Math.min(current + prefetchWindow(),
+                displayedBook.getTotalPages());
+        for (int number = current + 1; number <= last; number++) {
+            scheduler.submit(displayedBook.getPage(number),
+                    Priority.PREFETCH);
+        }
+    }
+
+    /**
+     * @return how many pages ahead of the reader to translate
+     */
+    private int prefetchWindow() {
+        return Math.max(0,
+                ConfigDataRetriever.snapshot().getPagesTranslated());
     }
 
     /**
@@ -6,12 +6,19 @@ import configuration.ConfigDataRetriever;
 import domain.model.Book;
 import infrastructure.exporter.SaveBook;
 import infrastructure.importer.LoadBook;
+import infrastructure.persistence.LibraryEntry;
+import infrastructure.persistence.LibraryIndex;
 import ui.components.UIThemeManager;
 
 import java.awt.BorderLayout;
 import java.awt.Component;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
@@ -20,6 +27,7 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
 
 /**
  * UI window for saving and viewing saved books.
@@ -45,39 +53,45 @@ public class SaveUI extends JFrame {
         setLocationRelativeTo(null);
         setLayout(new BoxLayout(getContentPane(), BoxLayout.Y_AXIS));
 
-        // Load all .dig files
+        // List saved books from the library index, off the EDT
         JPanel filePanel = new JPanel();
         filePanel.setLayout(new BoxLayout(filePanel, BoxLayout.Y_AXIS));
+        filePanel.add(new JLabel("Loading saved books..."));
 
-        Path saveDir = SaveBook.getSaveDirectory();
-        File[] digFiles = saveDir.toFile().listFiles((dir,
-                                                      name)
-                -> name.endsWith(".dig"));
-
-        if (digFiles != null) {
-            for (File file : digFiles) {
-                JButton fileButton = new JButton(file.getName());
-                fileButton.setAlignmentX(Component.LEFT_ALIGNMENT);
-
-                fileButton.addActionListener(e -> {
-                    try {
-                        Book loaded = LoadBook.importBook(file);
-                        dispose();
-                        new PageUI(loaded, darkModeEnabled, translatorUseCase,
-                                speakCtrl).setVisible(true);
-                    } catch (Exception ex) {
-                        ex.printStackTrace();
-                        JOptionPane.showMessageDialog(this,
-                                "Failed to load: " + file.getName(),
-                                "Error", JOptionPane.ERROR_MESSAGE);
+        final LibraryIndex library = SaveBook.library();
+        final Consumer<List<LibraryEntry>> show = books ->
+                SwingUtilities.invokeLater(() -> {
+                    if (isDisplayable()) {
+                        showBooks(filePanel, books, darkModeEnabled,
+                                translatorUseCase, speakCtrl);
                     }
                 });
-
-                filePanel.add(fileButton);
-            }
-        } else {
-            filePanel.add(new JLabel("No saved books found."));
+        try {
+            library.watch(show);
+        } catch (IOException e) {
+            System.err.println("Cannot watch saves: " + e.getMessage());
         }
+        final Thread lister = new Thread(() -> {
+            try {
+                show.accept(library.list());
+            } catch (IOException e) {
+                System.err.println("Cannot list saves: " + e.getMessage());
+                show.accept(List.of());
+            }
+        }, "library-list");
+        lister.setDaemon(true);
+        lister.start();
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(final WindowEvent e) {
+                try {
+                    library.close();
+                } catch (IOException ex) {
+                    System.err.println("Cannot stop watching saves: "
+                            + ex.getMessage());
+                }
+            }
+        });
 
         JScrollPane scrollPane = new JScrollPane(filePanel);
         add(scrollPane, BorderLayout.CENTER);
@@ -96,4 +110,71 @@ public class SaveUI extends JFrame {
         }
         setVisible(true);
     }
+
+    /**
+     * Fills the panel with one button per saved book, from entries of
+     * the library index so no book is opened. Must be called on the EDT.
+     * @param filePanel the panel to fill.
+     * @param books the saved books, sorted by title.
+     * @param darkModeEnabled checks to see if already dark mode.
+     * @param translatorUseCase translator use case.
+     * @param speakCtrl the speak controller.
+     */
+    private void showBooks(final JPanel filePanel,
+                           final List<LibraryEntry> books,
+                           final boolean darkModeEnabled,
+                           final TranslatePageUseCase translatorUseCase,
+                           final SpeakController speakCtrl) {
+        filePanel.removeAll();
+
+        Path saveDir = SaveBook.getSaveDirectory();
+        for (LibraryEntry entry : books) {
+            File file = saveDir.resolve(entry.getFileName()).toFile();
+            JButton fileButton = new JButton(describe(entry));
+            fileButton.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+            fileButton.addActionListener(e -> {
+                try {
+                    Book loaded = LoadBook.importBook(file);
+                    dispose();
+                    new PageUI(loaded, darkModeEnabled, translatorUseCase,
+                            speakCtrl).setVisible(true);
+                } catch (Exception ex) {
+                    ex.printStackTrace();
+                    JOptionPane.showMessageDialog(this,
+                            "Failed to load: " + file.getName(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            });
+
+            filePanel.add(fileButton);
+        }
+        if (books.isEmpty()) {
+            filePanel.add(new JLabel("No saved books found."));
+        }
+        if (darkModeEnabled) {
+            UIThemeManager.applyTheme(filePanel, darkModeEnabled);
+        }
+        filePanel.revalidate();
+        filePanel.repaint();
+    }
+
+    /**
+     * Builds a button label with a book's title and reading progress.
+     * @param entry the library entry.
+     * @return the label.
+     */
+    private static String describe(final LibraryEntry entry) {
+        StringBuilder label = new StringBuilder(entry.getTitle());
+        if (!entry.getTargetLanguage().isEmpty()) {
+            label.append(" (").append(entry.getSourceLanguage())
+                    .append(" \u2192 ").append(entry.getTargetLanguage())
+                    .append(')');
+        }
+        label.append(" \u2014 page ").append(entry.getCurrentPage())
+                .append(" of ").append(entry.getPageCount())
+                .append(", ").append(entry.getTranslatedPages())
+                .append(" translated");
+        return label.toString();
+    }
 }
@@ -7,9 +7,8 @@ import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -19,6 +18,7 @@ import javax.swing.JScrollPane;
 
 import application.controller.SpeakController;
 import configuration.ConfigDataRetriever;
+import configuration.ConfigSnapshot;
 import domain.model.Page;
 
 /**
@@ -93,19 +93,13 @@ public class SpeakUI extends JFrame {
 
         // Whether the original script should
         // be preserved alongside translations
-        final boolean preserveOriginal =
-                ConfigDataRetriever.getBool("original_script");
-
-        // Get the correct list of words to display depending on settings
-        // If preserveOriginal is true, words will contain original +
-        // translation in parentheses
-        final List<String> pageWords = page.getWords();
-        final String targetLangCode = ConfigDataRetriever.get(
-                "target_language");
+        final ConfigSnapshot config = ConfigDataRetriever.snapshot();
+        final boolean preserveOriginal = config.isOriginalScript();
+        final String targetLangCode = config.getTargetLanguage();
 
         // Create the UI components
         final JPanel gridPanel = createGridPanel(darkMode);
-        populateGridPanel(gridPanel, pageWords,
+        populateGridPanel(gridPanel, page,
                 preserveOriginal, targetLangCode, speakController, darkMode);
 
         // Make the grid scrollable in case there are many words
@@ -141,74 +135,90 @@ public class SpeakUI extends JFrame {
     }
 
     /**
-     * Populates the grid panel with word buttons.
+     * Populates the grid panel with one button per distinct translation.
+     * Each button is labelled with the translation in its own script when
+     * the original script is preserved, or with its transliteration
+     * otherwise, and speaks the translation.
      *
      * @param gridPanel the panel to populate
-     * @param pageWords the list of words from the page
+     * @param page the page whose translated words are listed
      * @param preserveOriginal whether to preserve original script
      * @param targetLangCode the target language code
      * @param speakController the controller for speech
      * @param darkMode whether dark mode is enabled
      */
     private void populateGridPanel(final JPanel gridPanel,
-                                   final List<String> pageWords,
+                                   final Page page,
                                    final boolean preserveOriginal,
                                    final String targetLangCode,
                                    final SpeakController speakController,
                                    final boolean darkMode) {
-        // Track translations we have already added to avoid duplicate buttons
-        final Set<String> seenTranslations = new HashSet<>();
-
-        // Loop through each word from the page
-        for (String raw : pageWords) {
-            // Remove HTML tags and non-breaking spaces
-            final String clean = stripHtml(raw);
-            String translatedWord;
-
-            if (preserveOriginal) {
-                // If preserving original script,
-                // only process words with parentheses
-                if (!clean.contains("(") || !clean.contains(")")) {
-                    // Skip words without translations
-                    continue;
-                }
-                translatedWord = extractInsideParentheses(clean);
-            } else {
-                // Without original script,
-                // the word is already the translated form
-                translatedWord = clean;
-            }
-
-            // Remove punctuation (.,!? etc.) from the translated word
-            translatedWord = translatedWord.replaceAll(
-                    "[\\p{Punct}]", "").trim();
+        spokenWords(page, preserveOriginal).forEach((spoken, label) ->
+                gridPanel.add(createWordButton(label, spoken,
+                        targetLangCode, speakController, darkMode)));
+    }
 
-            // Skip empty translations after cleaning
-            if (translatedWord.isEmpty()) {
-                continue;
+    /**
+     * Lists a page's distinct translations with their button labels, in
+     * page order. Pages translated before per-word translations were
+     * kept, such as those in older saves, have their rewritten words
+     * parsed instead.
+     *
+     * @param page the page
+     * @param preserveOriginal whether labels show the original script
+     * @return each translation to speak, mapped to its label
+     */
+    static Map<String, String> spokenWords(final Page page,
+                                           final boolean preserveOriginal) {
+        final Map<String, String> spoken = new LinkedHashMap<>();
+        if (page.isTranslated() && !page.hasWordTranslations()) {
+            for (String raw : page.getWords()) {
+                addRewrittenWord(spoken, raw, preserveOriginal);
             }
-
-            // Avoid adding the same translated word twice
-            if (!seenTranslations.add(translatedWord)) {
-                continue;
+            return spoken;
+        }
+        for (int i = 0; i < page.getWordCount(); i++) {
+            final String translation = page.getTranslation(i);
+            if (translation != null && !translation.isBlank()) {
+                spoken.putIfAbsent(translation, preserveOriginal
+                        ? translation : page.getTransliteration(i));
             }
+        }
+        return spoken;
+    }
 
-            // The text displayed on the label
-            final String displayLabel = translatedWord;
-            // The text to be spoken
-            final String spokenText = translatedWord;
-            // Language code for TTS
-
-            // Create and style the button for the word
-            final JButton wordButton = createWordButton(
-                    displayLabel,
-                    spokenText,
-                    targetLangCode,
-                    speakController,
-                    darkMode
-            );
-            // Add to grid panel
-            gridPanel.add(wordButton);
+    /**
+     * Adds the translation in one rewritten word, if it has one. Such
+     * words were marked up in HTML and showed either the transliteration
+     * or the transliteration with the translation in parentheses.
+     *
+     * @param spoken the translations found so far, mapped to labels
+     * @param raw the rewritten word
+     * @param preserveOriginal whether labels show the original script
+     */
+    private static void addRewrittenWord(final Map<String, String> spoken,
+                                         final String raw,
+                                         final boolean preserveOriginal) {
+        if (!raw.contains("<")) {
+            // Words without markup were never translated
+            return;
+        }
+        final String clean = stripHtml(raw);
+        final String translation;
+        final String transliteration;
+        final int open = clean.indexOf('(');
+        final int close = clean.indexOf(')');
+        if (open != -1 && close > open) {
+            translation = stripPunctuation(clean.substring(open + 1, close));
+            transliteration = stripPunctuation(clean.substring(0, open));
+        } else {
+            translation = stripPunctuation(clean);
+            transliteration = translation;
+        }
+        if (!translation.isEmpty()) {
+            spoken.putIfAbsent(translation, preserveOriginal
+                    || transliteration.isEmpty()
+                    ? translation : transliteration);
         }
     }
 
@@ -218,29 +228,18 @@ public class SpeakUI extends JFrame {
      * @param input the raw word string (may contain HTML formatting)
      * @return cleaned string with HTML removed
      */
-    private String stripHtml(final String input) {
+    private static String stripHtml(final String input) {
         return input.replaceAll("<[^>]*>", "")
                 .replace("&nbsp;", " ")
                 .trim();
     }
 
     /**
-     * Extracts the text inside parentheses.
-     *
-     * @param text the text containing parentheses
-     * @return the string inside the first pair of parentheses,
-     * or empty if not found
+     * @param text a word
+     * @return the word without punctuation
      */
-    private String extractInsideParentheses(final String text) {
-        final int start = text.indexOf('(');
-        final int end = text.indexOf(')');
-        String result = "";
-
-        if (start != -1 && end != -1 && start < end) {
-            result = text.substring(start + 1, end).trim();
-        }
-
-        return result;
+    private static String stripPunctuation(final String text) {
+        return text.replaceAll("\\p{Punct}", "").trim();
     }
 
     /**
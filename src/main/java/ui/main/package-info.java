@@ -4,6 +4,10 @@
  * <ul>
  *     <li>{@code MainUI} — the application's primary window and launchpad</li>
  *     <li>{@code PageUI} — displays translated book pages and navigation</li>
+ *     <li>{@code PageRenderer} — builds page HTML, highlighting
+ *     translated words, and caches it until the page changes</li>
+ *     <li>{@code ImportStatus} — relays background loading progress
+ *     to the window showing the book</li>
  *     <li>{@code SettingsUI} — allows configuration of fonts,
  *     languages, and preferences</li>
  *     <li>{@code SpeakUI} — handles word-level
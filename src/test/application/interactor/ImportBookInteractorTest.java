@@ -4,11 +4,21 @@ import application.usecase.model.ImportBookRequest;
 import application.usecase.model.ImportBookResponse;
 import domain.gateway.BookImporter;
 import domain.gateway.ImporterSelector;
+import domain.gateway.PageStore;
 import domain.model.Book;
+import domain.model.PageSource;
 import org.junit.jupiter.api.Test;
 
+import application.usecase.ImportBookProgress;
+
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,7 +36,7 @@ class ImportBookInteractorTest {
         BookImporter importer = mock(BookImporter.class);
 
         when(selector.select(file)).thenReturn(importer);
-        when(importer.importBook(file)).thenReturn(raw);
+        when(importer.openBook(file)).thenReturn(new StringReader(raw));
 
         ImportBookInteractor interactor = new ImportBookInteractor(selector);
 
@@ -35,13 +45,14 @@ class ImportBookInteractorTest {
 
         // verify interactions
         verify(selector).select(file);
-        verify(importer).importBook(file);
+        verify(importer).openBook(file);
 
         // assertions
         Book book = res.getBook();
         assertNotNull(book);
         assertEquals(2, book.getAllPages().size()); // 4 words, 2/page
-        assertEquals(raw, res.getRawText());
+        assertEquals(List.of("three", "four"),
+                book.getPage(2).getOriginalWords());
         assertEquals(file, res.getFile());
     }
 
@@ -53,7 +64,7 @@ class ImportBookInteractorTest {
         BookImporter importer = mock(BookImporter.class);
 
         when(selector.select(file)).thenReturn(importer);
-        when(importer.importBook(file)).thenThrow(new IOException("boom"));
+        when(importer.openBook(file)).thenThrow(new IOException("boom"));
 
         ImportBookInteractor interactor = new ImportBookInteractor(selector);
 
@@ -61,6 +72,121 @@ class ImportBookInteractorTest {
                 interactor.importBook(new ImportBookRequest(file, 100)));
 
         verify(selector).select(file);
-        verify(importer).importBook(file);
+        verify(importer).openBook(file);
+    }
+
+    @Test
+    void startImport_ReturnsAfterFirstPages_andKeepsGrowing()
+            throws Exception {
+        File file = new File("long.txt");
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        int[] finalCount = {-1};
+
+        ImporterSelector selector = mock(ImporterSelector.class);
+        BookImporter importer = mock(BookImporter.class);
+        when(selector.select(file)).thenReturn(importer);
+        when(importer.openBook(file)).thenReturn(
+                gatedReader("a b c d e f ", gate, "g h i j "));
+
+        ImportBookProgress progress = new ImportBookProgress() {
+            @Override
+            public void pagesAdded(int pageCount) {
+            }
+
+            @Override
+            public void finished(int pageCount, IOException failure) {
+                finalCount[0] = failure == null ? pageCount : -2;
+                done.countDown();
+            }
+        };
+
+        ImportBookInteractor interactor = new ImportBookInteractor(selector);
+        Book book = interactor.startImport(
+                new ImportBookRequest(file, 2), progress).getBook();
+
+        // The rest of the file is held back, so only the first pages exist
+        assertEquals(3, book.getTotalPages());
+        assertEquals(List.of("a", "b"), book.getCurrentPage()
+                .getOriginalWords());
+
+        gate.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(5, finalCount[0]);
+        assertEquals(5, book.getTotalPages());
+        book.goToPage(5);
+        assertEquals(List.of("i", "j"), book.getCurrentPage()
+                .getOriginalWords());
+    }
+
+    @Test
+    void startImport_ThrowsWhenNothingWasRead() throws Exception {
+        File file = new File("bad.epub");
+
+        ImporterSelector selector = mock(ImporterSelector.class);
+        BookImporter importer = mock(BookImporter.class);
+        when(selector.select(file)).thenReturn(importer);
+        when(importer.openBook(file)).thenThrow(new IOException("boom"));
+
+        ImportBookInteractor interactor = new ImportBookInteractor(selector);
+
+        assertThrows(IOException.class, () -> interactor.startImport(
+                new ImportBookRequest(file, 100),
+                mock(ImportBookProgress.class)));
+    }
+
+    @Test
+    void startImport_ReleasesStoredPagesWhenNothingWasRead()
+            throws Exception {
+        File file = new File("bad.epub");
+
+        ImporterSelector selector = mock(ImporterSelector.class);
+        BookImporter importer = mock(BookImporter.class);
+        when(selector.select(file)).thenReturn(importer);
+        when(importer.openBook(file)).thenThrow(new IOException("boom"));
+        PageSource pages = mock(PageSource.class,
+                withSettings().extraInterfaces(Closeable.class));
+        PageStore.PageWriter writer = mock(PageStore.PageWriter.class);
+        when(writer.pages()).thenReturn(pages);
+
+        ImportBookInteractor interactor =
+                new ImportBookInteractor(selector, table -> writer);
+
+        assertThrows(IOException.class, () -> interactor.startImport(
+                new ImportBookRequest(file, 100),
+                mock(ImportBookProgress.class)));
+        verify((Closeable) pages).close();
+    }
+
+    /**
+     * Returns a reader that serves {@code first}, then waits for the gate
+     * before serving {@code rest}.
+     */
+    private static Reader gatedReader(String first, CountDownLatch gate,
+                                      String rest) {
+        return new Reader() {
+            private final Reader head = new StringReader(first);
+            private final Reader tail = new StringReader(rest);
+
+            @Override
+            public int read(char[] cbuf, int off, int len)
+                    throws IOException {
+                int read = head.read(cbuf, off, len);
+                if (read != -1) {
+                    return read;
+                }
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return tail.read(cbuf, off, len);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
     }
 }
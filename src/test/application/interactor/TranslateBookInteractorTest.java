@@ -0,0 +1,112 @@
+package application.interactor;
+
+import application.usecase.TranslateBookProgress;
+import application.usecase.TranslatePageUseCase;
+import application.usecase.model.TranslateBookRequest;
+import configuration.ConfigDataRetriever;
+import domain.gateway.Translator;
+import domain.gateway.WordTransliterator;
+import domain.model.Book;
+import domain.model.Page;
+import infrastructure.persistence.StoredWords;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/** Tests for TranslateBookInteractor. */
+class TranslateBookInteractorTest {
+
+    private TranslatePageUseCase pageTranslator;
+    private TranslateBookProgress progress;
+    private Page page1;
+    private Page page2;
+    private Page page3;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        pageTranslator = mock(TranslatePageUseCase.class);
+        progress = mock(TranslateBookProgress.class);
+        page1 = new Page(List.of("one"), 1, 5);
+        page2 = new Page(List.of("two"), 2, 5);
+        page3 = new Page(List.of("three"), 3, 5);
+        book = new Book("Book", List.of(page1, page2, page3));
+    }
+
+    @Test
+    void translateBook_translatesEveryPageInOrder() throws Exception {
+        TranslateBookInteractor uc =
+                new TranslateBookInteractor(pageTranslator);
+
+        Future<Integer> job =
+                uc.translateBook(new TranslateBookRequest(book), progress);
+
+        assertEquals(3, job.get(5, TimeUnit.SECONDS));
+        InOrder order = inOrder(pageTranslator);
+        order.verify(pageTranslator).execute(page1);
+        order.verify(pageTranslator).execute(page2);
+        order.verify(pageTranslator).execute(page3);
+        verify(progress).pageTranslated(3, 3, 3);
+        verify(progress).finished(3, false);
+    }
+
+    @Test
+    void translateBook_resumesFromPageAndSkipsTranslated() throws Exception {
+        page3.rewriteTranslatedContent(List.of("trois"));
+        TranslateBookInteractor uc =
+                new TranslateBookInteractor(pageTranslator);
+
+        Future<Integer> job = uc.translateBook(
+                new TranslateBookRequest(book, 2), progress);
+
+        assertEquals(1, job.get(5, TimeUnit.SECONDS));
+        verify(pageTranslator, never()).execute(page1);
+        verify(pageTranslator).execute(page2);
+        verify(pageTranslator, never()).execute(page3);
+        verify(progress).pageTranslated(2, 1, 2);
+        verify(progress).finished(1, false);
+    }
+
+    @Test
+    void translateBook_leavesInterruptedPageUntranslated() throws Exception {
+        ConfigDataRetriever.set("increment", "false");
+        ConfigDataRetriever.set("speed", "2");
+        CountDownLatch firstPageStarted = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        Translator translator = mock(Translator.class);
+        doAnswer(inv -> {
+            firstPageStarted.countDown();
+            // blocks like an HTTP send until the job is cancelled
+            new CountDownLatch(1).await();
+            return null;
+        }).when(translator).addWords(anyCollection());
+        doAnswer(inv -> {
+            finished.countDown();
+            return null;
+        }).when(progress).finished(anyInt(), anyBoolean());
+        TranslateBookInteractor uc = new TranslateBookInteractor(
+                new TranslatePageInteractor(translator,
+                        mock(WordTransliterator.class), new StoredWords()));
+
+        Future<Integer> job =
+                uc.translateBook(new TranslateBookRequest(book), progress);
+        assertTrue(firstPageStarted.await(5, TimeUnit.SECONDS));
+        job.cancel(true);
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        verify(translator, times(1)).addWords(anyCollection());
+        verify(progress, never()).pageTranslated(anyInt(), anyInt(),
+                anyInt());
+        verify(progress).finished(0, true);
+        assertFalse(page1.isTranslated());
+        assertFalse(page2.isTranslated());
+    }
+}
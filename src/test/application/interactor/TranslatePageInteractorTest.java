@@ -35,12 +35,14 @@ class TranslatePageInteractorTest {
         when(transliterator.transliterate(anyString()))
                 .thenAnswer(inv -> "TL(" + inv.getArgument(0, String.class) + ")");
 
-        // simulate that adding a word also saves its translation in the store
+        // simulate that adding words also saves their translations
         doAnswer(inv -> {
-            String w = inv.getArgument(0, String.class);
-            store.getTranslations().put(w.toLowerCase(Locale.ROOT), "tr-" + w);
+            Collection<String> ws = inv.getArgument(0);
+            for (String w : ws) {
+                store.addTranslation(w.toLowerCase(Locale.ROOT), "tr-" + w);
+            }
             return null;
-        }).when(translator).addWord(anyString());
+        }).when(translator).addWords(anyCollection());
     }
 
     @Test
@@ -53,13 +55,19 @@ class TranslatePageInteractorTest {
 
         uc.execute(page);
 
-        // verify translator asked to translate exactly "speed" words
-        verify(translator, times(2)).addWord(anyString());
+        // verify translator asked once for exactly "speed" words
+        verify(translator, times(1)).addWords(argThat(ws -> ws.size() == 2));
+        verify(translator, never()).addWord(anyString());
 
-        // content contains markup for translated words
-        String out = page.getContent();
-        int highlights = count(out, "<b><u>");
-        assertEquals(2, highlights);
+        // two words carry a translation, and no markup is stored
+        int translated = 0;
+        for (int i = 0; i < page.getWordCount(); i++) {
+            if (page.isWordTranslated(i)) {
+                translated++;
+            }
+        }
+        assertEquals(2, translated);
+        assertFalse(page.getContent().contains("<"));
 
         // transliterator used for each translated entry
         verify(transliterator, atLeast(2)).transliterate(startsWith("tr-"));
@@ -74,13 +82,70 @@ class TranslatePageInteractorTest {
         assertDoesNotThrow(() -> uc.execute(page));
     }
 
-    private static int count(String haystack, String needle) {
-        int c = 0, from = 0;
-        while (true) {
-            int i = haystack.indexOf(needle, from);
-            if (i < 0) break;
-            c++; from = i + needle.length();
-        }
-        return c;
+    @Test
+    void execute_takesEveryCandidate_whenFewerThanSpeed() throws Exception {
+        ConfigDataRetriever.set("speed", "5");
+        TranslatePageInteractor uc =
+                new TranslatePageInteractor(translator, transliterator, store);
+        store.addTranslation("alpha", "known");
+
+        // "alpha" is known, "of" is too short, "Beta"/"beta" count once
+        Page page = new Page(Arrays.asList(
+                "alpha", "of", "Beta", "beta", "gamma"), 1, 20);
+
+        assertTimeoutPreemptively(java.time.Duration.ofSeconds(2),
+                () -> uc.execute(page));
+
+        verify(translator).addWords(argThat(ws -> ws.size() == 2
+                && ws.containsAll(List.of("Beta", "gamma"))));
+    }
+
+    @Test
+    void execute_skipsTranslator_whenNoCandidatesRemain() throws Exception {
+        TranslatePageInteractor uc =
+                new TranslatePageInteractor(translator, transliterator, store);
+        store.addTranslation("alpha", "known");
+
+        Page page = new Page(Arrays.asList("alpha", "of", "an"), 1, 20);
+
+        assertTimeoutPreemptively(java.time.Duration.ofSeconds(2),
+                () -> uc.execute(page));
+
+        verify(translator, never()).addWords(anyCollection());
+    }
+
+    @Test
+    void execute_selectsSameWords_forSameSeed() throws Exception {
+        List<String> words = Arrays.asList(
+                "alpha", "beta", "gamma", "delta", "epsilon", "zeta");
+        List<Collection<String>> picks = new ArrayList<>();
+        doAnswer(inv -> {
+            picks.add(new ArrayList<>(inv.<Collection<String>>getArgument(0)));
+            return null;
+        }).when(translator).addWords(anyCollection());
+
+        new TranslatePageInteractor(translator, transliterator, store)
+                .execute(new Page(words, 1, 20));
+        new TranslatePageInteractor(translator, transliterator, store)
+                .execute(new Page(words, 1, 20));
+
+        assertEquals(2, picks.size());
+        assertEquals(picks.get(0), picks.get(1));
+    }
+
+    @Test
+    void execute_sharesTranslationAcrossPunctuation() throws Exception {
+        ConfigDataRetriever.set("speed", "0");
+        TranslatePageInteractor uc =
+                new TranslatePageInteractor(translator, transliterator, store);
+        store.addTranslation("hello", "bonjour");
+
+        Page page = new Page(Arrays.asList("Hello,", "hello", "(hello)"), 1, 20);
+        uc.execute(page);
+
+        assertEquals("TL(bonjour), TL(bonjour) (TL(bonjour))",
+                page.getContent());
+        assertEquals("bonjour", page.getTranslation(2));
+        assertEquals("TL(bonjour)", page.getTransliteration(2));
     }
 }
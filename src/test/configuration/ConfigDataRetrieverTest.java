@@ -0,0 +1,113 @@
+package configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the snapshots, change listeners and background saving of
+ * {@link ConfigDataRetriever}.
+ */
+class ConfigDataRetrieverTest {
+
+    /** Keys the listener was told about. */
+    private final List<String> changed = new ArrayList<>();
+
+    /** Records every changed key. */
+    private final ConfigDataRetriever.Listener listener = changed::add;
+
+    /** Value of "font_size" before the test. */
+    private final int fontSize = ConfigDataRetriever.getInt("font_size");
+
+    @AfterEach
+    void tearDown() {
+        ConfigDataRetriever.removeListener(listener);
+        ConfigDataRetriever.set("font_size", fontSize);
+    }
+
+    @Test
+    void snapshotsDoNotChangeAfterSet() {
+        ConfigSnapshot before = ConfigDataRetriever.snapshot();
+
+        ConfigDataRetriever.set("font_size", String.valueOf(fontSize + 1));
+
+        ConfigSnapshot after = ConfigDataRetriever.snapshot();
+        assertNotSame(before, after);
+        assertEquals(fontSize, before.getFontSize());
+        assertEquals(fontSize + 1, after.getFontSize());
+        assertEquals(fontSize + 1, ConfigDataRetriever.getInt("font_size"));
+    }
+
+    @Test
+    void unchangedValueKeepsSnapshot() {
+        ConfigSnapshot before = ConfigDataRetriever.snapshot();
+
+        ConfigDataRetriever.set("font_size", fontSize);
+
+        assertSame(before, ConfigDataRetriever.snapshot());
+    }
+
+    @Test
+    void savesAreWrittenInTheBackground() throws Exception {
+        Path file = Path.of(System.getProperty("user.home"), ".diglott",
+                "config.json");
+        try {
+            ConfigDataRetriever.set("font_size", fontSize + 1);
+            ConfigDataRetriever.saveConfig();
+            ConfigDataRetriever.saveConfig();
+            ConfigDataRetriever.flush();
+
+            JSONObject saved = new JSONObject(
+                    Files.readString(file, StandardCharsets.UTF_8));
+            assertEquals(fontSize + 1, saved.getInt("font_size"));
+        } finally {
+            ConfigDataRetriever.set("font_size", fontSize);
+            ConfigDataRetriever.saveConfig();
+            ConfigDataRetriever.flush();
+        }
+    }
+
+    @Test
+    void listenersHearChangedValuesOnly() {
+        ConfigDataRetriever.addListener(listener);
+
+        ConfigDataRetriever.set("font_size", fontSize);
+        ConfigDataRetriever.set("font_size", String.valueOf(fontSize));
+        assertTrue(changed.isEmpty());
+
+        ConfigDataRetriever.set("font_size", fontSize + 1);
+        assertEquals(List.of("font_size"), changed);
+    }
+
+    @Test
+    void removedListenersAreNotTold() {
+        ConfigDataRetriever.addListener(listener);
+        ConfigDataRetriever.removeListener(listener);
+
+        ConfigDataRetriever.set("font_size", fontSize + 1);
+        assertTrue(changed.isEmpty());
+    }
+
+    @Test
+    void failingListenerDoesNotStopOthers() {
+        ConfigDataRetriever.Listener failing = key -> {
+            throw new IllegalStateException("boom");
+        };
+        ConfigDataRetriever.addListener(failing);
+        ConfigDataRetriever.addListener(listener);
+        try {
+            ConfigDataRetriever.set("font_size", fontSize + 1);
+        } finally {
+            ConfigDataRetriever.removeListener(failing);
+        }
+        assertEquals(List.of("font_size"), changed);
+    }
+}
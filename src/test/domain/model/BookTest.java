@@ -125,4 +125,43 @@ class BookTest {
         assertTrue(current.isTranslated());
         assertEquals(List.of("one"), current.getOriginalWords());
     }
+
+    @Test
+    void fromSourceBuildsOnlyRequestedPages() {
+        List<Integer> built = new ArrayList<>();
+        PageSource source = new PageSource() {
+            @Override
+            public int size() {
+                return 100;
+            }
+
+            @Override
+            public int pageNumberAt(int index) {
+                return index + 1;
+            }
+
+            @Override
+            public Page get(int index) {
+                built.add(index);
+                return new Page(List.of("p" + (index + 1)), index + 1, 5);
+            }
+        };
+
+        Book lazy = Book.fromSource("Lazy", source);
+        lazy.goToPage(50);
+        lazy.nextPage();
+
+        assertEquals(100, lazy.getAllPages().size());
+        assertEquals("p51", lazy.getCurrentContent());
+        assertEquals(List.of(50), built);
+    }
+
+    @Test
+    void skipPagesMovesInReadingOrderAndClamps() {
+        assertEquals(3, book.skipPages(2));
+        assertEquals(3, book.skipPages(10));
+        assertEquals(2, book.skipPages(-1));
+        assertEquals(1, book.skipPages(Integer.MIN_VALUE));
+        assertEquals("one", book.getCurrentContent());
+    }
 }
@@ -2,6 +2,7 @@ package domain.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -50,4 +51,29 @@ class PageFactoryTest {
         assertEquals(List.of("a", "b"), pages.get(0).getWords());
         assertEquals(List.of("c", "d"), pages.get(1).getWords());
     }
+
+    @Test
+    void paginateReaderStreamsPagesInOrder() throws Exception {
+        List<Page> pages = new ArrayList<>();
+        TokenTable table = new TokenTable();
+
+        int count = PageFactory.paginate(
+                new StringReader("  a b\n c\td e  "), 2, table, pages::add);
+
+        assertEquals(3, count);
+        assertEquals(List.of("a", "b"), pages.get(0).getWords());
+        assertEquals(List.of("c", "d"), pages.get(1).getWords());
+        assertEquals(List.of("e"), pages.get(2).getWords());
+        assertEquals(3, pages.get(2).getPageNumber());
+        assertSame(table, pages.get(1).getTokenTable());
+    }
+
+    @Test
+    void paginateReaderBuildsNothingForBlankInput() throws Exception {
+        List<Page> pages = new ArrayList<>();
+
+        assertEquals(0, PageFactory.paginate(
+                new StringReader(" \n "), 2, new TokenTable(), pages::add));
+        assertTrue(pages.isEmpty());
+    }
 }
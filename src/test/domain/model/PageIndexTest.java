@@ -0,0 +1,84 @@
+package domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PageIndex class.
+ */
+class PageIndexTest {
+
+    @Test
+    void indexOfResolvesContiguousNumbers() {
+        PageIndex index = new PageIndex(source(5, 6, 7, 8));
+
+        assertEquals(0, index.indexOf(5));
+        assertEquals(3, index.indexOf(8));
+        assertEquals(-1, index.indexOf(4));
+        assertEquals(-1, index.indexOf(9));
+        assertEquals(-1, index.indexOf(Integer.MIN_VALUE));
+    }
+
+    @Test
+    void indexOfResolvesNumbersWithGaps() {
+        PageIndex index = new PageIndex(source(1, 3, 10, 1000, 1001));
+
+        assertEquals(0, index.indexOf(1));
+        assertEquals(2, index.indexOf(10));
+        assertEquals(4, index.indexOf(1001));
+        assertEquals(-1, index.indexOf(2));
+        assertEquals(-1, index.indexOf(999));
+    }
+
+    @Test
+    void indexOfKeepsFirstOfRepeatedNumbers() {
+        PageIndex index = new PageIndex(source(1, 2, 2, 3));
+
+        assertEquals(1, index.indexOf(2));
+        assertEquals(3, index.indexOf(3));
+    }
+
+    @Test
+    void indexOfHandlesManySparseNumbers() {
+        List<Page> pages = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            pages.add(new Page(List.of("w"), i * 7, 1));
+        }
+        PageIndex index = new PageIndex(new ListPageSource(pages));
+
+        assertEquals(4321, index.indexOf(4321 * 7));
+        assertEquals(-1, index.indexOf(4321 * 7 + 1));
+        assertEquals(5000, index.size());
+    }
+
+    @Test
+    void extendCoversPagesAddedToAGrowingSource() {
+        GrowingPageSource growing = new GrowingPageSource();
+        growing.add(new Page(List.of("w"), 1, 1));
+        PageIndex index = new PageIndex(growing);
+
+        assertSame(index, index.extend(growing));
+
+        growing.add(new Page(List.of("w"), 2, 1));
+        growing.add(new Page(List.of("w"), 5, 1));
+        PageIndex extended = index.extend(growing);
+
+        assertEquals(3, extended.size());
+        assertEquals(1, extended.indexOf(2));
+        assertEquals(2, extended.indexOf(5));
+        assertEquals(-1, extended.indexOf(3));
+        assertEquals(-1, index.indexOf(2));
+    }
+
+    private static PageSource source(int... numbers) {
+        List<Page> pages = new ArrayList<>();
+        for (int number : numbers) {
+            pages.add(new Page(List.of("w"), number, 1));
+        }
+        return new ListPageSource(pages);
+    }
+}
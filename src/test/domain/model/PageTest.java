@@ -92,4 +92,96 @@ class PageTest {
         List<String> original = page.getOriginalWords();
         assertThrows(UnsupportedOperationException.class, () -> original.add("c"));
     }
+
+    @Test
+    void tokensSplitPunctuationFromCore() {
+        Page page = new Page(List.of("\"Hello,", "world!", "--"), 1, 5);
+
+        assertEquals(3, page.getWordCount());
+        assertEquals("hello", page.getKey(0));
+        assertEquals("Hello", page.getCore(0));
+        assertEquals("\"", page.getLeading(0));
+        assertEquals(",", page.getTrailing(0));
+        assertEquals("world", page.getKey(1));
+        assertEquals("!", page.getTrailing(1));
+        assertNull(page.getKey(2));
+        assertEquals(-1, page.getTokenId(2));
+    }
+
+    @Test
+    void pagesSharingTableShareTokenIdsAndKeys() {
+        TokenTable table = new TokenTable();
+        Page first = new Page(List.of("Word,"), 1, 5, table);
+        Page second = new Page(List.of("word"), 2, 5, table);
+
+        assertEquals(first.getTokenId(0), second.getTokenId(0));
+        assertSame(first.getKey(0), second.getKey(0));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void changesMarkPageDirtyUntilCleared() {
+        Page page = new Page(List.of("one", "two"), 1, 5);
+        assertFalse(page.isDirty());
+
+        page.rewriteTranslatedContent(List.of("uno", "dos"));
+        assertTrue(page.isDirty());
+        assertTrue(page.clearDirty());
+        assertFalse(page.clearDirty());
+
+        page.resetToOriginal();
+        assertTrue(page.isDirty());
+    }
+
+    @Test
+    void revisionChangesWithDisplayedWords() {
+        Page page = new Page(List.of("one"), 1, 5);
+        int initial = page.getRevision();
+
+        page.translated();
+        assertEquals(initial, page.getRevision());
+
+        page.rewriteTranslatedContent(List.of("uno"));
+        int rewritten = page.getRevision();
+        assertNotEquals(initial, rewritten);
+
+        page.resetToOriginal();
+        assertNotEquals(rewritten, page.getRevision());
+    }
+
+    @Test
+    void markingTranslatedAgainLeavesPageClean() {
+        Page page = new Page(List.of("one"), 1, 5);
+        page.translated();
+        assertTrue(page.clearDirty());
+
+        page.translated();
+        assertFalse(page.isDirty());
+    }
+
+    @Test
+    void applyTranslationsKeepsWordsPlain() {
+        Page page = new Page(List.of("Hello,", "world"), 1, 5);
+        page.applyTranslations(new String[] {"bonjour", null},
+                new String[] {"bonjour", null});
+
+        assertTrue(page.isTranslated());
+        assertTrue(page.hasWordTranslations());
+        assertTrue(page.isWordTranslated(0));
+        assertFalse(page.isWordTranslated(1));
+        assertNull(page.getTranslation(1));
+        assertEquals("bonjour, world", page.getContent());
+        assertEquals(List.of("Hello,", "world"), page.getOriginalWords());
+
+        page.resetToOriginal();
+        assertFalse(page.hasWordTranslations());
+        assertEquals("Hello, world", page.getContent());
+    }
+
+    @Test
+    void applyTranslationsRejectsWrongLength() {
+        Page page = new Page(List.of("one", "two"), 1, 5);
+        assertThrows(IllegalArgumentException.class,
+                () -> page.applyTranslations(new String[1], new String[2]));
+    }
 }
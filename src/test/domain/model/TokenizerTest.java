@@ -0,0 +1,50 @@
+package domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Tokenizer class.
+ */
+class TokenizerTest {
+
+    @Test
+    void splitWordsIgnoresLeadingTrailingAndRepeatedWhitespace() {
+        assertEquals(List.of("one", "two", "three"),
+                Tokenizer.splitWords("  one \t two\n\nthree "));
+    }
+
+    @Test
+    void splitWordsReturnsEmptyListForBlankText() {
+        assertTrue(Tokenizer.splitWords(" \n ").isEmpty());
+    }
+
+    @Test
+    void coreTrimsOnlyOuterPunctuation() {
+        String word = "(don't).";
+        int start = Tokenizer.coreStart(word);
+        int end = Tokenizer.coreEnd(word, start);
+
+        assertEquals("don't", word.substring(start, end));
+    }
+
+    @Test
+    void coreIsEmptyForPunctuationOnly() {
+        String word = "...";
+        int start = Tokenizer.coreStart(word);
+
+        assertEquals(start, Tokenizer.coreEnd(word, start));
+    }
+
+    @Test
+    void coreKeepsNonLatinLetters() {
+        String word = "«Привет»";
+        int start = Tokenizer.coreStart(word);
+
+        assertEquals("привет", Tokenizer.normalize(
+                word.substring(start, Tokenizer.coreEnd(word, start))));
+    }
+}
@@ -2,7 +2,11 @@ package infrastructure.importer;
 
 import configuration.ConfigDataRetriever;
 import domain.model.Book;
+import domain.model.ListPageSource;
 import domain.model.Page;
+import infrastructure.persistence.BookMetadata;
+import infrastructure.persistence.DigFile;
+import infrastructure.persistence.StoredWords;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -11,6 +15,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -59,4 +64,45 @@ class LoadBookTest {
         assertFalse(p2.isTranslated());
         assertEquals(List.of("two", "two"), p2.getWords());
     }
+
+    @Test
+    void importBook_ReadsBinarySaves(@TempDir final Path dir)
+            throws Exception {
+        final Path file = dir.resolve("binary.dig");
+        DigFile.save(file, new ListPageSource(List.of(
+                new Page(List.of("one"), 1, 5),
+                new Page(List.of("two", "two"), 2, 5))));
+
+        final Book book = LoadBook.importBook(file.toFile());
+
+        assertEquals("binary.dig", book.getTitle());
+        assertEquals(2, book.getTotalPages());
+        assertEquals(List.of("two", "two"),
+                book.getPage(2).getOriginalWords());
+    }
+
+    @Test
+    void importBook_RestoresSavedBookState(@TempDir final Path dir)
+            throws Exception {
+        ConfigDataRetriever.set("input_language", "en");
+        ConfigDataRetriever.set("target_language", "fr");
+        final Path file = dir.resolve("Storyfr.dig");
+        final Page first = new Page(List.of("one", "cat"), 1, 5);
+        first.rewriteTranslatedContent(List.of("one", "chat"));
+        DigFile.save(file, new ListPageSource(List.of(first,
+                        new Page(List.of("two"), 2, 5))),
+                new BookMetadata("Story", "en", "fr", 2,
+                        Map.of("cat", "chat")));
+        final StoredWords words = new StoredWords();
+
+        final Book book = LoadBook.importBook(file.toFile(), words);
+
+        assertEquals("Story", book.getTitle());
+        assertEquals(2, book.getCurrentPageNumber());
+        assertEquals("chat", words.getTranslation("cat"));
+        assertEquals(List.of("one", "chat"), book.getPage(1).getWords());
+        assertEquals(List.of("one", "cat"),
+                book.getPage(1).getOriginalWords());
+        assertFalse(book.getPage(1).isDirty());
+    }
 }
@@ -0,0 +1,61 @@
+package infrastructure.importer;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Reader;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for ParallelPdfReader using a PDF created on the fly.
+ */
+class ParallelPdfReaderTest {
+
+    @Test
+    void read_StitchesRangesInPageOrder(@TempDir final Path dir)
+            throws Exception {
+        final Path pdfPath = dir.resolve("book.pdf");
+        final int pages = 12;
+
+        try (PDDocument doc = new PDDocument()) {
+            for (int i = 1; i <= pages; i++) {
+                final PDPage page = new PDPage(PDRectangle.LETTER);
+                doc.addPage(page);
+                try (PDPageContentStream cs =
+                             new PDPageContentStream(doc, page)) {
+                    cs.beginText();
+                    cs.setFont(PDType1Font.HELVETICA, 12);
+                    cs.newLineAtOffset(72, 700);
+                    cs.showText("Marker" + i + "end");
+                    cs.endText();
+                }
+            }
+            doc.save(pdfPath.toFile());
+        }
+
+        final StringBuilder text = new StringBuilder();
+        try (Reader reader = new ParallelPdfReader(pdfPath.toFile(), pages,
+                3, 2)) {
+            final char[] small = new char[5];
+            int read;
+            while ((read = reader.read(small)) != -1) {
+                text.append(small, 0, read);
+            }
+        }
+
+        final String all = text.toString();
+        int previous = -1;
+        for (int i = 1; i <= pages; i++) {
+            final int at = all.indexOf("Marker" + i + "end");
+            assertTrue(at > previous, "page " + i + " out of order");
+            previous = at;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.Reader;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -41,4 +42,40 @@ class PdfBookImporterTest {
 
         assertTrue(text.contains("Hello PDFBox"));
     }
+
+    @Test
+    void openBook_StreamsEveryPageInOrder(@TempDir final Path dir)
+            throws Exception {
+        final Path pdfPath = dir.resolve("pages.pdf");
+
+        try (PDDocument doc = new PDDocument()) {
+            for (String line : new String[] {"First page", "Second page"}) {
+                final PDPage page = new PDPage(PDRectangle.LETTER);
+                doc.addPage(page);
+                try (PDPageContentStream cs =
+                             new PDPageContentStream(doc, page)) {
+                    cs.beginText();
+                    cs.setFont(PDType1Font.HELVETICA, 12);
+                    cs.newLineAtOffset(72, 700);
+                    cs.showText(line);
+                    cs.endText();
+                }
+            }
+            doc.save(pdfPath.toFile());
+        }
+
+        final StringBuilder text = new StringBuilder();
+        try (Reader reader = new PdfBookImporter()
+                .openBook(pdfPath.toFile())) {
+            final char[] small = new char[3];
+            int read;
+            while ((read = reader.read(small)) != -1) {
+                text.append(small, 0, read);
+            }
+        }
+
+        final String all = text.toString();
+        assertTrue(all.indexOf("First page") >= 0);
+        assertTrue(all.indexOf("Second page") > all.indexOf("First page"));
+    }
 }
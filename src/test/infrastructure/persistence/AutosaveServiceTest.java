@@ -0,0 +1,234 @@
+package infrastructure.persistence;
+
+import static infrastructure.persistence.TestBooks.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import domain.model.Page;
+import domain.model.PageSource;
+
+/**
+ * Unit tests for {@link AutosaveService}. The timer is set far out so
+ * flushes happen only when a test asks for them.
+ */
+class AutosaveServiceTest {
+
+    /** Directory for the save file. */
+    @TempDir
+    Path dir;
+
+    /**
+     * Verifies that the first flush writes the whole book and later ones
+     * write only the changed pages, once each.
+     */
+    @Test
+    void flushAsync_WritesOnlyDirtyPagesAfterFirstSave() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        final PageSource book = book(20);
+        final AutosaveService autosave = service(file, book);
+        try {
+            translate(autosave, book.get(0));
+            assertEquals(20, autosave.flushAsync().get(5, TimeUnit.SECONDS));
+
+            translate(autosave, book.get(5));
+            autosave.pageChanged(book.get(5));
+            autosave.pageChanged(book.get(6));
+            assertEquals(1, autosave.flushAsync().get(5, TimeUnit.SECONDS));
+            assertEquals(0, autosave.flushAsync().get(5, TimeUnit.SECONDS));
+        } finally {
+            autosave.close();
+        }
+
+        try (DigFile saved = DigFile.open(file)) {
+            assertTrue(saved.get(5).isTranslated());
+            assertFalse(saved.get(6).isTranslated());
+        }
+    }
+
+    /**
+     * Verifies that nothing is written while suspended and that closing
+     * writes what is pending.
+     */
+    @Test
+    void close_FlushesPendingChangesAfterResume() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        final PageSource book = book(3);
+        final AutosaveService autosave = service(file, book);
+
+        autosave.suspend();
+        translate(autosave, book.get(2));
+        assertEquals(0, autosave.flushAsync().get(5, TimeUnit.SECONDS));
+        assertFalse(Files.exists(file));
+
+        autosave.resume();
+        autosave.close();
+
+        try (DigFile saved = DigFile.open(file)) {
+            assertTrue(saved.get(2).isTranslated());
+        }
+    }
+
+    /**
+     * Verifies that closing while suspended keeps the changes and saves
+     * them once the service is resumed.
+     */
+    @Test
+    void closeAsync_SavesAfterResumeWhenClosedWhileSuspended()
+            throws Exception {
+        final Path file = dir.resolve("book.dig");
+        final PageSource book = book(3);
+        final AutosaveService autosave = service(file, book);
+
+        autosave.suspend();
+        translate(autosave, book.get(1));
+        autosave.close();
+        final CompletableFuture<Void> closed = autosave.closeAsync();
+        assertFalse(closed.isDone());
+        assertFalse(Files.exists(file));
+
+        autosave.resume();
+        closed.get(5, TimeUnit.SECONDS);
+
+        try (DigFile saved = DigFile.open(file)) {
+            assertTrue(saved.get(1).isTranslated());
+        }
+    }
+
+    /**
+     * Verifies that an abandoned service stops without creating a file.
+     */
+    @Test
+    void abandon_StopsWithoutSaving() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        final PageSource book = book(3);
+        final AutosaveService autosave = service(file, book);
+
+        autosave.suspend();
+        translate(autosave, book.get(1));
+        autosave.closeAsync();
+        autosave.abandon();
+        autosave.closeAsync().get(5, TimeUnit.SECONDS);
+
+        assertFalse(Files.exists(file));
+    }
+
+    /**
+     * Verifies that a book read from its own save file is updated in
+     * place without a full rewrite.
+     */
+    @Test
+    void flushAsync_AppendsToTheFileTheBookWasReadFrom() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        DigFile.save(file, book(10));
+
+        try (DigFile opened = DigFile.open(file)) {
+            final AutosaveService autosave = service(file, opened);
+            try {
+                translate(autosave, opened.get(4));
+                assertEquals(1,
+                        autosave.flushAsync().get(5, TimeUnit.SECONDS));
+            } finally {
+                autosave.close();
+            }
+        }
+
+        try (DigFile saved = DigFile.open(file)) {
+            assertTrue(saved.get(4).isTranslated());
+        }
+    }
+
+    /**
+     * Verifies that timed flushes build no metadata while nothing
+     * changed, and save the position once the reader moves.
+     */
+    @Test
+    void timer_SkipsIdleTicksUntilPositionChanges() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        final PageSource book = book(3);
+        final AtomicInteger built = new AtomicInteger();
+        final AutosaveService autosave = new AutosaveService(file, book,
+                () -> {
+                    built.incrementAndGet();
+                    return new BookMetadata("Book", "en", "fr", 2,
+                            Map.of());
+                }, 20);
+        try {
+            autosave.flushAsync().get(5, TimeUnit.SECONDS);
+            final int afterSave = built.get();
+            Thread.sleep(200);
+            assertEquals(afterSave, built.get());
+
+            autosave.positionChanged();
+            final long deadline = System.nanoTime()
+                    + TimeUnit.SECONDS.toNanos(5);
+            while (built.get() == afterSave
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(afterSave + 1, built.get());
+        } finally {
+            autosave.close();
+        }
+    }
+
+    /**
+     * Verifies that each successful flush, including the final one, is
+     * reported with the save file, so the library sees the saved state.
+     */
+    @Test
+    void flush_ReportsTheSaveFileToTheLibrary() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        final PageSource book = book(3);
+        try (LibraryIndex library = new LibraryIndex(dir)) {
+            final AtomicInteger reported = new AtomicInteger();
+            final AutosaveService autosave = new AutosaveService(
+                    () -> file, book, () -> null, saved -> {
+                        assertEquals(file, saved);
+                        reported.incrementAndGet();
+                        library.update(saved);
+                    }, TimeUnit.HOURS.toMillis(1));
+
+            autosave.flushAsync().get(5, TimeUnit.SECONDS);
+            assertEquals(1, reported.get());
+            assertEquals(0, library.list().get(0).getTranslatedPages());
+
+            translate(autosave, book.get(1));
+            autosave.close();
+            assertEquals(2, reported.get());
+            assertEquals(1, library.list().get(0).getTranslatedPages());
+        }
+    }
+
+    /**
+     * @param file the save file
+     * @param book the pages to save
+     * @return a service whose timer never fires during a test
+     */
+    private static AutosaveService service(final Path file,
+                                           final PageSource book) {
+        return new AutosaveService(file, book, TimeUnit.HOURS.toMillis(1));
+    }
+
+    /**
+     * Marks a page translated and reports it.
+     *
+     * @param autosave the service
+     * @param page     the page
+     */
+    private static void translate(final AutosaveService autosave,
+                                  final Page page) {
+        page.translated();
+        autosave.pageChanged(page);
+    }
+}
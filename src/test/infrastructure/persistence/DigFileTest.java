@@ -0,0 +1,303 @@
+package infrastructure.persistence;
+
+import static infrastructure.persistence.TestBooks.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import domain.model.ListPageSource;
+import domain.model.Page;
+import domain.model.PageSource;
+
+/**
+ * Unit tests for {@link DigFile}.
+ */
+class DigFileTest {
+
+    /** Directory for the save files. */
+    @TempDir
+    Path dir;
+
+    /**
+     * Verifies that a saved book reads back page by page.
+     */
+    @Test
+    void save_ThenOpen_RoundTripsPages() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        final PageSource book = book(3);
+        book.get(1).translated();
+
+        assertEquals(3, DigFile.save(file, book));
+
+        assertTrue(DigFile.isDigFile(file));
+        try (DigFile saved = DigFile.open(file)) {
+            assertEquals(3, saved.size());
+            assertEquals(2, saved.pageNumberAt(1));
+            assertEquals(List.of("alpha2", "ünï"),
+                    saved.get(1).getOriginalWords());
+            assertTrue(saved.get(1).isTranslated());
+            assertFalse(saved.get(2).isTranslated());
+        }
+    }
+
+    /**
+     * Verifies that saving a file's own pages rewrites only those that
+     * changed, and that the result still reads back.
+     */
+    @Test
+    void save_WritesOnlyChangedPages() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        DigFile.save(file, book(50));
+
+        try (DigFile opened = DigFile.open(file)) {
+            opened.get(10).rewriteTranslatedContent(List.of("changed"));
+            opened.get(10).translated();
+            opened.get(20);
+
+            assertEquals(1, DigFile.save(file, opened));
+            assertEquals(0, DigFile.save(file, opened));
+        }
+
+        try (DigFile reopened = DigFile.open(file)) {
+            assertTrue(reopened.get(10).isTranslated());
+            assertEquals(List.of("changed"), reopened.get(10).getWords());
+            assertEquals(List.of("alpha11", "ünï"),
+                    reopened.get(10).getOriginalWords());
+            assertEquals(List.of("alpha12", "ünï"),
+                    reopened.get(11).getOriginalWords());
+        }
+    }
+
+    /**
+     * Verifies that saving a different copy of the same pages compares
+     * against the file instead of rewriting it.
+     */
+    @Test
+    void save_ComparesAnotherCopyAgainstFile() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        DigFile.save(file, book(5));
+        final PageSource copy = book(5);
+        copy.get(4).translated();
+
+        assertEquals(1, DigFile.save(file, copy));
+        assertEquals(0, DigFile.save(file, copy));
+    }
+
+    /**
+     * Verifies that a page reloads with both its original and translated
+     * words, clean, and that book metadata is kept with the pages.
+     */
+    @Test
+    void save_KeepsTranslationStateAndMetadata() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        final PageSource book = book(2);
+        book.get(0).rewriteTranslatedContent(List.of("alfa1", "uni"));
+        final BookMetadata metadata = new BookMetadata("Book", "en", "fr",
+                2, Map.of("alpha1", "alfa1"));
+
+        DigFile.save(file, book, metadata);
+
+        try (DigFile saved = DigFile.open(file)) {
+            final Page page = saved.get(0);
+            assertEquals(List.of("alpha1", "ünï"), page.getOriginalWords());
+            assertEquals(List.of("alfa1", "uni"), page.getWords());
+            assertTrue(page.isTranslated());
+            assertFalse(page.isDirty());
+
+            final BookMetadata read = saved.getMetadata();
+            assertEquals("Book", read.getTitle());
+            assertEquals("en", read.getSourceLanguage());
+            assertEquals("fr", read.getTargetLanguage());
+            assertEquals(2, read.getCurrentPage());
+            assertEquals(Map.of("alpha1", "alfa1"), read.getWords());
+        }
+    }
+
+    /**
+     * Verifies that each word's translation and transliteration reload.
+     */
+    @Test
+    void save_KeepsWordTranslations() throws Exception {
+        final Path file = dir.resolve("words.dig");
+        final PageSource book = book(2);
+        book.get(1).applyTranslations(new String[] {null, "юни"},
+                new String[] {null, "yuni"});
+
+        DigFile.save(file, book);
+
+        try (DigFile saved = DigFile.open(file)) {
+            final Page page = saved.get(1);
+            assertTrue(page.hasWordTranslations());
+            assertNull(page.getTranslation(0));
+            assertEquals("юни", page.getTranslation(1));
+            assertEquals("yuni", page.getTransliteration(1));
+            assertEquals(List.of("alpha2", "yuni"), page.getWords());
+            assertFalse(page.isDirty());
+            assertEquals(1, saved.countTranslated());
+        }
+    }
+
+    /**
+     * Verifies that changed metadata is saved without rewriting pages,
+     * and that saving pages alone keeps it.
+     */
+    @Test
+    void save_WritesMetadataOnlyWhenChanged() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        final PageSource book = book(3);
+        DigFile.save(file, book, new BookMetadata("Book", "en", "fr", 1,
+                Map.of()));
+
+        assertEquals(0, DigFile.save(file, book, new BookMetadata("Book",
+                "en", "fr", 3, Map.of())));
+        assertEquals(0, DigFile.save(file, book));
+
+        try (DigFile saved = DigFile.open(file)) {
+            assertEquals(3, saved.getMetadata().getCurrentPage());
+        }
+    }
+
+    /**
+     * Verifies that files of another format version are rejected.
+     */
+    @Test
+    void open_RejectsOtherVersions() throws Exception {
+        final Path file = dir.resolve("other.dig");
+        final ByteBuffer bytes = ByteBuffer.allocate(48)
+                .putInt(0x44494742).putInt(1).putInt(0);
+        Files.write(file, bytes.array());
+
+        assertTrue(DigFile.isDigFile(file));
+        assertThrows(IOException.class, () -> DigFile.open(file));
+    }
+
+    /**
+     * Verifies that saved words the new metadata lacks are kept, and that
+     * the metadata does not follow later changes to the caller's map.
+     */
+    @Test
+    void save_KeepsSavedWordsMissingFromNewMetadata() throws Exception {
+        final Path file = dir.resolve("words.dig");
+        final PageSource book = book(2);
+        final Map<String, String> words = new HashMap<>();
+        words.put("alpha1", "alfa1");
+        final BookMetadata first = new BookMetadata("Book", "en", "fr", 1,
+                words);
+        words.put("alpha2", "alfa2");
+        DigFile.save(file, book, first);
+
+        DigFile.save(file, book, new BookMetadata("Book", "en", "fr", 2,
+                Map.of("uni", "one")));
+
+        try (DigFile saved = DigFile.open(file)) {
+            assertEquals(Map.of("alpha1", "alfa1", "uni", "one"),
+                    saved.getMetadata().getWords());
+            assertEquals(2, saved.getMetadata().getCurrentPage());
+        }
+    }
+
+    /**
+     * Verifies that files in the older JSON format are not mistaken for
+     * binary saves.
+     */
+    @Test
+    void open_RejectsJsonSaves() throws Exception {
+        final Path file = dir.resolve("old.dig");
+        Files.writeString(file, "[]");
+
+        assertFalse(DigFile.isDigFile(file));
+        assertThrows(IOException.class, () -> DigFile.open(file));
+    }
+
+    /**
+     * Verifies that a file is only taken for the same book, not for
+     * another one with the same page numbering.
+     */
+    @Test
+    void holds_MatchesOnlyTheSameBook() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        DigFile.save(file, book(3));
+        final PageSource other = new ListPageSource(List.of(
+                new Page(List.of("other"), 1, 10),
+                new Page(List.of("other"), 2, 10),
+                new Page(List.of("other"), 3, 10)));
+
+        try (DigFile saved = DigFile.open(file)) {
+            assertTrue(saved.holds(book(3)));
+            assertFalse(saved.holds(book(4)));
+            assertFalse(saved.holds(other));
+        }
+    }
+
+    /**
+     * Verifies that only recently used pages stay cached, that a page
+     * still held elsewhere comes back as the same instance, and that an
+     * evicted page with unsaved changes is still saved.
+     */
+    @Test
+    void get_KeepsOnlyRecentPagesInMemory() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        DigFile.save(file, book(20));
+
+        try (DigFile opened = DigFile.open(file, 2)) {
+            final Page held = opened.get(0);
+            opened.get(1).translated();
+            for (int i = 2; i < 20; i++) {
+                opened.get(i);
+            }
+
+            assertEquals(2, opened.cachedPages());
+            assertSame(held, opened.get(0));
+            assertEquals(1, DigFile.save(file, opened));
+        }
+
+        try (DigFile reopened = DigFile.open(file)) {
+            assertTrue(reopened.get(1).isTranslated());
+        }
+    }
+
+    /**
+     * Verifies that compacting copies the saved records without decoding
+     * pages, leaving unsaved changes to the next save.
+     */
+    @Test
+    void writePages_CompactsWithoutDecodingPages() throws Exception {
+        final Path file = dir.resolve("book.dig");
+        DigFile.save(file, book(3));
+
+        try (DigFile opened = DigFile.open(file)) {
+            final Page first = opened.get(0);
+            final Page second = opened.get(1);
+            second.translated();
+            for (int i = 0; i < 10; i++) {
+                first.rewriteTranslatedContent(List.of("v" + i));
+                opened.writePages(List.of(first), null);
+            }
+
+            assertEquals(2, opened.cachedPages());
+            assertTrue(second.isDirty());
+            assertTrue(Files.size(file) < 400);
+        }
+
+        try (DigFile reopened = DigFile.open(file)) {
+            assertEquals(List.of("v9"), reopened.get(0).getWords());
+            assertFalse(reopened.get(1).isTranslated());
+            assertEquals(List.of("alpha3", "ünï"),
+                    reopened.get(2).getOriginalWords());
+        }
+    }
+}
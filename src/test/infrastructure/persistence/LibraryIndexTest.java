@@ -0,0 +1,116 @@
+package infrastructure.persistence;
+
+import static infrastructure.persistence.TestBooks.book;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import domain.model.PageSource;
+
+/**
+ * Unit tests for {@link LibraryIndex}.
+ */
+class LibraryIndexTest {
+
+    /** The saves directory. */
+    @TempDir
+    Path dir;
+
+    /**
+     * Verifies that listing reads titles and progress from the saves.
+     */
+    @Test
+    void list_ReadsProgressFromSaves() throws Exception {
+        final PageSource book = book(4);
+        book.get(0).translated();
+        book.get(2).translated();
+        DigFile.save(dir.resolve("zedfr.dig"), book,
+                new BookMetadata("Zed", "en", "fr", 3, Map.of("a", "b")));
+        DigFile.save(dir.resolve("alpha.dig"), book(2));
+
+        final List<LibraryEntry> entries = new LibraryIndex(dir).list();
+
+        assertEquals(2, entries.size());
+        assertEquals("alpha", entries.get(0).getTitle());
+        final LibraryEntry zed = entries.get(1);
+        assertEquals("Zed", zed.getTitle());
+        assertEquals("zedfr.dig", zed.getFileName());
+        assertEquals("fr", zed.getTargetLanguage());
+        assertEquals(4, zed.getPageCount());
+        assertEquals(3, zed.getCurrentPage());
+        assertEquals(2, zed.getTranslatedPages());
+        assertTrue(Files.exists(dir.resolve(LibraryIndex.INDEX_NAME)));
+    }
+
+    /**
+     * Verifies that a reopened index trusts entries whose files are
+     * unchanged, and rereads files that changed or were removed.
+     */
+    @Test
+    void list_RereadsOnlyChangedFiles() throws Exception {
+        final Path kept = dir.resolve("kept.dig");
+        final Path changed = dir.resolve("changed.dig");
+        final Path removed = dir.resolve("removed.dig");
+        DigFile.save(kept, book(3));
+        DigFile.save(changed, book(3));
+        DigFile.save(removed, book(3));
+        new LibraryIndex(dir).list();
+
+        // Same size and time: the index must not reopen the file
+        final FileTime stamp = Files.getLastModifiedTime(kept);
+        final byte[] garbage = new byte[(int) Files.size(kept)];
+        Files.write(kept, garbage);
+        Files.setLastModifiedTime(kept, stamp);
+        DigFile.save(changed, book(5));
+        Files.setLastModifiedTime(changed,
+                FileTime.fromMillis(stamp.toMillis() + 2_000));
+        Files.delete(removed);
+
+        final List<LibraryEntry> entries = new LibraryIndex(dir).list();
+
+        assertEquals(2, entries.size());
+        assertEquals("changed", entries.get(0).getTitle());
+        assertEquals(5, entries.get(0).getPageCount());
+        assertEquals("kept", entries.get(1).getTitle());
+        assertEquals(3, entries.get(1).getPageCount());
+    }
+
+    /**
+     * Verifies that the watcher hands over the entries it updated, so
+     * listeners need not list the directory again.
+     */
+    @Test
+    void watch_PassesUpdatedEntries() throws Exception {
+        final LibraryIndex index = new LibraryIndex(dir);
+        final BlockingQueue<List<LibraryEntry>> changes =
+                new LinkedBlockingQueue<>();
+        index.watch(changes::add);
+        try {
+            DigFile.save(dir.resolve("new.dig"), book(2));
+
+            final long deadline = System.nanoTime()
+                    + TimeUnit.SECONDS.toNanos(10);
+            boolean seen = false;
+            while (!seen && System.nanoTime() < deadline) {
+                final List<LibraryEntry> entries =
+                        changes.poll(100, TimeUnit.MILLISECONDS);
+                seen = entries != null && entries.stream().anyMatch(
+                        entry -> entry.getFileName().equals("new.dig"));
+            }
+            assertTrue(seen, "Watcher should report the new save.");
+        } finally {
+            index.close();
+        }
+    }
+}
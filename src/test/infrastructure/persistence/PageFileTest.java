@@ -0,0 +1,221 @@
+package infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import domain.model.Page;
+import domain.model.TokenTable;
+
+/**
+ * Unit tests for {@link PageFile}.
+ */
+class PageFileTest {
+
+    /** Directory for the spool file. */
+    @TempDir
+    Path dir;
+
+    /** Source under test: five pages, at most two cached. */
+    private PageFile source;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final TokenTable table = new TokenTable();
+        final PageFile.Writer writer =
+                new PageFile.Writer(dir.resolve("book.pages"), table, 2);
+        for (int number = 1; number <= 5; number++) {
+            writer.accept(new Page(List.of("word" + number, "ünï"),
+                    number, 10, table));
+        }
+        source = writer.finish();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        source.close();
+    }
+
+    /**
+     * Verifies that pages are rebuilt from the file in order.
+     */
+    @Test
+    void get_RebuildsPagesFromRecords() {
+        assertEquals(5, source.size());
+        assertEquals(4, source.pageNumberAt(3));
+
+        final Page page = source.get(3);
+
+        assertEquals(4, page.getPageNumber());
+        assertEquals(10, page.getMaxWords());
+        assertEquals(List.of("word4", "ünï"), page.getOriginalWords());
+        assertFalse(page.isTranslated());
+    }
+
+    /**
+     * Verifies that pages can be read while the writer is still adding
+     * them.
+     */
+    @Test
+    void pages_GrowsWhileWriting() throws Exception {
+        final TokenTable table = new TokenTable();
+        final PageFile.Writer writer =
+                new PageFile.Writer(dir.resolve("growing.pages"), table, 2);
+        final PageFile live = writer.pages();
+        try {
+            writer.accept(new Page(List.of("first"), 1, 10, table));
+
+            assertEquals(1, live.size());
+            assertEquals(List.of("first"), live.get(0).getOriginalWords());
+
+            writer.accept(new Page(List.of("second"), 2, 10, table));
+
+            assertEquals(2, live.size());
+            assertEquals(2, live.pageNumberAt(1));
+            assertSame(live, writer.finish());
+        } finally {
+            live.close();
+        }
+    }
+
+    /**
+     * Verifies that the cache is bounded and that a page still held by a
+     * caller keeps its identity after eviction.
+     */
+    @Test
+    void get_KeepsAtMostCacheLimitPages() {
+        final Page first = source.get(0);
+        assertSame(first, source.get(0));
+
+        for (int i = 0; i < 5; i++) {
+            source.get(i);
+        }
+
+        assertEquals(2, source.cachedPages());
+        assertSame(first, source.get(0));
+    }
+
+    /**
+     * Verifies that a page evicted while a caller holds it, and changed
+     * afterwards, is read back with the change.
+     */
+    @Test
+    void get_KeepsChangesToHeldPageAfterEviction() {
+        final Page held = source.get(0);
+        source.get(1);
+        source.get(2);
+
+        held.applyTranslations(new String[] {"mot1", null},
+                new String[] {"mot1", null});
+
+        final Page again = source.get(0);
+        assertSame(held, again);
+        assertTrue(again.hasWordTranslations());
+    }
+
+    /**
+     * Verifies that changes to a page rebuilt from a translated record
+     * are written back when it is evicted again.
+     */
+    @Test
+    void get_WritesBackChangesToRereadPage() {
+        source.get(0).applyTranslations(new String[] {"mot1", null},
+                new String[] {"mot1", null});
+        evictAndForget(0);
+
+        assertTrue(source.get(0).isTranslated());
+        source.get(0).resetToOriginal();
+        evictAndForget(0);
+
+        final Page reset = source.get(0);
+        assertFalse(reset.isTranslated());
+        assertEquals("word1 ünï", reset.getContent());
+    }
+
+    /**
+     * Verifies that translations of evicted pages are written back.
+     */
+    @Test
+    void get_RestoresTranslationAfterEviction() {
+        source.get(0).rewriteTranslatedContent(List.of("<b>mot1</b>", "ünï"));
+
+        source.get(1);
+        source.get(2);
+        final Page reloaded = source.get(0);
+
+        assertTrue(reloaded.isTranslated());
+        assertEquals("<b>mot1</b> ünï", reloaded.getContent());
+        assertEquals(List.of("word1", "ünï"), reloaded.getOriginalWords());
+    }
+
+    /**
+     * Verifies that per-word translations survive eviction.
+     */
+    @Test
+    void get_RestoresWordTranslationsAfterEviction() {
+        source.get(0).applyTranslations(new String[] {"mot1", null},
+                new String[] {"mot1", null});
+
+        source.get(1);
+        source.get(2);
+        final Page reloaded = source.get(0);
+
+        assertTrue(reloaded.hasWordTranslations());
+        assertEquals("mot1", reloaded.getTranslation(0));
+        assertNull(reloaded.getTranslation(1));
+        assertEquals("mot1 ünï", reloaded.getContent());
+    }
+
+    /**
+     * Verifies that out-of-range indexes are rejected.
+     */
+    @Test
+    void get_ThrowsForUnknownIndex() {
+        assertThrows(IndexOutOfBoundsException.class, () -> source.get(5));
+    }
+
+    /**
+     * Verifies that closing deletes the spool file.
+     */
+    @Test
+    void close_DeletesSpoolFile() throws Exception {
+        source.close();
+
+        assertFalse(Files.exists(dir.resolve("book.pages")));
+    }
+
+    /**
+     * Evicts a page and waits until nothing holds it any more, so the
+     * next read rebuilds it from its record.
+     *
+     * @param index the page position
+     */
+    private void evictAndForget(final int index) {
+        final WeakReference<Page> ref =
+                new WeakReference<>(source.get(index));
+        for (int i = 0; i < 5; i++) {
+            if (i != index) {
+                source.get(i);
+            }
+        }
+        for (int attempt = 0; attempt < 50 && ref.get() != null;
+             attempt++) {
+            System.gc();
+        }
+        assumeTrue(ref.get() == null, "page was not collected");
+    }
+}
@@ -1,10 +1,18 @@
 package infrastructure.persistence;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Unit tests for {@link StoredWords}.
@@ -60,4 +68,146 @@ class StoredWordsTest {
         assertEquals(1, translations.size(),
                 "Map should contain a single entry for the key.");
     }
+
+    /**
+     * Verifies that translations added to a log-backed store are
+     * available to a fresh store reading the same log.
+     */
+    @Test
+    void addTranslation_PersistsThroughLog(@TempDir final Path dir) {
+        final Path file = dir.resolve("translations.log");
+        final TranslationLog log = new TranslationLog(file);
+        final StoredWords store = new StoredWords(log);
+
+        store.addTranslation("dog", "Chien");
+        log.flush();
+
+        final StoredWords restarted =
+                new StoredWords(new TranslationLog(file));
+
+        assertEquals("chien", restarted.getTranslations().get("dog"),
+                "Translation should be loaded from the log.");
+    }
+
+    /**
+     * Verifies that {@code addTranslationIfAbsent} keeps the first value.
+     */
+    @Test
+    void addTranslationIfAbsent_KeepsExistingValue() {
+        final StoredWords store = new StoredWords();
+
+        assertTrue(store.addTranslationIfAbsent("cat", "Chat"));
+        assertFalse(store.addTranslationIfAbsent("cat", "Gato"));
+
+        assertEquals("chat", store.getTranslation("cat"),
+                "First translation should win.");
+    }
+
+    /**
+     * Verifies that only one caller can claim a word at a time and that
+     * translated words cannot be claimed at all.
+     */
+    @Test
+    void reserve_GrantsSingleClaimUntilReleased() {
+        final StoredWords store = new StoredWords();
+
+        assertTrue(store.reserve("sun"));
+        assertFalse(store.reserve("sun"), "Second claim must fail.");
+
+        store.release("sun");
+        assertTrue(store.reserve("sun"), "Claim is free after release.");
+
+        store.addTranslation("moon", "lune");
+        assertFalse(store.reserve("moon"),
+                "Translated words need no fetch.");
+    }
+
+    /**
+     * Verifies that a word another caller is fetching is waited for and
+     * not fetched again once that caller stored it.
+     */
+    @Test
+    void fetchMissing_WaitsForWordsFetchedElsewhere() throws Exception {
+        final StoredWords store = new StoredWords();
+        final List<List<String>> fetched = new CopyOnWriteArrayList<>();
+        assertTrue(store.reserve("sun"));
+
+        final Thread other = new Thread(() -> {
+            try {
+                store.fetchMissing(List.of("Sun", "moon"), words -> {
+                    fetched.add(words);
+                    store.addTranslation("moon", "lune");
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        other.start();
+        other.join(200);
+        assertTrue(other.isAlive(), "Must wait for the claimed word.");
+
+        store.addTranslation("sun", "soleil");
+        store.release("sun");
+        other.join(5_000);
+
+        assertFalse(other.isAlive());
+        assertEquals(List.of(List.of("moon")), fetched);
+    }
+
+    /**
+     * Verifies that a word is fetched again when the caller that held it
+     * did not store a translation.
+     */
+    @Test
+    void fetchMissing_RetriesWordsAnotherCallerFailedToStore()
+            throws Exception {
+        final StoredWords store = new StoredWords();
+        final List<List<String>> fetched = new CopyOnWriteArrayList<>();
+        assertTrue(store.reserve("sun"));
+
+        final Thread other = new Thread(() -> {
+            try {
+                store.fetchMissing(List.of("sun"), fetched::add);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        other.start();
+        store.release("sun");
+        other.join(5_000);
+
+        assertEquals(List.of(List.of("sun")), fetched);
+    }
+
+    /**
+     * Verifies that words are matched the same way whatever the default
+     * locale, so a capital I still finds its stored word in Turkish.
+     */
+    @Test
+    void fetchMissing_MatchesWordsIndependentOfLocale() throws Exception {
+        final Locale saved = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            final StoredWords store = new StoredWords();
+            final List<List<String>> fetched = new CopyOnWriteArrayList<>();
+            store.addTranslation("title", "titre");
+
+            store.fetchMissing(List.of("TITLE"), fetched::add);
+
+            assertTrue(fetched.isEmpty());
+        } finally {
+            Locale.setDefault(saved);
+        }
+    }
+
+    /**
+     * Verifies that the exposed map cannot be written to directly.
+     */
+    @Test
+    void getTranslations_IsReadOnly() {
+        final StoredWords store = new StoredWords();
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> store.getTranslations().put("a", "b"));
+    }
 }
@@ -0,0 +1,34 @@
+package infrastructure.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import domain.model.ListPageSource;
+import domain.model.Page;
+import domain.model.PageSource;
+
+/**
+ * Books shared by the persistence tests.
+ */
+final class TestBooks {
+
+    /** Prevents instantiation. */
+    private TestBooks() {
+    }
+
+    /**
+     * Builds a book whose pages hold a numbered word and a word outside
+     * ASCII, so encodings are exercised too.
+     *
+     * @param count number of pages
+     * @return a book of numbered two-word pages
+     */
+    static PageSource book(final int count) {
+        final List<Page> pages = new ArrayList<>();
+        for (int number = 1; number <= count; number++) {
+            pages.add(new Page(List.of("alpha" + number, "ünï"),
+                    number, 10));
+        }
+        return new ListPageSource(pages);
+    }
+}
@@ -0,0 +1,83 @@
+package infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link TranslationLog}.
+ */
+class TranslationLogTest {
+
+    /**
+     * Verifies that a missing log file loads as an empty map.
+     */
+    @Test
+    void load_ReturnsEmptyMap_WhenFileMissing(@TempDir final Path dir) {
+        final TranslationLog log =
+                new TranslationLog(dir.resolve("missing.log"));
+
+        assertTrue(log.load("en", "fr").isEmpty());
+    }
+
+    /**
+     * Verifies that flushed entries are read back for their own
+     * language pair only.
+     */
+    @Test
+    void flush_ThenLoad_RoundTripsPerLanguagePair(@TempDir final Path dir) {
+        final Path file = dir.resolve("nested").resolve("translations.log");
+        final TranslationLog log = new TranslationLog(file);
+
+        log.append("en", "fr", "house", "maison");
+        log.append("en", "de", "house", "haus");
+        log.flush();
+
+        final Map<String, String> french =
+                new TranslationLog(file).load("en", "fr");
+
+        assertEquals(Map.of("house", "maison"), french);
+    }
+
+    /**
+     * Verifies that a torn line, as left by a crash mid-write, is skipped.
+     */
+    @Test
+    void load_SkipsCorruptLines(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("translations.log");
+        Files.writeString(file,
+                "{\"src\":\"en\",\"tgt\":\"fr\",\"word\":\"cat\","
+                        + "\"text\":\"chat\"}\n{\"src\":\"en\",\"tg",
+                StandardCharsets.UTF_8);
+
+        final Map<String, String> entries =
+                new TranslationLog(file).load("en", "fr");
+
+        assertEquals(Map.of("cat", "chat"), entries);
+    }
+
+    /**
+     * Verifies that lines appended after a torn line are kept apart from
+     * it and load again.
+     */
+    @Test
+    void flush_AfterTornLine_StartsNewLine(@TempDir final Path dir)
+            throws Exception {
+        final Path file = dir.resolve("translations.log");
+        Files.writeString(file, "{\"src\":\"en\",\"tg",
+                StandardCharsets.UTF_8);
+
+        final TranslationLog log = new TranslationLog(file);
+        log.append("en", "fr", "dog", "chien");
+        log.flush();
+
+        assertEquals(Map.of("dog", "chien"), log.load("en", "fr"));
+    }
+}
@@ -6,11 +6,11 @@ import org.json.JSONArray;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -20,7 +20,7 @@ class AzureTranslationHandlerTest {
 
     @BeforeEach
     void setUp() {
-        mockStorage = mock(StoredWords.class);
+        mockStorage = spy(new StoredWords());
         // Pass dummy key/region to avoid ConfigDataRetriever in tests
         handler = new AzureTranslationHandler("testKey",
                 "testRegion", mockStorage);
@@ -32,71 +32,94 @@ class AzureTranslationHandlerTest {
     @Test
     void testAddWord_StoresTranslation_WhenApiSucceeds() throws Exception {
         String word = "house";
-        Map<String, String> fakeStorage = new HashMap<>();
-        when(mockStorage.getTranslations()).thenReturn(fakeStorage);
 
         AzureTranslationHandler spyHandler = spy(handler);
 
-        // AzureTranslationHandler expects a JSONObject with "translations"
-        doReturn(new JSONObject()
+        // AzureTranslationHandler expects one object per word,
+        // each holding a "translations" array
+        doReturn(new JSONArray().put(new JSONObject()
                 .put("translations", new JSONArray()
-                        .put(new JSONObject().put("text", "Haus"))))
-                .when(spyHandler).makeApiCall(anyString(), anyString());
+                        .put(new JSONObject().put("text", "Haus")))))
+                .when(spyHandler).makeApiCall(anyList(), anyString());
 
         spyHandler.addWord(word);
 
-        verify(mockStorage).addTranslation("house", "Haus");
+        verify(mockStorage).addTranslationIfAbsent("house", "Haus");
     }
 
     @Test
     void testAddWord_DoesNotStore_WhenApiReturnsEmpty() throws Exception {
         String word = "car";
-        when(mockStorage.getTranslations()).thenReturn(new HashMap<>());
 
         AzureTranslationHandler spyHandler = spy(handler);
 
-        doReturn(new JSONObject()
-                .put("translations", new JSONArray()))
-                .when(spyHandler).makeApiCall(anyString(), anyString());
+        doReturn(new JSONArray().put(new JSONObject()
+                .put("translations", new JSONArray())))
+                .when(spyHandler).makeApiCall(anyList(), anyString());
 
         spyHandler.addWord(word);
 
-        verify(mockStorage, never()).addTranslation(anyString(), anyString());
+        verify(mockStorage, never())
+                .addTranslationIfAbsent(anyString(), anyString());
     }
 
     @Test
     void testAddWord_ThrowsException_WhenApiCallFails() throws Exception {
         String word = "tree";
-        when(mockStorage.getTranslations()).thenReturn(new HashMap<>());
 
         AzureTranslationHandler spyHandler = spy(handler);
 
         doThrow(new RuntimeException("API error"))
-                .when(spyHandler).makeApiCall(anyString(), anyString());
+                .when(spyHandler).makeApiCall(anyList(), anyString());
 
         Exception ex = assertThrows(RuntimeException.class, () ->
                 spyHandler.addWord(word));
         assertTrue(ex.getMessage().contains("API error"));
 
-        verify(mockStorage, never()).addTranslation(anyString(), anyString());
+        verify(mockStorage, never())
+                .addTranslationIfAbsent(anyString(), anyString());
     }
 
     @Test
     void testAddWord_DoesNotAddDuplicateTranslation() throws Exception {
         String word = "water";
-        Map<String, String> existingTranslations = new HashMap<>();
-        existingTranslations.put(word.toLowerCase(), "Wasser");
-        when(mockStorage.getTranslations()).thenReturn(existingTranslations);
+        mockStorage.addTranslation(word.toLowerCase(), "Wasser");
 
         AzureTranslationHandler spyHandler = spy(handler);
 
-        doReturn(new JSONObject()
+        doReturn(new JSONArray().put(new JSONObject()
                 .put("translations", new JSONArray()
-                        .put(new JSONObject().put("text", "Wasser"))))
-                .when(spyHandler).makeApiCall(anyString(), anyString());
+                        .put(new JSONObject().put("text", "Wasser")))))
+                .when(spyHandler).makeApiCall(anyList(), anyString());
 
         spyHandler.addWord(word);
 
-        verify(mockStorage, never()).addTranslation(anyString(), anyString());
+        verify(spyHandler, never()).makeApiCall(anyList(), anyString());
+        verify(mockStorage, never())
+                .addTranslationIfAbsent(anyString(), anyString());
+    }
+
+    /*
+     * Verifies that several words travel in one request and that each
+     * result is stored against the word at the same position.
+     */
+    @Test
+    void testAddWords_SendsOneRequestForAllWords() throws Exception {
+
+        AzureTranslationHandler spyHandler = spy(handler);
+
+        doReturn(new JSONArray()
+                .put(new JSONObject().put("translations", new JSONArray()
+                        .put(new JSONObject().put("text", "Haus"))))
+                .put(new JSONObject().put("translations", new JSONArray()
+                        .put(new JSONObject().put("text", "Baum")))))
+                .when(spyHandler).makeApiCall(anyList(), anyString());
+
+        spyHandler.addWords(List.of("House", "tree"));
+
+        verify(spyHandler, times(1))
+                .makeApiCall(eq(List.of("House", "tree")), anyString());
+        verify(mockStorage).addTranslationIfAbsent("house", "Haus");
+        verify(mockStorage).addTranslationIfAbsent("tree", "Baum");
     }
 }
@@ -0,0 +1,67 @@
+package infrastructure.translation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import domain.gateway.WordTransliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CachingTransliterator}.
+ */
+class CachingTransliteratorTest {
+
+    /** Inputs the wrapped transliterator was called with. */
+    private final List<String> calls = new ArrayList<>();
+
+    /** Upper-cases its input and records the call. */
+    private final WordTransliterator counting = input -> {
+        calls.add(input);
+        return input == null ? "" : input.toUpperCase();
+    };
+
+    @Test
+    void repeatedWordsAreTransliteratedOnce() {
+        CachingTransliterator cache = new CachingTransliterator(counting);
+
+        assertEquals("PRIVET", cache.transliterate("privet"));
+        assertEquals("PRIVET", cache.transliterate("privet"));
+        assertEquals("MIR", cache.transliterate("mir"));
+        assertEquals("PRIVET", cache.transliterate("privet"));
+
+        assertEquals(List.of("privet", "mir"), calls);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void leastRecentlyUsedWordIsEvicted() {
+        CachingTransliterator cache = new CachingTransliterator(counting, 2);
+        cache.transliterate("a");
+        cache.transliterate("b");
+        cache.transliterate("a");
+        cache.transliterate("c");
+
+        assertEquals(2, cache.size());
+        cache.transliterate("a");
+        cache.transliterate("b");
+
+        assertEquals(List.of("a", "b", "c", "b"), calls);
+    }
+
+    @Test
+    void nullInputIsPassedThroughUncached() {
+        CachingTransliterator cache = new CachingTransliterator(counting);
+
+        assertEquals("", cache.transliterate(null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CachingTransliterator(counting, 0));
+    }
+}
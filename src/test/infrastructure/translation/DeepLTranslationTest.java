@@ -5,8 +5,8 @@ import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -18,7 +18,7 @@ class DeepLTranslationHandlerTest {
 
     @BeforeEach
     void setUp() {
-        mockStorage = mock(StoredWords.class);
+        mockStorage = spy(new StoredWords());
         // Use a non-empty key so we don't hit ConfigDataRetriever
         handler = new DeepLTranslationHandler("test-key", mockStorage);
     }
@@ -26,7 +26,6 @@ class DeepLTranslationHandlerTest {
     @Test
     void testAddWord_StoresTranslation_WhenApiSucceeds() throws Exception {
         String word = "house";
-        when(mockStorage.getTranslations()).thenReturn(new HashMap<>());
 
         DeepLTranslationHandler spyHandler = spy(handler);
         doReturn(new JSONObject("{\"translations\":[{\"text\":\"Haus\"}]}"))
@@ -34,12 +33,11 @@ class DeepLTranslationHandlerTest {
 
         spyHandler.addWord(word);
 
-        verify(mockStorage).addTranslation("house", "Haus");
+        verify(mockStorage).addTranslationIfAbsent("house", "Haus");
     }
 
     @Test
     void testAddWord_DoesNotStore_WhenApiReturnsEmpty() throws Exception {
-        when(mockStorage.getTranslations()).thenReturn(new HashMap<>());
 
         DeepLTranslationHandler spyHandler = spy(handler);
         doReturn(new JSONObject("{\"translations\":[]}"))
@@ -48,12 +46,11 @@ class DeepLTranslationHandlerTest {
         spyHandler.addWord("car");
 
         verify(mockStorage, never())
-                .addTranslation(anyString(), anyString());
+                .addTranslationIfAbsent(anyString(), anyString());
     }
 
     @Test
     void testAddWord_ThrowsException_WhenApiCallFails() throws Exception {
-        when(mockStorage.getTranslations()).thenReturn(new HashMap<>());
 
         DeepLTranslationHandler spyHandler = spy(handler);
         doThrow(new RuntimeException("API error"))
@@ -66,14 +63,12 @@ class DeepLTranslationHandlerTest {
         assertTrue(ex.getMessage().contains("API error"));
 
         verify(mockStorage, never())
-                .addTranslation(anyString(), anyString());
+                .addTranslationIfAbsent(anyString(), anyString());
     }
 
     @Test
     void testAddWord_DoesNotAddDuplicateTranslation() throws Exception {
-        Map<String, String> existing = new HashMap<>();
-        existing.put("water", "Wasser");
-        when(mockStorage.getTranslations()).thenReturn(existing);
+        mockStorage.addTranslation("water", "Wasser");
 
         DeepLTranslationHandler spyHandler = spy(handler);
         doReturn(new JSONObject("{\"translations\":[{\"text\":\"Wasser\"}]}"))
@@ -81,7 +76,68 @@ class DeepLTranslationHandlerTest {
 
         spyHandler.addWord("water");
 
+        verify(spyHandler, never()).makeApiCall(anyString());
         verify(mockStorage, never())
-                .addTranslation(anyString(), anyString());
+                .addTranslationIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    void testAddWords_SendsOneRequestWithRepeatedTextParams()
+            throws Exception {
+
+        DeepLTranslationHandler spyHandler = spy(handler);
+        doReturn(new JSONObject("{\"translations\":["
+                + "{\"text\":\"Haus\"},{\"text\":\"Baum\"}]}"))
+                .when(spyHandler).makeApiCall(anyString());
+
+        spyHandler.addWords(List.of("House", "tree"));
+
+        verify(spyHandler, times(1)).makeApiCall(
+                argThat(p -> p.contains("&text=House&text=tree&")));
+        verify(mockStorage).addTranslationIfAbsent("house", "Haus");
+        verify(mockStorage).addTranslationIfAbsent("tree", "Baum");
+    }
+
+    @Test
+    void testAddWord_WaitsForWordBeingFetchedElsewhere() throws Exception {
+        // another thread already holds the claim for "river"
+        mockStorage.reserve("river");
+
+        DeepLTranslationHandler spyHandler = spy(handler);
+        Thread caller = new Thread(() -> {
+            try {
+                spyHandler.addWord("river");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        caller.start();
+        caller.join(200);
+        assertTrue(caller.isAlive());
+
+        mockStorage.addTranslation("river", "Fluss");
+        mockStorage.release("river");
+        caller.join(5000);
+
+        assertFalse(caller.isAlive());
+        verify(spyHandler, never()).makeApiCall(anyString());
+    }
+
+    @Test
+    void testAddWords_TakesOneTokenPerRequest() throws Exception {
+        RateLimiter limiter = spy(new RateLimiter(100, 10));
+        DeepLTranslationHandler spyHandler = spy(
+                new DeepLTranslationHandler("test-key", mockStorage, limiter));
+        doReturn(new JSONObject("{\"translations\":[]}"))
+                .when(spyHandler).makeApiCall(anyString());
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            words.add("word" + i);
+        }
+
+        spyHandler.addWords(words);
+
+        verify(spyHandler, times(2)).makeApiCall(anyString());
+        verify(limiter, times(2)).send(any());
     }
 }
@@ -0,0 +1,164 @@
+package infrastructure.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RateLimiter}, run on a fake clock.
+ */
+class RateLimiterTest {
+
+    /** Mocked provider request. */
+    private RateLimiter.Request<String> request;
+
+    /** Sleeps requested by the limiter, in nanoseconds. */
+    private List<Long> sleeps;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        request = mock(RateLimiter.Request.class);
+        when(request.send()).thenReturn("ok");
+        sleeps = new ArrayList<>();
+    }
+
+    /**
+     * Verifies that a burst passes without waiting and later requests
+     * are paced at the configured rate.
+     */
+    @Test
+    void send_PacesRequestsBeyondBurst() throws Exception {
+        final RateLimiter limiter = limiter(2, 2, 0);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("ok", limiter.send(request));
+        }
+
+        verify(request, times(4)).send();
+        assertEquals(2, sleeps.size());
+        for (long nanos : sleeps) {
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(500), nanos);
+        }
+    }
+
+    /**
+     * Verifies that a throttled request is retried after a backoff.
+     */
+    @Test
+    void send_RetriesThrottledRequest() throws Exception {
+        when(request.send())
+                .thenThrow(new TranslationHttpException(429, -1, "slow"))
+                .thenReturn("ok");
+        final RateLimiter limiter = limiter(100, 10, 3);
+
+        assertEquals("ok", limiter.send(request));
+
+        verify(request, times(2)).send();
+        assertEquals(1, sleeps.size());
+        final long backoff = sleeps.get(0);
+        assertTrue(backoff >= TimeUnit.MILLISECONDS.toNanos(50)
+                && backoff <= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    /**
+     * Verifies that a Retry-After header sets the wait before the retry.
+     */
+    @Test
+    void send_HonoursRetryAfter() throws Exception {
+        when(request.send())
+                .thenThrow(new TranslationHttpException(503, 7, "busy"))
+                .thenReturn("ok");
+        final RateLimiter limiter = limiter(100, 10, 3);
+
+        limiter.send(request);
+
+        verify(request, times(2)).send();
+        assertEquals(List.of(TimeUnit.SECONDS.toNanos(7)), sleeps);
+    }
+
+    /**
+     * Verifies that a Retry-After longer than the maximum backoff delay
+     * is capped.
+     */
+    @Test
+    void send_CapsRetryAfter() throws Exception {
+        when(request.send())
+                .thenThrow(new TranslationHttpException(429, 3_600, "later"))
+                .thenReturn("ok");
+        final RateLimiter limiter = limiter(100, 10, 3);
+
+        limiter.send(request);
+
+        verify(request, times(2)).send();
+        assertEquals(List.of(TimeUnit.SECONDS.toNanos(10)), sleeps);
+    }
+
+    /**
+     * Verifies that the last error is rethrown once retries run out.
+     */
+    @Test
+    void send_GivesUpAfterMaxRetries() throws Exception {
+        final TranslationHttpException error =
+                new TranslationHttpException(429, -1, "slow down");
+        when(request.send()).thenThrow(error);
+        final RateLimiter limiter = limiter(100, 10, 2);
+
+        final TranslationHttpException thrown = assertThrows(
+                TranslationHttpException.class,
+                () -> limiter.send(request));
+
+        assertSame(error, thrown);
+        verify(request, times(3)).send();
+    }
+
+    /**
+     * Verifies that errors other than throttling are not retried.
+     */
+    @Test
+    void send_DoesNotRetryOtherErrors() throws Exception {
+        when(request.send())
+                .thenThrow(new TranslationHttpException(403, -1, "no"));
+        final RateLimiter limiter = limiter(100, 10, 3);
+
+        assertThrows(TranslationHttpException.class,
+                () -> limiter.send(request));
+
+        verify(request, times(1)).send();
+        assertTrue(sleeps.isEmpty());
+    }
+
+    /**
+     * Creates a limiter with a 100 ms base backoff, capped at 10 s, on a
+     * fake clock that advances only when the limiter sleeps.
+     *
+     * @param rate    requests per second
+     * @param burst   burst size
+     * @param retries retries allowed
+     * @return the limiter
+     */
+    private RateLimiter limiter(final double rate, final int burst,
+                                final int retries) {
+        final long[] clock = {0};
+        return new RateLimiter(rate, burst, retries, 100, 10_000) {
+            @Override
+            protected long nanoTime() {
+                return clock[0];
+            }
+
+            @Override
+            protected void sleepNanos(final long nanos) {
+                sleeps.add(nanos);
+                clock[0] += nanos;
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package infrastructure.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TranslationHttpClient} against a local server.
+ */
+class TranslationHttpClientTest {
+
+    /** Local server standing in for a provider. */
+    private HttpServer server;
+
+    /** Status the server answers with. */
+    private final AtomicInteger status = new AtomicInteger(200);
+
+    /** Client under test. */
+    private TranslationHttpClient client;
+
+    /** Endpoint of the local server. */
+    private URI uri;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/translate", exchange -> {
+            final String request = new String(
+                    exchange.getRequestBody().readAllBytes(),
+                    StandardCharsets.UTF_8);
+            final byte[] reply = ("echo:" + request + ":"
+                    + exchange.getRequestHeaders().getFirst("X-Test"))
+                    .getBytes(StandardCharsets.UTF_8);
+            if (status.get() == 429) {
+                exchange.getResponseHeaders().add("Retry-After", "7");
+            }
+            exchange.sendResponseHeaders(status.get(), reply.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(reply);
+            }
+        });
+        server.start();
+        uri = URI.create("http://127.0.0.1:"
+                + server.getAddress().getPort() + "/translate");
+        client = new TranslationHttpClient(HttpClient.newHttpClient());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Verifies that the body and headers are sent and the reply returned.
+     */
+    @Test
+    void post_ReturnsResponseBody() throws Exception {
+        final String body = client.post(uri, Map.of("X-Test", "yes"), "hi");
+
+        assertEquals("echo:hi:yes", body);
+    }
+
+    /**
+     * Verifies that an error status surfaces its code and Retry-After.
+     */
+    @Test
+    void post_ThrowsWithStatusAndRetryAfter() {
+        status.set(429);
+
+        final TranslationHttpException ex = assertThrows(
+                TranslationHttpException.class,
+                () -> client.post(uri, Map.of(), "x"));
+
+        assertEquals(429, ex.getStatusCode());
+        assertEquals(7, ex.getRetryAfterSeconds());
+    }
+}
@@ -0,0 +1,244 @@
+package infrastructure.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import application.usecase.TranslatePageUseCase;
+import domain.model.Page;
+import infrastructure.translation.TranslationScheduler.Priority;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TranslationScheduler}.
+ */
+class TranslationSchedulerTest {
+
+    /** Mocked translation use case. */
+    private TranslatePageUseCase translator;
+
+    /** Released to let the first translation finish. */
+    private CountDownLatch gate;
+
+    /** Pages in the order the translator received them. */
+    private List<Page> executed;
+
+    /** Pages in the order they were reported on the event thread. */
+    private List<Page> reported;
+
+    /** The scheduler under test. */
+    private TranslationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        translator = mock(TranslatePageUseCase.class);
+        gate = new CountDownLatch(1);
+        executed = new CopyOnWriteArrayList<>();
+        reported = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            executed.add(invocation.getArgument(0));
+            gate.await(2, TimeUnit.SECONDS);
+            return null;
+        }).when(translator).execute(any(Page.class));
+        scheduler = new TranslationScheduler(translator, reported::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Verifies that a visible page jumps ahead of queued prefetch work.
+     */
+    @Test
+    void submit_VisibleRunsBeforeQueuedPrefetch() throws Exception {
+        final Page blocker = page(1);
+        final Page ahead = page(2);
+        final Page visible = page(5);
+
+        scheduler.submit(blocker, Priority.PREFETCH);
+        verify(translator, timeout(1000)).execute(blocker);
+        scheduler.submit(ahead, Priority.PREFETCH);
+        scheduler.submit(visible, Priority.VISIBLE);
+        gate.countDown();
+
+        verify(translator, timeout(1000)).execute(ahead);
+        assertEquals(List.of(blocker, visible, ahead), executed);
+    }
+
+    /**
+     * Verifies that duplicate requests for a page translate it once and
+     * that a visible request upgrades a queued prefetch.
+     */
+    @Test
+    void submit_CoalescesAndUpgradesDuplicates() throws Exception {
+        final Page blocker = page(1);
+        final Page ahead = page(2);
+        final Page wanted = page(3);
+
+        scheduler.submit(blocker, Priority.PREFETCH);
+        verify(translator, timeout(1000)).execute(blocker);
+        scheduler.submit(ahead, Priority.PREFETCH);
+        scheduler.submit(wanted, Priority.PREFETCH);
+        scheduler.submit(wanted, Priority.VISIBLE);
+        scheduler.submit(wanted, Priority.PREFETCH);
+        gate.countDown();
+
+        verify(translator, timeout(1000)).execute(ahead);
+        assertEquals(List.of(blocker, wanted, ahead), executed);
+    }
+
+    /**
+     * Verifies that cancelled prefetch work is dropped while the running
+     * page and visible requests still complete.
+     */
+    @Test
+    void cancelPrefetch_DropsQueuedPrefetchOnly() throws Exception {
+        final Page blocker = page(1);
+        final Page ahead = page(2);
+        final Page visible = page(3);
+
+        scheduler.submit(blocker, Priority.PREFETCH);
+        verify(translator, timeout(1000)).execute(blocker);
+        scheduler.submit(ahead, Priority.PREFETCH);
+        scheduler.submit(visible, Priority.VISIBLE);
+        scheduler.cancelPrefetch();
+        assertFalse(scheduler.isPending(ahead));
+        assertTrue(scheduler.isPending(visible));
+        gate.countDown();
+
+        verify(translator, timeout(1000)).execute(visible);
+        drainEventQueue();
+        verify(translator, never()).execute(ahead);
+        assertEquals(List.of(blocker, visible), reported);
+    }
+
+    /**
+     * Verifies that translated pages are marked and reported on the
+     * event thread, and that translated pages are never queued.
+     */
+    @Test
+    void submit_ReportsOnEventThread() throws Exception {
+        gate.countDown();
+        final Page done = page(1);
+        done.translated();
+        final Page page = page(2);
+        final List<Boolean> onEdt = new CopyOnWriteArrayList<>();
+        scheduler.shutdown();
+        scheduler = new TranslationScheduler(translator, p -> {
+            onEdt.add(SwingUtilities.isEventDispatchThread());
+            reported.add(p);
+        });
+
+        scheduler.submit(done, Priority.VISIBLE);
+        scheduler.submit(page, Priority.VISIBLE);
+        verify(translator, timeout(1000)).execute(page);
+        drainEventQueue();
+
+        verify(translator, never()).execute(done);
+        assertTrue(page.isTranslated());
+        assertEquals(List.of(page), reported);
+        assertEquals(List.of(true), onEdt);
+    }
+
+    /**
+     * Verifies that a page finished on the worker but not yet reported
+     * is not queued again by a request in between.
+     */
+    @Test
+    void submit_BeforeReportDoesNotTranslateAgain() throws Exception {
+        gate.countDown();
+        final Page page = page(1);
+        final CountDownLatch eventThreadHeld = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        SwingUtilities.invokeLater(() -> {
+            eventThreadHeld.countDown();
+            try {
+                release.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(eventThreadHeld.await(1, TimeUnit.SECONDS));
+
+        scheduler.submit(page, Priority.VISIBLE);
+        verify(translator, timeout(1000)).execute(page);
+        Thread.sleep(50);
+        scheduler.submit(page, Priority.VISIBLE);
+        release.countDown();
+        drainEventQueue();
+        Thread.sleep(50);
+        SwingUtilities.invokeAndWait(() -> { });
+
+        verify(translator, times(1)).execute(page);
+        assertTrue(page.isTranslated());
+        assertEquals(List.of(page), reported);
+    }
+
+    /**
+     * Verifies that a page still translating at shutdown is neither
+     * marked translated nor reported.
+     */
+    @Test
+    void shutdown_DropsReportOfRunningPage() throws Exception {
+        final Page page = page(1);
+        final CountDownLatch returned = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            returned.countDown();
+            return null;
+        }).when(translator).execute(page);
+
+        scheduler.submit(page, Priority.VISIBLE);
+        verify(translator, timeout(1000)).execute(page);
+        scheduler.shutdown();
+        assertTrue(returned.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertFalse(page.isTranslated());
+        assertTrue(reported.isEmpty());
+    }
+
+    /**
+     * Waits until the worker is idle and pending event-thread callbacks
+     * have run.
+     *
+     * @throws Exception if waiting is interrupted
+     */
+    private void drainEventQueue() throws Exception {
+        final long deadline = System.currentTimeMillis() + 1000;
+        while (System.currentTimeMillis() < deadline && !idle()) {
+            Thread.sleep(10);
+        }
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    /**
+     * @return {@code true} if every executed page has been reported
+     */
+    private boolean idle() {
+        return reported.size() >= executed.size();
+    }
+
+    /**
+     * @param number the page number
+     * @return a new untranslated single-word page
+     */
+    private static Page page(final int number) {
+        return new Page(List.of("word" + number), number, 5);
+    }
+}
@@ -3,6 +3,12 @@ package infrastructure.translation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TransliterationHandlerTest {
@@ -68,6 +74,57 @@ class TransliterationHandlerTest {
         assertEquals("", result);
     }
 
+    @Test
+    void testForLanguage_PicksScriptRule() {
+        assertEquals("Cyrillic-Latin; Latin-ASCII",
+                TransliterationHandler.forLanguage("ru").getRule());
+        assertEquals("Han-Latin; Latin-ASCII",
+                TransliterationHandler.forLanguage("zh-hans").getRule());
+        assertEquals("Latin-ASCII",
+                TransliterationHandler.forLanguage("fr").getRule());
+        assertEquals("Any-Latin; Latin-ASCII",
+                TransliterationHandler.forLanguage("ja").getRule());
+    }
+
+    @Test
+    void testForLanguage_TransliteratesTargetScript() {
+        assertEquals("Privet mir",
+                TransliterationHandler.forLanguage("ru")
+                        .transliterate("Привет мир"));
+        assertEquals("ni hao",
+                TransliterationHandler.forLanguage("zh")
+                        .transliterate("你好"));
+        assertEquals("cafe",
+                TransliterationHandler.forLanguage("fr")
+                        .transliterate("café"));
+    }
+
+    @Test
+    void testForLanguage_FallsBackForOtherScripts() {
+        String result = TransliterationHandler.forLanguage("ru")
+                .transliterate("你好");
+        assertTrue(result.matches("[A-Za-z\\s]+"), result);
+    }
+
+    @Test
+    void testTransliterate_SharedAcrossThreads() throws Exception {
+        TransliterationHandler shared =
+                TransliterationHandler.forLanguage("ru");
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(pool.submit(
+                        () -> shared.transliterate("Привет")));
+            }
+            for (Future<String> result : results) {
+                assertEquals("Privet", result.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     void testTransliterate_ComplexScript() {
         String input = "علي"; // "Ali"
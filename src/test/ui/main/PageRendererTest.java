@@ -0,0 +1,85 @@
+package ui.main;
+
+import configuration.ConfigDataRetriever;
+import domain.model.Page;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PageRenderer}.
+ */
+class PageRendererTest {
+
+    @Test
+    void rendersWordsAsHtmlDocument() {
+        PageRenderer renderer = new PageRenderer();
+        Page page = new Page(List.of("one", "two"), 1, 5);
+
+        assertEquals("<html><body>one two</body></html>",
+                renderer.render(page));
+    }
+
+    @Test
+    void reusesRenderingUntilPageChanges() {
+        PageRenderer renderer = new PageRenderer();
+        Page page = new Page(List.of("one", "two"), 1, 5);
+
+        String first = renderer.render(page);
+        assertSame(first, renderer.render(page));
+
+        page.rewriteTranslatedContent(List.of("uno", "two"));
+        String changed = renderer.render(page);
+        assertEquals("<html><body>uno two</body></html>", changed);
+        assertSame(changed, renderer.render(page));
+    }
+
+    @Test
+    void highlightsTranslatedWordsAndEscapesText() {
+        ConfigDataRetriever.set("original_script", false);
+        PageRenderer renderer = new PageRenderer();
+        Page page = new Page(List.of("<cat>,", "a&b"), 1, 5);
+        page.applyTranslations(new String[] {"кот", null},
+                new String[] {"kot", null});
+
+        assertEquals("<html><body>&lt;<b><u>kot</u></b>&gt;, a&amp;b"
+                + "</body></html>", renderer.render(page));
+    }
+
+    @Test
+    void rerendersWhenOriginalScriptIsToggled() {
+        ConfigDataRetriever.set("original_script", false);
+        PageRenderer renderer = new PageRenderer();
+        Page page = new Page(List.of("cat"), 1, 5);
+        page.applyTranslations(new String[] {"кот"}, new String[] {"kot"});
+        int revision = page.getRevision();
+
+        assertEquals("<html><body><b><u>kot</u></b></body></html>",
+                renderer.render(page));
+        ConfigDataRetriever.set("original_script", true);
+        try {
+            assertEquals("<html><body><b><u>kot(кот)</u></b></body></html>",
+                    renderer.render(page));
+        } finally {
+            ConfigDataRetriever.set("original_script", false);
+        }
+        assertEquals(revision, page.getRevision());
+    }
+
+    @Test
+    void forgetsLeastRecentlyShownPages() {
+        PageRenderer renderer = new PageRenderer();
+        Page first = new Page(List.of("first"), 1, 5);
+        String html = renderer.render(first);
+
+        for (int i = 2; i <= PageRenderer.CACHED_PAGES + 1; i++) {
+            renderer.render(new Page(List.of("page" + i), i, 5));
+        }
+
+        String again = renderer.render(first);
+        assertEquals(html, again);
+        assertNotSame(html, again);
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import application.controller.SpeakController;
 import application.usecase.TranslatePageUseCase;
 import domain.model.Book;
+import domain.model.ListPageSource;
 import domain.model.Page;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import javax.swing.JButton;
 import javax.swing.SwingUtilities;
 import java.awt.Component;
 import java.awt.Container;
+import java.util.List;
 
 public class PageUITest {
 
@@ -32,20 +34,29 @@ public class PageUITest {
         page1 = mock(Page.class);
         when(page1.isTranslated()).thenReturn(true);
         when(page1.getContent()).thenReturn("Page 1 content");
+        when(page1.getPageNumber()).thenReturn(1);
 
         page2 = mock(Page.class);
         when(page2.isTranslated()).thenReturn(false);
         when(page2.getContent()).thenReturn("Page 2 content");
+        when(page2.getPageNumber()).thenReturn(2);
 
         page3 = mock(Page.class);
         when(page3.isTranslated()).thenReturn(false);
         when(page3.getContent()).thenReturn("Page 3 content");
+        when(page3.getPageNumber()).thenReturn(3);
 
         book = mock(Book.class);
         when(book.getTitle()).thenReturn("Test Book");
         when(book.getTotalPages()).thenReturn(3);
         when(book.getCurrentPageNumber()).thenReturn(1);
         when(book.getCurrentPage()).thenReturn(page1);
+        when(book.getPage(1)).thenReturn(page1);
+        when(book.getPage(2)).thenReturn(page2);
+        when(book.getPage(3)).thenReturn(page3);
+        final ListPageSource pages =
+                new ListPageSource(List.of(page1, page2, page3));
+        when(book.getPageSource()).thenReturn(pages);
 
         doAnswer(invocation -> {
             when(book.getCurrentPageNumber()).thenReturn(2);
@@ -5,9 +5,8 @@ import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.mockito.Mockito.*;
 
 import java.awt.GraphicsEnvironment;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.JButton;
 import javax.swing.JPanel;
@@ -23,8 +22,7 @@ import org.junit.jupiter.api.Test;
  * Tests for {@link SpeakUI}.
  *
  * <p>Covers:
- * - HTML stripping and parentheses extraction via reflection.
- * - Grid population rules: dedupe, punctuation strip, skip empties.
+ * - Grid population rules: dedupe, skip untranslated words.
  * - Click calls SpeakController with lang code.
  */
 class SpeakUITest {
@@ -46,52 +44,18 @@ class SpeakUITest {
     }
 
     @Test
-    void privateHelpers_WorkViaReflection()
-            throws Exception {
+    void populate_AddsButtons_Dedupes_AndSpeaksOnClick() {
         assumeFalse(GraphicsEnvironment.isHeadless(),
                 "No JFrame in headless.");
 
-        final Page page = mock(Page.class);
-        when(page.getWords()).thenReturn(List.of("x"));
-
-        final SpeakController sc = mock(SpeakController.class);
-        ui = new SpeakUI(page, sc, true);
-
-        final Method strip =
-                SpeakUI.class.getDeclaredMethod("stripHtml", String.class);
-        strip.setAccessible(true);
-        final String s = (String) strip.invoke(ui,
-                "   <b>hi</b>&nbsp;there  ");
-        assertEquals("hi there", s);
-
-        final Method paren =
-                SpeakUI.class.getDeclaredMethod(
-                        "extractInsideParentheses", String.class);
-        paren.setAccessible(true);
-        assertEquals("world", paren.invoke(ui, "hello (world) !"));
-        assertEquals("", paren.invoke(ui, "no parens here"));
-    }
-
-    @Test
-    void populate_AddsButtons_DedupesAndCleans_AndSpeaksOnClick()
-            throws NoSuchMethodException, InvocationTargetException,
-            IllegalAccessException {
-        assumeFalse(GraphicsEnvironment.isHeadless(),
-                "No JFrame in headless.");
-
-        // Preserve original => words look like "orig (trans)"
         ConfigDataRetriever.set("original_script", true);
         ConfigDataRetriever.saveConfig();
 
-        final Page page = mock(Page.class);
-        when(page.getWords()).thenReturn(List.of(
-                "<i>bonjour</i> (hello!)",
-                "salut (hello!)",     // duplicate translated
-                "merci (thanks.)",
-                "badformat",          // skipped: no parens
-                "empty ()",           // empty after clean -> skip
-                "punct (wow!!!)"      // cleans punctuation
-        ));
+        final Page page = new Page(List.of(
+                "bonjour", "salut", "merci", "rien", "encore"), 1, 10);
+        page.applyTranslations(
+                new String[] {"hello", "hello", "thanks", null, "wow"},
+                new String[] {"hello", "hello", "thanks", null, "wow"});
 
         final SpeakController sc = mock(SpeakController.class);
 
@@ -102,7 +66,7 @@ class SpeakUITest {
                 ui.getContentPane().getComponent(0))
                 .getViewport().getView();
 
-        // We expect unique translated words: hello, thanks, wow
+        // One button per distinct translation: hello, thanks, wow
         int buttonCount = 0;
         for (var comp : grid.getComponents()) {
             if (comp instanceof JButton) {
@@ -116,4 +80,31 @@ class SpeakUITest {
         first.doClick();
         verify(sc, atLeastOnce()).speakWord(anyString(), eq("en-US"));
     }
+
+    @Test
+    void spokenWords_ListsPerWordTranslationsOnce() {
+        final Page page = new Page(List.of("bonjour", "salut", "rien"),
+                1, 10);
+        page.applyTranslations(new String[] {"привет", "привет", null},
+                new String[] {"privet", "privet", null});
+
+        assertEquals(Map.of("привет", "privet"),
+                SpeakUI.spokenWords(page, false));
+        assertEquals(Map.of("привет", "привет"),
+                SpeakUI.spokenWords(page, true));
+    }
+
+    @Test
+    void spokenWords_ParsesPagesRewrittenAsAWhole() {
+        final Page page = new Page(List.of("hello,", "my", "friend."),
+                1, 10);
+        page.rewriteTranslatedContent(List.of(
+                "<b><u>privet(привет)</u></b>,", "my",
+                "<b><u>drug</u></b>."));
+
+        assertEquals(List.of("привет", "drug"),
+                List.copyOf(SpeakUI.spokenWords(page, true).keySet()));
+        assertEquals("privet", SpeakUI.spokenWords(page, false)
+                .get("привет"));
+    }
 }